@@ -20,6 +20,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.audit.AuditEvent;
 import org.springframework.boot.actuate.audit.AuditEventRepository;
 import org.springframework.boot.actuate.audit.InMemoryAuditEventRepository;
+import org.springframework.boot.actuate.audit.MappedFileAuditEventRepository;
 import org.springframework.boot.actuate.audit.listener.AbstractAuditListener;
 import org.springframework.boot.actuate.audit.listener.AuditListener;
 import org.springframework.boot.actuate.security.AbstractAuthenticationAuditListener;
@@ -29,6 +30,8 @@ import org.springframework.boot.actuate.security.AuthorizationAuditListener;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -69,6 +72,23 @@ public class AuditAutoConfiguration {
 		return new AuthorizationAuditListener();
 	}
 
+	@Configuration
+	@ConditionalOnMissingBean(AuditEventRepository.class)
+	@ConditionalOnProperty(prefix = "management.auditevents.mapped-file", name = "directory")
+	@EnableConfigurationProperties(AuditEventsProperties.class)
+	protected static class MappedFileAuditEventRepositoryConfiguration {
+
+		@Bean
+		public MappedFileAuditEventRepository auditEventRepository(
+				AuditEventsProperties properties) {
+			AuditEventsProperties.MappedFile mappedFile = properties.getMappedFile();
+			return new MappedFileAuditEventRepository(mappedFile.getDirectory(),
+					Math.toIntExact(mappedFile.getSegmentSize().toBytes()),
+					mappedFile.getMaxSegments());
+		}
+
+	}
+
 	@Configuration
 	@ConditionalOnMissingBean(AuditEventRepository.class)
 	protected static class AuditEventRepositoryConfiguration {
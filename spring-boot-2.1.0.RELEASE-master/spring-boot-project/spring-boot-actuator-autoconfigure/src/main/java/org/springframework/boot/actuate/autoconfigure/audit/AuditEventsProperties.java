@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.actuate.autoconfigure.audit;
+
+import java.io.File;
+
+import org.springframework.boot.actuate.audit.MappedFileAuditEventRepository;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the auto-configured audit event repository.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+@ConfigurationProperties(prefix = "management.auditevents")
+public class AuditEventsProperties {
+
+	private final MappedFile mappedFile = new MappedFile();
+
+	public MappedFile getMappedFile() {
+		return this.mappedFile;
+	}
+
+	/**
+	 * {@link MappedFileAuditEventRepository} settings.
+	 */
+	public static class MappedFile {
+
+		/**
+		 * Directory in which audit events are stored in memory-mapped segment files.
+		 * When set, events are stored on disk rather than in memory. Existing segment
+		 * files in the directory are deleted on startup.
+		 */
+		private File directory;
+
+		/**
+		 * Size of each segment file.
+		 */
+		private DataSize segmentSize = DataSize.ofMegabytes(1);
+
+		/**
+		 * Maximum number of segment files to retain before the oldest is deleted.
+		 */
+		private int maxSegments = 8;
+
+		public File getDirectory() {
+			return this.directory;
+		}
+
+		public void setDirectory(File directory) {
+			this.directory = directory;
+		}
+
+		public DataSize getSegmentSize() {
+			return this.segmentSize;
+		}
+
+		public void setSegmentSize(DataSize segmentSize) {
+			this.segmentSize = segmentSize;
+		}
+
+		public int getMaxSegments() {
+			return this.maxSegments;
+		}
+
+		public void setMaxSegments(int maxSegments) {
+			this.maxSegments = maxSegments;
+		}
+
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
 import org.springframework.boot.actuate.health.CompositeHealthIndicator;
 import org.springframework.boot.actuate.health.HealthAggregator;
@@ -25,6 +29,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * Configuration for {@link HealthEndpoint}.
@@ -39,9 +44,33 @@ class HealthEndpointConfiguration {
 	@ConditionalOnMissingBean
 	@ConditionalOnEnabledEndpoint
 	public HealthEndpoint healthEndpoint(HealthAggregator healthAggregator,
-			HealthIndicatorRegistry registry) {
-		return new HealthEndpoint(
-				new CompositeHealthIndicator(healthAggregator, registry));
+			HealthIndicatorRegistry registry, HealthEndpointProperties properties) {
+		CompositeHealthIndicator healthIndicator = new CompositeHealthIndicator(
+				healthAggregator, registry);
+		HealthEndpointProperties.Aggregation aggregation = properties.getAggregation();
+		if (aggregation.isParallel()) {
+			healthIndicator.concurrentStrategy(createExecutor(aggregation.getThreads(),
+					aggregation.getQueueCapacity()));
+			if (aggregation.getTimeout() != null) {
+				healthIndicator.timeoutStrategy(aggregation.getTimeout().toMillis(),
+						null);
+			}
+		}
+		if (aggregation.getTimeToLive() != null) {
+			healthIndicator.cacheStrategy(aggregation.getTimeToLive().toMillis());
+		}
+		return new HealthEndpoint(healthIndicator);
+	}
+
+	private ThreadPoolExecutor createExecutor(int threads, int queueCapacity) {
+		// Daemon threads that time out when idle so that no shutdown is required
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+				"health-");
+		threadFactory.setDaemon(true);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60,
+				TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
 	}
 
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -42,6 +43,8 @@ public class HealthEndpointProperties {
 	 */
 	private Set<String> roles = new HashSet<>();
 
+	private final Aggregation aggregation = new Aggregation();
+
 	public ShowDetails getShowDetails() {
 		return this.showDetails;
 	}
@@ -58,4 +61,84 @@ public class HealthEndpointProperties {
 		this.roles = roles;
 	}
 
+	public Aggregation getAggregation() {
+		return this.aggregation;
+	}
+
+	/**
+	 * Aggregation of the health of the individual health indicators.
+	 */
+	public static class Aggregation {
+
+		/**
+		 * Whether to invoke health indicators concurrently.
+		 */
+		private boolean parallel;
+
+		/**
+		 * Maximum number of threads used to invoke health indicators concurrently.
+		 */
+		private int threads = 4;
+
+		/**
+		 * Maximum number of health indicator invocations waiting for a thread. Health
+		 * indicators that cannot be queued are reported as DOWN.
+		 */
+		private int queueCapacity = 100;
+
+		/**
+		 * Maximum time to wait for health indicators invoked concurrently. Indicators
+		 * that take longer are cancelled and reported as DOWN, or with their last known,
+		 * stale, health if it has been cached.
+		 */
+		private Duration timeout;
+
+		/**
+		 * Time during which the health of an individual health indicator is cached and
+		 * reused.
+		 */
+		private Duration timeToLive;
+
+		public boolean isParallel() {
+			return this.parallel;
+		}
+
+		public void setParallel(boolean parallel) {
+			this.parallel = parallel;
+		}
+
+		public int getThreads() {
+			return this.threads;
+		}
+
+		public void setThreads(int threads) {
+			this.threads = threads;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
 }
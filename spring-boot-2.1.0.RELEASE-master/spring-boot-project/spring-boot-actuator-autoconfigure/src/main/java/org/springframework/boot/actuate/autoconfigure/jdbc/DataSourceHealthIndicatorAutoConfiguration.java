@@ -29,6 +29,7 @@ import org.springframework.boot.actuate.autoconfigure.health.CompositeHealthIndi
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.actuate.autoconfigure.health.HealthIndicatorAutoConfiguration;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.ScheduledHealthIndicator;
 import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -36,11 +37,15 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.metadata.CompositeDataSourcePoolMetadataProvider;
 import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadata;
 import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
@@ -62,6 +67,7 @@ import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 @ConditionalOnEnabledHealthIndicator("db")
 @AutoConfigureBefore(HealthIndicatorAutoConfiguration.class)
 @AutoConfigureAfter(DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties(DataSourceHealthIndicatorProperties.class)
 public class DataSourceHealthIndicatorAutoConfiguration extends
 		CompositeHealthIndicatorConfiguration<DataSourceHealthIndicator, DataSource>
 		implements InitializingBean {
@@ -102,10 +108,20 @@ public class DataSourceHealthIndicatorAutoConfiguration extends
 
 	@Bean
 	@ConditionalOnMissingBean(name = "dbHealthIndicator")
+	@Conditional(RefreshIntervalUnavailableCondition.class)
 	public HealthIndicator dbHealthIndicator() {
 		return createHealthIndicator(this.dataSources);
 	}
 
+	@Bean("dbHealthIndicator")
+	@ConditionalOnMissingBean(name = "dbHealthIndicator")
+	@ConditionalOnProperty(prefix = "management.health.db", name = "refresh-interval")
+	public ScheduledHealthIndicator scheduledDbHealthIndicator(
+			DataSourceHealthIndicatorProperties properties) {
+		return new ScheduledHealthIndicator(createHealthIndicator(this.dataSources),
+				properties.getRefreshInterval());
+	}
+
 	@Override
 	protected DataSourceHealthIndicator createHealthIndicator(DataSource source) {
 		return new DataSourceHealthIndicator(source, getValidationQuery(source));
@@ -117,4 +133,18 @@ public class DataSourceHealthIndicatorAutoConfiguration extends
 		return (poolMetadata != null) ? poolMetadata.getValidationQuery() : null;
 	}
 
+	private static class RefreshIntervalUnavailableCondition
+			extends NoneNestedConditions {
+
+		RefreshIntervalUnavailableCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty(prefix = "management.health.db", name = "refresh-interval")
+		static class RefreshIntervalAvailable {
+
+		}
+
+	}
+
 }
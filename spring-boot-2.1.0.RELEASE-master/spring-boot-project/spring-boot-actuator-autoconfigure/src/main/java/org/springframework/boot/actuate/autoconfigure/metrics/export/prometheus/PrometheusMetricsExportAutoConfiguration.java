@@ -40,6 +40,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -88,8 +89,15 @@ public class PrometheusMetricsExportAutoConfiguration {
 		@ConditionalOnEnabledEndpoint
 		@ConditionalOnMissingBean
 		public PrometheusScrapeEndpoint prometheusEndpoint(
-				CollectorRegistry collectorRegistry) {
-			return new PrometheusScrapeEndpoint(collectorRegistry);
+				CollectorRegistry collectorRegistry, Environment environment) {
+			return new PrometheusScrapeEndpoint(collectorRegistry, isCached(environment));
+		}
+
+		private boolean isCached(Environment environment) {
+			return Binder.get(environment)
+					.bind("management.endpoint.prometheus.cache.time-to-live",
+							Duration.class)
+					.map((timeToLive) -> timeToLive.toMillis() > 0).orElse(false);
 		}
 
 	}
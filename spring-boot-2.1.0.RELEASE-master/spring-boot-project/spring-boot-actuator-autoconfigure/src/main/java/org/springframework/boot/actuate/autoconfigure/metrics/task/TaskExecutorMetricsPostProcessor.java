@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.task.TaskExecutorMetrics;
+import org.springframework.boot.actuate.metrics.task.VirtualThreadTaskExecutorMetrics;
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * {@link BeanPostProcessor} that binds {@link TaskExecutorMetrics} to each
+ * {@link ThreadPoolTaskExecutor} bean, and {@link VirtualThreadTaskExecutorMetrics} to
+ * each {@link VirtualThreadTaskExecutor} bean, once it has been initialized, so that lazy
+ * task executors are only instrumented when they are first used.
+ *
+ * @author agent
+ */
+class TaskExecutorMetricsPostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	TaskExecutorMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName)
+			throws BeansException {
+		if (bean instanceof ThreadPoolTaskExecutor) {
+			new TaskExecutorMetrics((ThreadPoolTaskExecutor) bean, beanName,
+					Collections.emptyList()).bindTo(this.meterRegistry.getObject());
+		}
+		else if (bean instanceof VirtualThreadTaskExecutor) {
+			new VirtualThreadTaskExecutorMetrics((VirtualThreadTaskExecutor) bean,
+					beanName, Collections.emptyList())
+							.bindTo(this.meterRegistry.getObject());
+		}
+		return bean;
+	}
+
+}
@@ -18,11 +18,15 @@ package org.springframework.boot.actuate.autoconfigure.system;
 
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.actuate.autoconfigure.health.HealthIndicatorAutoConfiguration;
+import org.springframework.boot.actuate.health.ScheduledHealthIndicator;
 import org.springframework.boot.actuate.system.DiskSpaceHealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -40,15 +44,40 @@ public class DiskSpaceHealthIndicatorAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean(name = "diskSpaceHealthIndicator")
+	@Conditional(RefreshIntervalUnavailableCondition.class)
 	public DiskSpaceHealthIndicator diskSpaceHealthIndicator(
 			DiskSpaceHealthIndicatorProperties properties) {
 		return new DiskSpaceHealthIndicator(properties.getPath(),
 				properties.getThreshold());
 	}
 
+	@Bean("diskSpaceHealthIndicator")
+	@ConditionalOnMissingBean(name = "diskSpaceHealthIndicator")
+	@ConditionalOnProperty(prefix = "management.health.diskspace", name = "refresh-interval")
+	public ScheduledHealthIndicator scheduledDiskSpaceHealthIndicator(
+			DiskSpaceHealthIndicatorProperties properties) {
+		return new ScheduledHealthIndicator(new DiskSpaceHealthIndicator(
+				properties.getPath(), properties.getThreshold()),
+				properties.getRefreshInterval());
+	}
+
 	@Bean
 	public DiskSpaceHealthIndicatorProperties diskSpaceHealthIndicatorProperties() {
 		return new DiskSpaceHealthIndicatorProperties();
 	}
 
+	private static class RefreshIntervalUnavailableCondition
+			extends NoneNestedConditions {
+
+		RefreshIntervalUnavailableCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty(prefix = "management.health.diskspace", name = "refresh-interval")
+		static class RefreshIntervalAvailable {
+
+		}
+
+	}
+
 }
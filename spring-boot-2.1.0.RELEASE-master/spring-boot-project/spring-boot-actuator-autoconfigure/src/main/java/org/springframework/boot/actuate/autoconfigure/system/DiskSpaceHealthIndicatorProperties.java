@@ -17,6 +17,7 @@
 package org.springframework.boot.actuate.autoconfigure.system;
 
 import java.io.File;
+import java.time.Duration;
 
 import org.springframework.boot.actuate.system.DiskSpaceHealthIndicator;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -43,6 +44,12 @@ public class DiskSpaceHealthIndicatorProperties {
 	 */
 	private DataSize threshold = DataSize.ofMegabytes(10);
 
+	/**
+	 * Interval at which the available disk space is refreshed in the background. When
+	 * not set, the disk space is computed on each health check.
+	 */
+	private Duration refreshInterval;
+
 	public File getPath() {
 		return this.path;
 	}
@@ -63,4 +70,12 @@ public class DiskSpaceHealthIndicatorProperties {
 		this.threshold = threshold;
 	}
 
+	public Duration getRefreshInterval() {
+		return this.refreshInterval;
+	}
+
+	public void setRefreshInterval(Duration refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+
 }
@@ -16,8 +16,10 @@
 
 package org.springframework.boot.actuate.autoconfigure.trace.http;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.trace.http.InMemoryHttpTraceRepository;
 import org.springframework.boot.actuate.web.trace.reactive.HttpTraceWebFilter;
 import org.springframework.boot.actuate.web.trace.servlet.HttpTraceFilter;
@@ -44,8 +46,11 @@ public class HttpTraceAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean(HttpTraceRepository.class)
-	public InMemoryHttpTraceRepository traceRepository() {
-		return new InMemoryHttpTraceRepository();
+	public InMemoryHttpTraceRepository traceRepository(
+			HttpTraceProperties traceProperties) {
+		InMemoryHttpTraceRepository repository = new InMemoryHttpTraceRepository();
+		repository.setCapacity(traceProperties.getCapacity());
+		return repository;
 	}
 
 	@Bean
@@ -54,6 +59,15 @@ public class HttpTraceAutoConfiguration {
 		return new HttpExchangeTracer(traceProperties.getInclude());
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "management.trace.http.sampling", name = "rate")
+	public HttpTraceSampler httpTraceSampler(HttpTraceProperties traceProperties) {
+		HttpTraceProperties.Sampling sampling = traceProperties.getSampling();
+		return new HttpTraceSampler(sampling.getMode(), sampling.getRate(),
+				sampling.getSlowThreshold());
+	}
+
 	@Configuration
 	@ConditionalOnWebApplication(type = Type.SERVLET)
 	static class ServletTraceFilterConfiguration {
@@ -61,8 +75,10 @@ public class HttpTraceAutoConfiguration {
 		@Bean
 		@ConditionalOnMissingBean
 		public HttpTraceFilter httpTraceFilter(HttpTraceRepository repository,
-				HttpExchangeTracer tracer) {
-			return new HttpTraceFilter(repository, tracer);
+				HttpExchangeTracer tracer, ObjectProvider<HttpTraceSampler> sampler) {
+			HttpTraceFilter filter = new HttpTraceFilter(repository, tracer);
+			filter.setSampler(sampler.getIfAvailable());
+			return filter;
 		}
 
 	}
@@ -74,9 +90,12 @@ public class HttpTraceAutoConfiguration {
 		@Bean
 		@ConditionalOnMissingBean
 		public HttpTraceWebFilter httpTraceWebFilter(HttpTraceRepository repository,
-				HttpExchangeTracer tracer, HttpTraceProperties traceProperties) {
-			return new HttpTraceWebFilter(repository, tracer,
+				HttpExchangeTracer tracer, HttpTraceProperties traceProperties,
+				ObjectProvider<HttpTraceSampler> sampler) {
+			HttpTraceWebFilter filter = new HttpTraceWebFilter(repository, tracer,
 					traceProperties.getInclude());
+			filter.setSampler(sampler.getIfAvailable());
+			return filter;
 		}
 
 	}
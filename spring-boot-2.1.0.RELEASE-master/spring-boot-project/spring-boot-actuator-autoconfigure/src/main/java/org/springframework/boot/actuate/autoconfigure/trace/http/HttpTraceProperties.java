@@ -16,10 +16,12 @@
 
 package org.springframework.boot.actuate.autoconfigure.trace.http;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.springframework.boot.actuate.trace.http.Include;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -42,6 +44,13 @@ public class HttpTraceProperties {
 	 */
 	private Set<Include> include = new HashSet<>(Include.defaultIncludes());
 
+	/**
+	 * Maximum number of traces kept by the auto-configured in-memory repository.
+	 */
+	private int capacity = 100;
+
+	private final Sampling sampling = new Sampling();
+
 	public Set<Include> getInclude() {
 		return this.include;
 	}
@@ -50,4 +59,66 @@ public class HttpTraceProperties {
 		this.include = include;
 	}
 
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public Sampling getSampling() {
+		return this.sampling;
+	}
+
+	/**
+	 * Sampling of the traced exchanges.
+	 */
+	public static class Sampling {
+
+		/**
+		 * Sampling mode. Head-based sampling decides whether to trace an exchange when
+		 * its request is received. Tail-based sampling traces every exchange and always
+		 * records server errors and slow exchanges.
+		 */
+		private HttpTraceSampler.Mode mode = HttpTraceSampler.Mode.HEAD;
+
+		/**
+		 * Fraction of exchanges that are sampled, between 0.0 and 1.0. When not set,
+		 * every exchange is traced.
+		 */
+		private Double rate;
+
+		/**
+		 * Time taken above which exchanges are always recorded when using tail-based
+		 * sampling.
+		 */
+		private Duration slowThreshold;
+
+		public HttpTraceSampler.Mode getMode() {
+			return this.mode;
+		}
+
+		public void setMode(HttpTraceSampler.Mode mode) {
+			this.mode = mode;
+		}
+
+		public Double getRate() {
+			return this.rate;
+		}
+
+		public void setRate(Double rate) {
+			this.rate = rate;
+		}
+
+		public Duration getSlowThreshold() {
+			return this.slowThreshold;
+		}
+
+		public void setSlowThreshold(Duration slowThreshold) {
+			this.slowThreshold = slowThreshold;
+		}
+
+	}
+
 }
@@ -16,16 +16,20 @@
 
 package org.springframework.boot.actuate.autoconfigure.audit;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.springframework.boot.actuate.audit.AuditEvent;
 import org.springframework.boot.actuate.audit.AuditEventRepository;
 import org.springframework.boot.actuate.audit.InMemoryAuditEventRepository;
+import org.springframework.boot.actuate.audit.MappedFileAuditEventRepository;
 import org.springframework.boot.actuate.audit.listener.AbstractAuditListener;
 import org.springframework.boot.actuate.security.AbstractAuthenticationAuditListener;
 import org.springframework.boot.actuate.security.AbstractAuthorizationAuditListener;
 import org.springframework.boot.actuate.security.AuthenticationAuditListener;
 import org.springframework.boot.actuate.security.AuthorizationAuditListener;
+import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -43,6 +47,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class AuditAutoConfigurationTests {
 
+	@Rule
+	public final TemporaryFolder temp = new TemporaryFolder();
+
 	private AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
 
 	@Test
@@ -53,6 +60,41 @@ public class AuditAutoConfigurationTests {
 		assertThat(this.context.getBean(AuthorizationAuditListener.class)).isNotNull();
 	}
 
+	@Test
+	public void defaultAuditEventRepositoryIsInMemory() {
+		registerAndRefresh(AuditAutoConfiguration.class);
+		assertThat(this.context.getBean(AuditEventRepository.class))
+				.isInstanceOf(InMemoryAuditEventRepository.class);
+	}
+
+	@Test
+	public void mappedFileAuditEventRepositoryWhenDirectoryIsSet() throws Exception {
+		TestPropertyValues.of(
+				"management.auditevents.mapped-file.directory="
+						+ this.temp.newFolder().getAbsolutePath(),
+				"management.auditevents.mapped-file.segment-size=64KB")
+				.applyTo(this.context);
+		registerAndRefresh(AuditAutoConfiguration.class);
+		try {
+			assertThat(this.context.getBean(AuditEventRepository.class))
+					.isInstanceOf(MappedFileAuditEventRepository.class);
+		}
+		finally {
+			this.context.close();
+		}
+	}
+
+	@Test
+	public void mappedFileAuditEventRepositoryBacksOffFromOwnAuditEventRepository()
+			throws Exception {
+		TestPropertyValues.of("management.auditevents.mapped-file.directory="
+				+ this.temp.newFolder().getAbsolutePath()).applyTo(this.context);
+		registerAndRefresh(CustomAuditEventRepositoryConfiguration.class,
+				AuditAutoConfiguration.class);
+		assertThat(this.context.getBean(AuditEventRepository.class))
+				.isInstanceOf(TestAuditEventRepository.class);
+	}
+
 	@Test
 	public void ownAuditEventRepository() {
 		registerAndRefresh(CustomAuditEventRepositoryConfiguration.class,
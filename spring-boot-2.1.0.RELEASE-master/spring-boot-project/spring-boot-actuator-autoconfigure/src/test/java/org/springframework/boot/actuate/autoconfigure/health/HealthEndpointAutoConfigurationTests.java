@@ -102,6 +102,26 @@ public class HealthEndpointAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void healthEndpointWithParallelAggregationAndTimeToLive() {
+		this.contextRunner
+				.withPropertyValues("management.endpoint.health.show-details=always",
+						"management.endpoint.health.aggregation.parallel=true",
+						"management.endpoint.health.aggregation.timeout=10s",
+						"management.endpoint.health.aggregation.time-to-live=1m")
+				.withUserConfiguration(HealthIndicatorConfiguration.class)
+				.run((context) -> {
+					HealthIndicator indicator = context.getBean("simpleHealthIndicator",
+							HealthIndicator.class);
+					HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+					endpoint.health();
+					Health health = endpoint.health();
+					assertThat(health.getStatus()).isEqualTo(Status.UP);
+					assertThat(health.getDetails()).containsOnlyKeys("simple");
+					verify(indicator, times(1)).health();
+				});
+	}
+
 	@Configuration
 	static class HealthIndicatorConfiguration {
 
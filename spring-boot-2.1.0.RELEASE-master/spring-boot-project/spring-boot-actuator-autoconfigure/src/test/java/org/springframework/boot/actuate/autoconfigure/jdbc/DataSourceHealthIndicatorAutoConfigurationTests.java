@@ -24,6 +24,8 @@ import org.springframework.boot.actuate.autoconfigure.health.HealthIndicatorAuto
 import org.springframework.boot.actuate.health.ApplicationHealthIndicator;
 import org.springframework.boot.actuate.health.CompositeHealthIndicator;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.ScheduledHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
@@ -99,6 +101,19 @@ public class DataSourceHealthIndicatorAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void runWithRefreshIntervalShouldCreateScheduledIndicator() {
+		this.contextRunner.withPropertyValues("management.health.db.refresh-interval=1m")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(ScheduledHealthIndicator.class)
+							.hasBean("dbHealthIndicator")
+							.doesNotHaveBean(DataSourceHealthIndicator.class);
+					HealthIndicator indicator = context
+							.getBean(ScheduledHealthIndicator.class);
+					assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+				});
+	}
+
 	@Test
 	public void runWhenDisabledShouldNotCreateIndicator() {
 		this.contextRunner.withUserConfiguration(EmbeddedDataSourceConfiguration.class)
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.actuate.autoconfigure.metrics.export.prometheus;
 
+import java.io.IOException;
+
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
@@ -30,6 +32,8 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -119,6 +123,30 @@ public class PrometheusMetricsExportAutoConfigurationTests {
 						.doesNotHaveBean(PrometheusScrapeEndpoint.class));
 	}
 
+	@Test
+	public void scrapeEndpointRetainsOutputWhenCached() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(ManagementContextAutoConfiguration.class))
+				.withPropertyValues(
+						"management.endpoint.prometheus.cache.time-to-live=10s")
+				.withUserConfiguration(BaseConfiguration.class)
+				.run((context) -> assertThat(scrapeLength(context
+						.getBean(PrometheusScrapeEndpoint.class).scrape(null)))
+								.isGreaterThan(0));
+	}
+
+	@Test
+	public void scrapeEndpointDoesNotRetainOutputWhenNotCached() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(ManagementContextAutoConfiguration.class))
+				.withUserConfiguration(BaseConfiguration.class)
+				.run((context) -> assertThat(scrapeLength(context
+						.getBean(PrometheusScrapeEndpoint.class).scrape(null)))
+								.isEqualTo(-1));
+	}
+
 	@Test
 	public void allowsCustomScrapeEndpointToBeUsed() {
 		this.contextRunner
@@ -141,6 +169,11 @@ public class PrometheusMetricsExportAutoConfigurationTests {
 						.hasSingleBean(PrometheusPushGatewayManager.class));
 	}
 
+	private long scrapeLength(Resource scrape) throws IOException {
+		StreamUtils.drain(scrape.getInputStream());
+		return scrape.contentLength();
+	}
+
 	@Configuration
 	static class BaseConfiguration {
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TaskExecutorMetricsAutoConfiguration}.
+ *
+ * @author agent
+ */
+public class TaskExecutorMetricsAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.with(MetricsRun.simple())
+			.withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class,
+					TaskExecutorMetricsAutoConfiguration.class));
+
+	@Test
+	public void applicationTaskExecutorIsInstrumentedWhenUsed() {
+		this.contextRunner.run((context) -> {
+			MeterRegistry registry = context.getBean(MeterRegistry.class);
+			assertThat(registry.find("executor.pool.size").meter()).isNull();
+			context.getBean("applicationTaskExecutor");
+			assertThat(registry.get("executor.pool.size")
+					.tags("name", "applicationTaskExecutor").gauge()).isNotNull();
+		});
+	}
+
+	@Test
+	public void userTaskExecutorIsInstrumented() {
+		this.contextRunner.withUserConfiguration(CustomTaskExecutorConfig.class)
+				.run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("executor.active")
+							.tags("name", "customTaskExecutor").gauge()).isNotNull();
+				});
+	}
+
+	@Test
+	public void autoConfigurationBacksOffWithoutMeterRegistry() {
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(
+						TaskExecutorMetricsAutoConfiguration.class))
+				.run((context) -> assertThat(context)
+						.doesNotHaveBean(TaskExecutorMetricsPostProcessor.class));
+	}
+
+	@Configuration
+	static class CustomTaskExecutorConfig {
+
+		@Bean
+		public ThreadPoolTaskExecutor customTaskExecutor() {
+			return new ThreadPoolTaskExecutor();
+		}
+
+	}
+
+}
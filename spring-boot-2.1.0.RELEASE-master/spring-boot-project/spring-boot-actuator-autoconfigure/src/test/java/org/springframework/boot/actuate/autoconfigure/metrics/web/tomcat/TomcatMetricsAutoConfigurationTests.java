@@ -21,6 +21,8 @@ import java.util.Collections;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.tomcat.TomcatMetrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
 import org.junit.Test;
 
 import org.springframework.boot.SpringApplication;
@@ -29,6 +31,7 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
 import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
@@ -73,6 +76,29 @@ public class TomcatMetricsAutoConfigurationTests {
 						});
 	}
 
+	@Test
+	public void autoConfiguresVirtualThreadMetricsForEachConnector() {
+		new WebApplicationContextRunner(
+				AnnotationConfigServletWebServerApplicationContext::new)
+						.withConfiguration(AutoConfigurations.of(
+								TomcatMetricsAutoConfiguration.class,
+								ServletWebServerFactoryAutoConfiguration.class))
+						.withUserConfiguration(
+								VirtualThreadServletWebServerConfiguration.class,
+								MeterRegistryConfiguration.class)
+						.run((context) -> {
+							context.publishEvent(
+									new ApplicationStartedEvent(new SpringApplication(),
+											null, context.getSourceApplicationContext()));
+							SimpleMeterRegistry registry = context
+									.getBean(SimpleMeterRegistry.class);
+							assertThat(registry.find("executor.active")
+									.tag("name", "tomcat").meters()).hasSize(1);
+							assertThat(registry.find("executor.completed")
+									.tag("name", "tomcat").meters()).hasSize(1);
+						});
+	}
+
 	@Test
 	public void autoConfiguresTomcatMetricsWithEmbeddedReactiveTomcat() {
 		new ReactiveWebApplicationContextRunner(
@@ -150,6 +176,22 @@ public class TomcatMetricsAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	static class VirtualThreadServletWebServerConfiguration {
+
+		@Bean
+		public TomcatServletWebServerFactory tomcatFactory() {
+			TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+			Connector connector = new Connector();
+			connector.setPort(0);
+			((AbstractProtocol<?>) connector.getProtocolHandler())
+					.setExecutor(mock(VirtualThreadTaskExecutor.class));
+			factory.addAdditionalTomcatConnectors(connector);
+			return factory;
+		}
+
+	}
+
 	@Configuration
 	static class ReactiveWebServerConfiguration {
 
@@ -21,6 +21,7 @@ import org.junit.Test;
 import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.boot.actuate.autoconfigure.health.HealthIndicatorAutoConfiguration;
 import org.springframework.boot.actuate.health.ApplicationHealthIndicator;
+import org.springframework.boot.actuate.health.ScheduledHealthIndicator;
 import org.springframework.boot.actuate.system.DiskSpaceHealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -70,6 +71,19 @@ public class DiskSpaceHealthIndicatorAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void runWithRefreshIntervalShouldCreateScheduledIndicator() {
+		this.contextRunner
+				.withPropertyValues("management.health.diskspace.refresh-interval=1m")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(ScheduledHealthIndicator.class)
+							.hasBean("diskSpaceHealthIndicator")
+							.doesNotHaveBean(DiskSpaceHealthIndicator.class);
+					assertThat(context.getBean(ScheduledHealthIndicator.class).health()
+							.getDetails()).containsKeys("total", "free", "threshold");
+				});
+	}
+
 	@Test
 	public void runWhenDisabledShouldNotCreateIndicator() {
 		this.contextRunner.withPropertyValues("management.health.diskspace.enabled:false")
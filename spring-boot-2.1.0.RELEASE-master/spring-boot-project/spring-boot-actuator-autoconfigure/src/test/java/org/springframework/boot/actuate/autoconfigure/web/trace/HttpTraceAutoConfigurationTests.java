@@ -26,6 +26,7 @@ import org.springframework.boot.actuate.autoconfigure.trace.http.HttpTraceProper
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.trace.http.InMemoryHttpTraceRepository;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.boot.actuate.web.trace.reactive.HttpTraceWebFilter;
@@ -131,6 +132,29 @@ public class HttpTraceAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void doesNotConfigureSamplerByDefault() {
+		new WebApplicationContextRunner()
+				.withConfiguration(
+						AutoConfigurations.of(HttpTraceAutoConfiguration.class))
+				.run((context) -> assertThat(context)
+						.doesNotHaveBean(HttpTraceSampler.class));
+	}
+
+	@Test
+	public void configuresSamplerWhenRateIsSet() {
+		new WebApplicationContextRunner()
+				.withConfiguration(
+						AutoConfigurations.of(HttpTraceAutoConfiguration.class))
+				.withPropertyValues("management.trace.http.sampling.rate=0.0")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(HttpTraceSampler.class);
+					assertThat(context.getBean(HttpTraceFilter.class))
+							.hasFieldOrPropertyWithValue("sampler",
+									context.getBean(HttpTraceSampler.class));
+				});
+	}
+
 	@Test
 	public void backsOffWhenDisabled() {
 		new WebApplicationContextRunner()
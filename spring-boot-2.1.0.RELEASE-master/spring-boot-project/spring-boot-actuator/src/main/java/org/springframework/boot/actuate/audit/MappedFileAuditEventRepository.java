@@ -0,0 +1,432 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.audit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link AuditEventRepository} that stores events in append-only, memory-mapped segment
+ * files so that large numbers of events can be retained without holding them on the
+ * heap. Only a compact index of each segment, by principal, type and time, is kept in
+ * memory. When the maximum number of segments has been reached, the oldest segment is
+ * evicted to make room for new events.
+ * <p>
+ * Events returned by {@link #find(String, Instant, String)} are matched using the index
+ * and only deserialized as the returned list is iterated. Segment files are not reused
+ * across restarts and any existing segment files in the directory are deleted when the
+ * repository is created.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class MappedFileAuditEventRepository implements AuditEventRepository, Closeable {
+
+	private static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+	private static final int DEFAULT_MAX_SEGMENTS = 8;
+
+	private static final String SEGMENT_PREFIX = "audit-";
+
+	private static final String SEGMENT_SUFFIX = ".segment";
+
+	/**
+	 * Size of the record header: length, timestamp seconds and timestamp nanos.
+	 */
+	private static final int HEADER_SIZE = 4 + 8 + 4;
+
+	private final Object monitor = new Object();
+
+	private final File directory;
+
+	private final int segmentSize;
+
+	private final int maxSegments;
+
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	private long nextSegmentId;
+
+	private boolean closed;
+
+	/**
+	 * Create a new {@link MappedFileAuditEventRepository} with eight segments of 1MB.
+	 * @param directory the directory in which segment files are created
+	 */
+	public MappedFileAuditEventRepository(File directory) {
+		this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS);
+	}
+
+	/**
+	 * Create a new {@link MappedFileAuditEventRepository} instance.
+	 * @param directory the directory in which segment files are created
+	 * @param segmentSize the size of each segment file in bytes
+	 * @param maxSegments the maximum number of segments to retain
+	 */
+	public MappedFileAuditEventRepository(File directory, int segmentSize,
+			int maxSegments) {
+		Assert.notNull(directory, "Directory must not be null");
+		Assert.isTrue(segmentSize > HEADER_SIZE,
+				"SegmentSize must be greater than " + HEADER_SIZE);
+		Assert.isTrue(maxSegments > 0, "MaxSegments must be greater than 0");
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+		directory.mkdirs();
+		Assert.state(directory.isDirectory(),
+				() -> "Unable to create directory " + directory);
+		deleteExistingSegments();
+	}
+
+	private void deleteExistingSegments() {
+		File[] files = this.directory.listFiles((dir, name) -> name
+				.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	@Override
+	public void add(AuditEvent event) {
+		Assert.notNull(event, "AuditEvent must not be null");
+		byte[] bytes = serialize(event);
+		Assert.isTrue(bytes.length + HEADER_SIZE <= this.segmentSize,
+				() -> "AuditEvent of " + bytes.length
+						+ " bytes does not fit in a segment of " + this.segmentSize
+						+ " bytes");
+		synchronized (this.monitor) {
+			Assert.state(!this.closed, "Repository has been closed");
+			Segment segment = this.segments.peekLast();
+			if (segment == null || !segment.hasRoom(bytes.length)) {
+				segment = createSegment();
+			}
+			segment.append(event, bytes);
+		}
+	}
+
+	private Segment createSegment() {
+		if (this.segments.size() >= this.maxSegments) {
+			this.segments.removeFirst().delete();
+		}
+		File file = new File(this.directory,
+				SEGMENT_PREFIX + (this.nextSegmentId++) + SEGMENT_SUFFIX);
+		try {
+			Segment segment = new Segment(file, this.segmentSize);
+			this.segments.addLast(segment);
+			return segment;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to create audit segment " + file,
+					ex);
+		}
+	}
+
+	@Override
+	public List<AuditEvent> find(String principal, Instant after, String type) {
+		List<Segment.Snapshot> snapshots = new ArrayList<>();
+		synchronized (this.monitor) {
+			for (Segment segment : this.segments) {
+				if (after == null || segment.latest == null
+						|| segment.latest.isAfter(after)) {
+					Segment.Snapshot snapshot = segment.snapshot(principal, type);
+					if (snapshot != null) {
+						snapshots.add(snapshot);
+					}
+				}
+			}
+		}
+		EventList events = new EventList();
+		for (Segment.Snapshot snapshot : snapshots) {
+			snapshot.collect(after, events);
+		}
+		return events;
+	}
+
+	@Override
+	public void close() {
+		synchronized (this.monitor) {
+			this.closed = true;
+			while (!this.segments.isEmpty()) {
+				this.segments.removeFirst().delete();
+			}
+		}
+	}
+
+	private static byte[] serialize(AuditEvent event) {
+		try {
+			return serializeObject(event);
+		}
+		catch (NotSerializableException ex) {
+			// Fall back to the string representation of the data values
+			Map<String, Object> data = new LinkedHashMap<>();
+			event.getData().forEach((key, value) -> data.put(key,
+					(value != null) ? value.toString() : null));
+			try {
+				return serializeObject(new AuditEvent(event.getTimestamp(),
+						event.getPrincipal(), event.getType(), data));
+			}
+			catch (IOException ex2) {
+				throw new IllegalStateException("Unable to serialize AuditEvent", ex2);
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to serialize AuditEvent", ex);
+		}
+	}
+
+	private static byte[] serializeObject(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+			stream.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static AuditEvent deserialize(ByteBuffer buffer, int offset) {
+		byte[] bytes = new byte[buffer.getInt(offset)];
+		ByteBuffer source = buffer.duplicate();
+		((Buffer) source).position(offset + HEADER_SIZE);
+		source.get(bytes);
+		try (ObjectInputStream stream = new ObjectInputStream(
+				new ByteArrayInputStream(bytes))) {
+			return (AuditEvent) stream.readObject();
+		}
+		catch (IOException | ClassNotFoundException ex) {
+			throw new IllegalStateException("Unable to deserialize AuditEvent", ex);
+		}
+	}
+
+	/**
+	 * An append-only segment file and its in-memory index.
+	 */
+	private static final class Segment {
+
+		private final File file;
+
+		private final FileChannel channel;
+
+		private final MappedByteBuffer buffer;
+
+		private final Map<String, IntArray> principalRecords = new HashMap<>();
+
+		private final Map<String, Integer> typeIds = new HashMap<>();
+
+		private final IntArray offsets = new IntArray();
+
+		private final IntArray types = new IntArray();
+
+		private int position;
+
+		private Instant latest;
+
+		@SuppressWarnings("resource")
+		Segment(File file, int size) throws IOException {
+			this.file = file;
+			this.channel = new RandomAccessFile(file, "rw").getChannel();
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+
+		boolean hasRoom(int length) {
+			return this.position + HEADER_SIZE + length <= this.buffer.capacity();
+		}
+
+		void append(AuditEvent event, byte[] bytes) {
+			Instant timestamp = event.getTimestamp();
+			int offset = this.position;
+			this.buffer.putInt(offset, bytes.length);
+			this.buffer.putLong(offset + 4, timestamp.getEpochSecond());
+			this.buffer.putInt(offset + 12, timestamp.getNano());
+			ByteBuffer target = this.buffer.duplicate();
+			((Buffer) target).position(offset + HEADER_SIZE);
+			target.put(bytes);
+			this.position = offset + HEADER_SIZE + bytes.length;
+			int record = this.offsets.size();
+			this.offsets.add(offset);
+			this.types.add(this.typeIds.computeIfAbsent(event.getType(),
+					(key) -> this.typeIds.size()));
+			this.principalRecords
+					.computeIfAbsent(event.getPrincipal(), (key) -> new IntArray())
+					.add(record);
+			if (this.latest == null || timestamp.isAfter(this.latest)) {
+				this.latest = timestamp;
+			}
+		}
+
+		/**
+		 * Capture the records matching the given principal and type. Must be called
+		 * while holding the repository's monitor.
+		 * @param principal the principal or {@code null}
+		 * @param type the type or {@code null}
+		 * @return the snapshot or {@code null} if no records can match
+		 */
+		Snapshot snapshot(String principal, String type) {
+			int typeId = -1;
+			if (type != null) {
+				Integer id = this.typeIds.get(type);
+				if (id == null) {
+					return null;
+				}
+				typeId = id;
+			}
+			int[] records = null;
+			int count = this.offsets.size();
+			if (principal != null) {
+				IntArray principalRecords = this.principalRecords.get(principal);
+				if (principalRecords == null) {
+					return null;
+				}
+				records = principalRecords.values;
+				count = principalRecords.size;
+			}
+			return new Snapshot(records, count, this.offsets.values, this.types.values,
+					typeId);
+		}
+
+		void delete() {
+			try {
+				this.channel.close();
+			}
+			catch (IOException ex) {
+				// Continue
+			}
+			// Mapped buffers may still be referenced by lists returned by find, the
+			// memory is released once they are garbage collected
+			if (!this.file.delete()) {
+				this.file.deleteOnExit();
+			}
+		}
+
+		/**
+		 * Immutable view of the records of a segment.
+		 */
+		private final class Snapshot {
+
+			private final int[] records;
+
+			private final int count;
+
+			private final int[] offsets;
+
+			private final int[] types;
+
+			private final int typeId;
+
+			Snapshot(int[] records, int count, int[] offsets, int[] types, int typeId) {
+				this.records = records;
+				this.count = count;
+				this.offsets = offsets;
+				this.types = types;
+				this.typeId = typeId;
+			}
+
+			void collect(Instant after, EventList events) {
+				for (int i = 0; i < this.count; i++) {
+					int record = (this.records != null) ? this.records[i] : i;
+					if (this.typeId == -1 || this.types[record] == this.typeId) {
+						int offset = this.offsets[record];
+						if (after == null || getTimestamp(offset).isAfter(after)) {
+							events.add(Segment.this.buffer, offset);
+						}
+					}
+				}
+			}
+
+			private Instant getTimestamp(int offset) {
+				return Instant.ofEpochSecond(Segment.this.buffer.getLong(offset + 4),
+						Segment.this.buffer.getInt(offset + 12));
+			}
+
+		}
+
+	}
+
+	/**
+	 * Growable {@code int} array. Values below {@link #size} are never modified so an
+	 * array captured with its size can be read without synchronization.
+	 */
+	private static final class IntArray {
+
+		private int[] values = new int[16];
+
+		private int size;
+
+		void add(int value) {
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, this.size * 2);
+			}
+			this.values[this.size++] = value;
+		}
+
+		int size() {
+			return this.size;
+		}
+
+	}
+
+	/**
+	 * List of matching records that deserializes events on access.
+	 */
+	private static final class EventList extends AbstractList<AuditEvent> {
+
+		private final List<ByteBuffer> buffers = new ArrayList<>();
+
+		private final IntArray offsets = new IntArray();
+
+		void add(ByteBuffer buffer, int offset) {
+			this.buffers.add(buffer);
+			this.offsets.add(offset);
+		}
+
+		@Override
+		public AuditEvent get(int index) {
+			return deserialize(this.buffers.get(index), this.offsets.values[index]);
+		}
+
+		@Override
+		public int size() {
+			return this.buffers.size();
+		}
+
+	}
+
+}
@@ -45,6 +45,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.BeansException;
+import org.springframework.boot.actuate.endpoint.EnvironmentFingerprint;
 import org.springframework.boot.actuate.endpoint.Sanitizer;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -52,6 +53,9 @@ import org.springframework.boot.context.properties.ConfigurationBeanFactoryMetad
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.Environment;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
@@ -64,6 +68,12 @@ import org.springframework.util.StringUtils;
  * if their names end with a set of configurable values (default "password" and "secret").
  * Configure property names by using {@code endpoints.configprops.keys_to_sanitize} in
  * your Spring Boot application configuration.
+ * <p>
+ * The sanitized report is kept as a snapshot that is only created again when an
+ * application context is refreshed or when the {@link EnvironmentFingerprint
+ * fingerprint} of the environment, from which the properties are bound, changes. A bean
+ * that is mutated at runtime without a change to the environment is therefore reported
+ * with its previous values until one of those happens.
  *
  * @author Christian Dupuis
  * @author Dave Syer
@@ -71,7 +81,8 @@ import org.springframework.util.StringUtils;
  * @since 2.0.0
  */
 @Endpoint(id = "configprops")
-public class ConfigurationPropertiesReportEndpoint implements ApplicationContextAware {
+public class ConfigurationPropertiesReportEndpoint
+		implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
 
 	private static final String CONFIGURATION_PROPERTIES_FILTER_ID = "configurationPropertiesFilter";
 
@@ -81,18 +92,43 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 
 	private ObjectMapper objectMapper;
 
+	private volatile Snapshot snapshot;
+
 	@Override
 	public void setApplicationContext(ApplicationContext context) throws BeansException {
 		this.context = context;
 	}
 
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		this.snapshot = null;
+	}
+
 	public void setKeysToSanitize(String... keysToSanitize) {
 		this.sanitizer.setKeysToSanitize(keysToSanitize);
+		this.snapshot = null;
 	}
 
 	@ReadOperation
 	public ApplicationConfigurationProperties configurationProperties() {
-		return extract(this.context);
+		long fingerprint = getFingerprint(this.context);
+		Snapshot snapshot = this.snapshot;
+		if (snapshot == null || snapshot.fingerprint != fingerprint) {
+			snapshot = new Snapshot(fingerprint, extract(this.context));
+			this.snapshot = snapshot;
+		}
+		return snapshot.properties;
+	}
+
+	private long getFingerprint(ApplicationContext context) {
+		List<Environment> environments = new ArrayList<>();
+		ApplicationContext target = context;
+		while (target != null) {
+			environments.add(target.getEnvironment());
+			target = target.getParent();
+		}
+		return EnvironmentFingerprint
+				.compute(environments.toArray(new Environment[0]));
 	}
 
 	private ApplicationConfigurationProperties extract(ApplicationContext context) {
@@ -269,6 +305,23 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 		return sanitized;
 	}
 
+	/**
+	 * A sanitized report and the fingerprint of the environments it was created from.
+	 */
+	private static final class Snapshot {
+
+		private final long fingerprint;
+
+		private final ApplicationConfigurationProperties properties;
+
+		private Snapshot(long fingerprint,
+				ApplicationConfigurationProperties properties) {
+			this.fingerprint = fingerprint;
+			this.properties = properties;
+		}
+
+	}
+
 	/**
 	 * Extension to {@link JacksonAnnotationIntrospector} to suppress CGLIB generated bean
 	 * properties.
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.springframework.core.env.CompositePropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Cheap fingerprint of one or more {@link Environment environments} that endpoint
+ * implementations can use to detect that a report derived from them is out of date. The
+ * fingerprint changes when the active profiles change, when a property source is added,
+ * removed or replaced, when the content of a {@link MapPropertySource} changes or when
+ * the property names of any other {@link EnumerablePropertySource} change.
+ * <p>
+ * A report can therefore be stale until the next change that the fingerprint covers:
+ * <ul>
+ * <li>a value that changes in a non-map source whose property names stay the same, for
+ * example a source backed by a remote store, is not detected</li>
+ * <li>a {@code @ConfigurationProperties} bean that is mutated at runtime, rather than
+ * bound again from a changed environment, is not detected</li>
+ * </ul>
+ * <p>
+ * Computing a fingerprint hashes the content of every map-based source, which is linear
+ * in the number of properties but much cheaper than describing and sanitizing them. A
+ * source that is shared by several of the given environments, as happens when a child
+ * context inherits the property sources of its parent, is only hashed once.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public final class EnvironmentFingerprint {
+
+	private EnvironmentFingerprint() {
+	}
+
+	/**
+	 * Compute the fingerprint of the given environments.
+	 * @param environments the environments
+	 * @return the fingerprint
+	 */
+	public static long compute(Environment... environments) {
+		Set<PropertySource<?>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+		long fingerprint = 0;
+		for (Environment environment : environments) {
+			fingerprint = 31 * fingerprint
+					+ Arrays.hashCode(environment.getActiveProfiles());
+			if (environment instanceof ConfigurableEnvironment) {
+				for (PropertySource<?> source : ((ConfigurableEnvironment) environment)
+						.getPropertySources()) {
+					fingerprint = 31 * fingerprint + compute(source, seen);
+				}
+			}
+		}
+		return fingerprint;
+	}
+
+	private static long compute(PropertySource<?> source,
+			Set<PropertySource<?>> seen) {
+		long fingerprint = System.identityHashCode(source);
+		if (!seen.add(source)) {
+			return fingerprint;
+		}
+		if (source instanceof CompositePropertySource) {
+			for (PropertySource<?> nested : ((CompositePropertySource) source)
+					.getPropertySources()) {
+				fingerprint = 31 * fingerprint + compute(nested, seen);
+			}
+		}
+		else if (source instanceof MapPropertySource) {
+			fingerprint = 31 * fingerprint
+					+ ((MapPropertySource) source).getSource().hashCode();
+		}
+		else if (source instanceof EnumerablePropertySource) {
+			fingerprint = 31 * fingerprint + Arrays.hashCode(
+					((EnumerablePropertySource<?>) source).getPropertyNames());
+		}
+		return fingerprint;
+	}
+
+}
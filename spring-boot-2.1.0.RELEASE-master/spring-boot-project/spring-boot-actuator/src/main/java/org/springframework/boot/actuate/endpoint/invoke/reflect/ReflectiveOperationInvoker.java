@@ -16,10 +16,14 @@
 
 package org.springframework.boot.actuate.endpoint.invoke.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.security.Principal;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.boot.actuate.endpoint.InvocationContext;
 import org.springframework.boot.actuate.endpoint.SecurityContext;
@@ -32,7 +36,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 /**
- * An {@code OperationInvoker} that invokes an operation using reflection.
+ * An {@code OperationInvoker} that invokes an operation using reflection. The method is
+ * looked up once as a {@link MethodHandle} bound to the target and adapted to accept
+ * an array of arguments, and the way each argument is resolved is determined when the
+ * invoker is created.
  *
  * @author Andy Wilkinson
  * @author Stephane Nicoll
@@ -47,6 +54,12 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 
 	private final ParameterValueMapper parameterValueMapper;
 
+	private final OperationParameter[] parameters;
+
+	private final ArgumentResolver[] argumentResolvers;
+
+	private final MethodHandle methodHandle;
+
 	/**
 	 * Creates a new {code ReflectiveOperationInvoker} that will invoke the given
 	 * {@code method} on the given {@code target}. The given {@code parameterMapper} will
@@ -65,22 +78,64 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 		this.target = target;
 		this.operationMethod = operationMethod;
 		this.parameterValueMapper = parameterValueMapper;
+		this.parameters = operationMethod.getParameters().stream()
+				.toArray(OperationParameter[]::new);
+		this.argumentResolvers = new ArgumentResolver[this.parameters.length];
+		for (int i = 0; i < this.parameters.length; i++) {
+			this.argumentResolvers[i] = getArgumentResolver(this.parameters[i]);
+		}
+		this.methodHandle = getMethodHandle(target, operationMethod.getMethod());
+	}
+
+	private ArgumentResolver getArgumentResolver(OperationParameter parameter) {
+		if (Principal.class.equals(parameter.getType())) {
+			return (context) -> context.getSecurityContext().getPrincipal();
+		}
+		if (SecurityContext.class.equals(parameter.getType())) {
+			return InvocationContext::getSecurityContext;
+		}
+		String name = parameter.getName();
+		return (context) -> this.parameterValueMapper.mapParameterValue(parameter,
+				context.getArguments().get(name));
+	}
+
+	private static MethodHandle getMethodHandle(Object target, Method method) {
+		try {
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+			if (!Modifier.isStatic(method.getModifiers())) {
+				methodHandle = methodHandle.bindTo(target);
+			}
+			return methodHandle
+					.asSpreader(Object[].class, method.getParameterCount())
+					.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Unable to access " + method, ex);
+		}
 	}
 
 	@Override
 	public Object invoke(InvocationContext context) {
 		validateRequiredParameters(context);
-		Method method = this.operationMethod.getMethod();
 		Object[] resolvedArguments = resolveArguments(context);
-		ReflectionUtils.makeAccessible(method);
-		return ReflectionUtils.invokeMethod(method, this.target, resolvedArguments);
+		try {
+			return (Object) this.methodHandle.invokeExact(resolvedArguments);
+		}
+		catch (Throwable ex) {
+			ReflectionUtils.rethrowRuntimeException(ex);
+			throw new IllegalStateException("Should never get here");
+		}
 	}
 
 	private void validateRequiredParameters(InvocationContext context) {
-		Set<OperationParameter> missing = this.operationMethod.getParameters().stream()
-				.filter((parameter) -> isMissing(context, parameter))
-				.collect(Collectors.toSet());
-		if (!missing.isEmpty()) {
+		Set<OperationParameter> missing = null;
+		for (OperationParameter parameter : this.parameters) {
+			if (isMissing(context, parameter)) {
+				missing = (missing != null) ? missing : new LinkedHashSet<>();
+				missing.add(parameter);
+			}
+		}
+		if (missing != null) {
 			throw new MissingParametersException(missing);
 		}
 	}
@@ -99,20 +154,11 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 	}
 
 	private Object[] resolveArguments(InvocationContext context) {
-		return this.operationMethod.getParameters().stream()
-				.map((parameter) -> resolveArgument(parameter, context)).toArray();
-	}
-
-	private Object resolveArgument(OperationParameter parameter,
-			InvocationContext context) {
-		if (Principal.class.equals(parameter.getType())) {
-			return context.getSecurityContext().getPrincipal();
-		}
-		if (SecurityContext.class.equals(parameter.getType())) {
-			return context.getSecurityContext();
+		Object[] arguments = new Object[this.argumentResolvers.length];
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = this.argumentResolvers[i].resolve(context);
 		}
-		Object value = context.getArguments().get(parameter.getName());
-		return this.parameterValueMapper.mapParameterValue(parameter, value);
+		return arguments;
 	}
 
 	@Override
@@ -121,4 +167,14 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 				.append("method", this.operationMethod).toString();
 	}
 
+	/**
+	 * Strategy used to resolve the argument of a single parameter.
+	 */
+	@FunctionalInterface
+	private interface ArgumentResolver {
+
+		Object resolve(InvocationContext context);
+
+	}
+
 }
@@ -16,8 +16,10 @@
 
 package org.springframework.boot.actuate.endpoint.invoker.cache;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.boot.actuate.endpoint.InvocationContext;
 import org.springframework.boot.actuate.endpoint.invoke.OperationInvoker;
@@ -26,18 +28,22 @@ import org.springframework.util.ObjectUtils;
 
 /**
  * An {@link OperationInvoker} that caches the response of an operation with a
- * configurable time to live.
+ * configurable time to live. Responses are cached per combination of arguments, up to
+ * {@value #MAX_CACHED_RESPONSES} combinations. Invocations with a principal always
+ * reach the target invoker.
  *
  * @author Stephane Nicoll
  * @since 2.0.0
  */
 public class CachingOperationInvoker implements OperationInvoker {
 
+	private static final int MAX_CACHED_RESPONSES = 128;
+
 	private final OperationInvoker invoker;
 
 	private final long timeToLive;
 
-	private volatile CachedResponse cachedResponse;
+	private final Map<Map<String, Object>, CachedResponse> cachedResponses = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new instance with the target {@link OperationInvoker} to use to compute
@@ -61,28 +67,43 @@ public class CachingOperationInvoker implements OperationInvoker {
 
 	@Override
 	public Object invoke(InvocationContext context) {
-		if (hasInput(context)) {
+		if (context.getSecurityContext().getPrincipal() != null) {
 			return this.invoker.invoke(context);
 		}
 		long accessTime = System.currentTimeMillis();
-		CachedResponse cached = this.cachedResponse;
+		Map<String, Object> key = getCacheKey(context);
+		CachedResponse cached = this.cachedResponses.get(key);
 		if (cached == null || cached.isStale(accessTime, this.timeToLive)) {
 			Object response = this.invoker.invoke(context);
-			this.cachedResponse = new CachedResponse(response, accessTime);
+			cache(key, new CachedResponse(response, accessTime));
 			return response;
 		}
 		return cached.getResponse();
 	}
 
-	private boolean hasInput(InvocationContext context) {
-		if (context.getSecurityContext().getPrincipal() != null) {
-			return true;
-		}
+	private Map<String, Object> getCacheKey(InvocationContext context) {
 		Map<String, Object> arguments = context.getArguments();
-		if (!ObjectUtils.isEmpty(arguments)) {
-			return arguments.values().stream().anyMatch(Objects::nonNull);
+		if (ObjectUtils.isEmpty(arguments)) {
+			return Collections.emptyMap();
+		}
+		Map<String, Object> key = new HashMap<>();
+		arguments.forEach((name, value) -> {
+			if (value != null) {
+				key.put(name, value);
+			}
+		});
+		return key;
+	}
+
+	private void cache(Map<String, Object> key, CachedResponse response) {
+		if (this.cachedResponses.size() >= MAX_CACHED_RESPONSES) {
+			this.cachedResponses.values().removeIf((cached) -> cached
+					.isStale(response.creationTime, this.timeToLive));
+		}
+		if (this.cachedResponses.size() < MAX_CACHED_RESPONSES
+				|| this.cachedResponses.containsKey(key)) {
+			this.cachedResponses.put(key, response);
 		}
-		return false;
 	}
 
 	/**
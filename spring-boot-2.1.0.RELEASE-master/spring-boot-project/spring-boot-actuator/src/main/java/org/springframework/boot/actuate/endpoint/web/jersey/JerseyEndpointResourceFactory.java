@@ -18,6 +18,11 @@ package org.springframework.boot.actuate.endpoint.web.jersey;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -32,6 +37,7 @@ import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.server.ContainerRequest;
@@ -50,8 +56,13 @@ import org.springframework.boot.actuate.endpoint.web.Link;
 import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
 import org.springframework.boot.actuate.endpoint.web.WebOperation;
 import org.springframework.boot.actuate.endpoint.web.WebOperationRequestPredicate;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -148,7 +159,7 @@ public class JerseyEndpointResourceFactory {
 			try {
 				Object response = this.operation.invoke(new InvocationContext(
 						new JerseySecurityContext(data.getSecurityContext()), arguments));
-				return convertToJaxRsResponse(response, data.getRequest().getMethod());
+				return convertToJaxRsResponse(response, data);
 			}
 			catch (InvalidEndpointRequestException ex) {
 				return Response.status(Status.BAD_REQUEST).build();
@@ -185,27 +196,79 @@ public class JerseyEndpointResourceFactory {
 			return result;
 		}
 
-		private Response convertToJaxRsResponse(Object response, String httpMethod) {
+		private Response convertToJaxRsResponse(Object response,
+				ContainerRequestContext request) {
 			if (response == null) {
-				boolean isGet = HttpMethod.GET.equals(httpMethod);
+				boolean isGet = HttpMethod.GET.equals(request.getMethod());
 				Status status = isGet ? Status.NOT_FOUND : Status.NO_CONTENT;
 				return Response.status(status).build();
 			}
 			try {
 				if (!(response instanceof WebEndpointResponse)) {
-					return Response.status(Status.OK).entity(convertIfNecessary(response))
-							.build();
+					return createResponse(Status.OK.getStatusCode(), response, request);
 				}
 				WebEndpointResponse<?> webEndpointResponse = (WebEndpointResponse<?>) response;
-				return Response.status(webEndpointResponse.getStatus())
-						.entity(convertIfNecessary(webEndpointResponse.getBody()))
-						.build();
+				return createResponse(webEndpointResponse.getStatus(),
+						webEndpointResponse.getBody(), request);
 			}
 			catch (IOException ex) {
 				return Response.status(Status.INTERNAL_SERVER_ERROR).build();
 			}
 		}
 
+		private Response createResponse(int status, Object body,
+				ContainerRequestContext request) throws IOException {
+			if (status == Status.OK.getStatusCode()
+					&& body instanceof org.springframework.core.io.Resource
+					&& !(body instanceof InputStreamResource)) {
+				return createResourceResponse((org.springframework.core.io.Resource) body,
+						request.getHeaderString(HttpHeaders.RANGE));
+			}
+			return Response.status(status).entity(convertIfNecessary(body)).build();
+		}
+
+		private Response createResourceResponse(
+				org.springframework.core.io.Resource resource, String range)
+				throws IOException {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(range);
+			}
+			catch (IllegalArgumentException ex) {
+				return createRangeNotSatisfiableResponse(resource);
+			}
+			if (ranges.size() != 1) {
+				// Multiple ranges are not supported so send the whole resource
+				return Response.ok(convertIfNecessary(resource))
+						.header(HttpHeaders.ACCEPT_RANGES, "bytes").build();
+			}
+			long length = resource.contentLength();
+			ResourceRegion region;
+			try {
+				region = ranges.get(0).toResourceRegion(resource);
+			}
+			catch (IllegalArgumentException ex) {
+				return createRangeNotSatisfiableResponse(resource);
+			}
+			if (region.getPosition() >= length || region.getCount() <= 0) {
+				return createRangeNotSatisfiableResponse(resource);
+			}
+			long end = region.getPosition() + region.getCount() - 1;
+			return Response.status(Status.PARTIAL_CONTENT)
+					.entity(new ResourceRegionOutput(region))
+					.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+					.header(HttpHeaders.CONTENT_RANGE,
+							"bytes " + region.getPosition() + "-" + end + "/" + length)
+					.build();
+		}
+
+		private Response createRangeNotSatisfiableResponse(
+				org.springframework.core.io.Resource resource) throws IOException {
+			return Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE).header(
+					HttpHeaders.CONTENT_RANGE, "bytes */" + resource.contentLength())
+					.build();
+		}
+
 		private Object convertIfNecessary(Object body) throws IOException {
 			for (Function<Object, Object> converter : BODY_CONVERTERS) {
 				body = converter.apply(body);
@@ -236,6 +299,45 @@ public class JerseyEndpointResourceFactory {
 
 	}
 
+	/**
+	 * {@link StreamingOutput} that writes a {@link ResourceRegion}. The region of a file
+	 * is transferred from a {@link FileChannel} without reading the preceding content.
+	 */
+	private static final class ResourceRegionOutput implements StreamingOutput {
+
+		private final ResourceRegion region;
+
+		private ResourceRegionOutput(ResourceRegion region) {
+			this.region = region;
+		}
+
+		@Override
+		public void write(OutputStream output) throws IOException {
+			org.springframework.core.io.Resource resource = this.region.getResource();
+			long position = this.region.getPosition();
+			long end = position + this.region.getCount();
+			if (!resource.isFile()) {
+				try (InputStream input = resource.getInputStream()) {
+					StreamUtils.copyRange(input, output, position, end - 1);
+				}
+				return;
+			}
+			try (FileChannel channel = FileChannel.open(resource.getFile().toPath(),
+					StandardOpenOption.READ)) {
+				WritableByteChannel target = Channels.newChannel(output);
+				while (position < end) {
+					long transferred = channel.transferTo(position, end - position,
+							target);
+					if (transferred <= 0) {
+						break;
+					}
+					position += transferred;
+				}
+			}
+		}
+
+	}
+
 	/**
 	 * Body converter from {@link Mono} to {@link Mono#block()}.
 	 */
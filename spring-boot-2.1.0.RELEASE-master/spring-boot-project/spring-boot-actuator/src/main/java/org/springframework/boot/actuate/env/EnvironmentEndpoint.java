@@ -18,6 +18,7 @@ package org.springframework.boot.actuate.env;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import org.springframework.boot.actuate.endpoint.EnvironmentFingerprint;
 import org.springframework.boot.actuate.endpoint.Sanitizer;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -49,7 +51,11 @@ import org.springframework.util.StringUtils;
 import org.springframework.util.SystemPropertyUtils;
 
 /**
- * {@link Endpoint} to expose {@link ConfigurableEnvironment environment} information.
+ * {@link Endpoint} to expose {@link ConfigurableEnvironment environment} information. The
+ * sanitized environment is kept as a snapshot that is only described again when the
+ * {@link EnvironmentFingerprint fingerprint} of the environment changes. A value that
+ * changes in a source that the fingerprint does not cover is reported with its previous
+ * value until then, although the operation for a single property is always live.
  *
  * @author Dave Syer
  * @author Phillip Webb
@@ -65,20 +71,24 @@ public class EnvironmentEndpoint {
 
 	private final Environment environment;
 
+	private volatile Snapshot snapshot;
+
 	public EnvironmentEndpoint(Environment environment) {
 		this.environment = environment;
 	}
 
 	public void setKeysToSanitize(String... keysToSanitize) {
 		this.sanitizer.setKeysToSanitize(keysToSanitize);
+		this.snapshot = null;
 	}
 
 	@ReadOperation
 	public EnvironmentDescriptor environment(@Nullable String pattern) {
+		EnvironmentDescriptor descriptor = getSnapshot();
 		if (StringUtils.hasText(pattern)) {
-			return getEnvironmentDescriptor(Pattern.compile(pattern).asPredicate());
+			return filter(descriptor, Pattern.compile(pattern).asPredicate());
 		}
-		return getEnvironmentDescriptor((name) -> true);
+		return descriptor;
 	}
 
 	@ReadOperation
@@ -86,19 +96,51 @@ public class EnvironmentEndpoint {
 		return getEnvironmentEntryDescriptor(toMatch);
 	}
 
-	private EnvironmentDescriptor getEnvironmentDescriptor(
-			Predicate<String> propertyNamePredicate) {
+	/**
+	 * Return a sanitized snapshot of the whole environment, describing it again only if
+	 * its {@link EnvironmentFingerprint fingerprint} has changed.
+	 * @return the environment descriptor
+	 */
+	private EnvironmentDescriptor getSnapshot() {
+		long fingerprint = EnvironmentFingerprint.compute(this.environment);
+		Snapshot snapshot = this.snapshot;
+		if (snapshot == null || snapshot.fingerprint != fingerprint) {
+			snapshot = new Snapshot(fingerprint, getEnvironmentDescriptor());
+			this.snapshot = snapshot;
+		}
+		return snapshot.descriptor;
+	}
+
+	private EnvironmentDescriptor getEnvironmentDescriptor() {
 		PlaceholdersResolver resolver = getResolver();
 		List<PropertySourceDescriptor> propertySources = new ArrayList<>();
 		getPropertySourcesAsMap().forEach((sourceName, source) -> {
 			if (source instanceof EnumerablePropertySource) {
-				propertySources.add(
-						describeSource(sourceName, (EnumerablePropertySource<?>) source,
-								resolver, propertyNamePredicate));
+				propertySources.add(describeSource(sourceName,
+						(EnumerablePropertySource<?>) source, resolver));
 			}
 		});
 		return new EnvironmentDescriptor(
-				Arrays.asList(this.environment.getActiveProfiles()), propertySources);
+				Collections.unmodifiableList(
+						Arrays.asList(this.environment.getActiveProfiles())),
+				Collections.unmodifiableList(propertySources));
+	}
+
+	private EnvironmentDescriptor filter(EnvironmentDescriptor descriptor,
+			Predicate<String> propertyNamePredicate) {
+		List<PropertySourceDescriptor> propertySources = new ArrayList<>();
+		for (PropertySourceDescriptor source : descriptor.getPropertySources()) {
+			Map<String, PropertyValueDescriptor> properties = new LinkedHashMap<>();
+			source.getProperties().forEach((name, value) -> {
+				if (propertyNamePredicate.test(name)) {
+					properties.put(name, value);
+				}
+			});
+			propertySources.add(new PropertySourceDescriptor(source.getName(),
+					Collections.unmodifiableMap(properties)));
+		}
+		return new EnvironmentDescriptor(descriptor.getActiveProfiles(),
+				propertySources);
 	}
 
 	private EnvironmentEntryDescriptor getEnvironmentEntryDescriptor(
@@ -141,12 +183,12 @@ public class EnvironmentEndpoint {
 	}
 
 	private PropertySourceDescriptor describeSource(String sourceName,
-			EnumerablePropertySource<?> source, PlaceholdersResolver resolver,
-			Predicate<String> namePredicate) {
+			EnumerablePropertySource<?> source, PlaceholdersResolver resolver) {
 		Map<String, PropertyValueDescriptor> properties = new LinkedHashMap<>();
-		Stream.of(source.getPropertyNames()).filter(namePredicate).forEach(
+		Stream.of(source.getPropertyNames()).forEach(
 				(name) -> properties.put(name, describeValueOf(name, source, resolver)));
-		return new PropertySourceDescriptor(sourceName, properties);
+		return new PropertySourceDescriptor(sourceName,
+				Collections.unmodifiableMap(properties));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -203,6 +245,23 @@ public class EnvironmentEndpoint {
 		return this.sanitizer.sanitize(name, object);
 	}
 
+	/**
+	 * A sanitized description of the environment and the fingerprint of the environment
+	 * it was taken from.
+	 */
+	private static final class Snapshot {
+
+		private final long fingerprint;
+
+		private final EnvironmentDescriptor descriptor;
+
+		private Snapshot(long fingerprint, EnvironmentDescriptor descriptor) {
+			this.fingerprint = fingerprint;
+			this.descriptor = descriptor;
+		}
+
+	}
+
 	/**
 	 * {@link PropertySourcesPlaceholdersResolver} that sanitizes sensitive placeholders
 	 * if present.
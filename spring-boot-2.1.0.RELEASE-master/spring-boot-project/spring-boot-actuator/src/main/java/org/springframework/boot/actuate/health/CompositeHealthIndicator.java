@@ -18,9 +18,21 @@ package org.springframework.boot.actuate.health;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * {@link HealthIndicator} that returns health indications from all registered delegates.
+ * Delegates are invoked one after another unless an {@link Executor} has been
+ * {@link #concurrentStrategy(Executor) configured}, in which case they are invoked
+ * concurrently and can be bounded by a {@link #timeoutStrategy(long, Health) timeout}.
  *
  * @author Tyler J. Frederick
  * @author Phillip Webb
@@ -33,6 +45,18 @@ public class CompositeHealthIndicator implements HealthIndicator {
 
 	private final HealthAggregator aggregator;
 
+	private final Map<String, CachedHealth> cache = new ConcurrentHashMap<>();
+
+	private final Map<String, FutureTask<Health>> refreshes = new ConcurrentHashMap<>();
+
+	private Executor executor;
+
+	private Long timeout;
+
+	private Health timeoutHealth;
+
+	private Long timeToLive;
+
 	/**
 	 * Create a new {@link CompositeHealthIndicator}.
 	 * @param healthAggregator the health aggregator
@@ -90,14 +114,178 @@ public class CompositeHealthIndicator implements HealthIndicator {
 		return this.registry;
 	}
 
+	/**
+	 * Invoke the delegates concurrently using the given {@code executor}.
+	 * @param executor the executor used to invoke the delegates
+	 * @return this instance
+	 * @since 2.1.0
+	 */
+	public CompositeHealthIndicator concurrentStrategy(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Specify an alternative timeout {@link Health} if a {@link HealthIndicator} failed
+	 * to reply after specified {@code timeout}. Only applies when the delegates are
+	 * invoked {@link #concurrentStrategy(Executor) concurrently}. A delegate that
+	 * reaches the timeout is cancelled. If a cached result is available for it, it is
+	 * used instead of the {@code timeoutHealth}, with a {@code stale} detail.
+	 * @param timeout number of milliseconds to wait before using the
+	 * {@code timeoutHealth}
+	 * @param timeoutHealth the {@link Health} to use if an health indicator reached the
+	 * {@code timeout} or {@code null} to report it as {@link Status#DOWN down} with a
+	 * {@code timeout} detail
+	 * @return this instance
+	 * @since 2.1.0
+	 */
+	public CompositeHealthIndicator timeoutStrategy(long timeout, Health timeoutHealth) {
+		this.timeout = timeout;
+		this.timeoutHealth = (timeoutHealth != null) ? timeoutHealth
+				: Health.down().withDetail("timeout", timeout + "ms").build();
+		return this;
+	}
+
+	/**
+	 * Cache the {@link Health} of each delegate for the specified {@code timeToLive}.
+	 * Concurrent requests for the health of a delegate whose cached health has expired
+	 * share a single invocation of that delegate.
+	 * @param timeToLive number of milliseconds during which the health of a delegate is
+	 * reused rather than computed again
+	 * @return this instance
+	 * @since 2.1.0
+	 */
+	public CompositeHealthIndicator cacheStrategy(long timeToLive) {
+		this.timeToLive = timeToLive;
+		return this;
+	}
+
 	@Override
 	public Health health() {
+		Map<String, HealthIndicator> indicators = this.registry.getAll();
 		Map<String, Health> healths = new LinkedHashMap<>();
-		for (Map.Entry<String, HealthIndicator> entry : this.registry.getAll()
-				.entrySet()) {
-			healths.put(entry.getKey(), entry.getValue().health());
+		if (this.executor == null) {
+			indicators.forEach((name, indicator) -> healths.put(name,
+					getHealth(name, indicator)));
+			return this.aggregator.aggregate(healths);
 		}
+		Map<String, Future<Health>> futures = new LinkedHashMap<>();
+		indicators.forEach((name, indicator) -> futures.put(name,
+				submit(name, indicator)));
+		long deadline = (this.timeout != null)
+				? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeout) : 0;
+		futures.forEach((name, future) -> healths.put(name,
+				getHealth(name, future, deadline)));
 		return this.aggregator.aggregate(healths);
 	}
 
+	private Future<Health> submit(String name, HealthIndicator indicator) {
+		FutureTask<Health> task = new FutureTask<>(() -> getHealth(name, indicator));
+		try {
+			this.executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			task.cancel(false);
+		}
+		return task;
+	}
+
+	private Health getHealth(String name, HealthIndicator indicator) {
+		if (this.timeToLive == null) {
+			return indicator.health();
+		}
+		CachedHealth cached = this.cache.get(name);
+		long now = System.nanoTime();
+		if (cached != null && now - cached.timestamp < TimeUnit.MILLISECONDS
+				.toNanos(this.timeToLive)) {
+			return cached.health;
+		}
+		FutureTask<Health> refresh = new FutureTask<>(() -> {
+			Health health = indicator.health();
+			this.cache.put(name, new CachedHealth(health, System.nanoTime()));
+			return health;
+		});
+		FutureTask<Health> inProgress = this.refreshes.putIfAbsent(name, refresh);
+		if (inProgress == null) {
+			try {
+				refresh.run();
+			}
+			finally {
+				this.refreshes.remove(name, refresh);
+			}
+			inProgress = refresh;
+		}
+		try {
+			return inProgress.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(
+					"Interrupted while waiting for health of '" + name + "'", ex);
+		}
+		catch (ExecutionException ex) {
+			throw rethrow(ex);
+		}
+	}
+
+	private Health getHealth(String name, Future<Health> future, long deadline) {
+		try {
+			if (this.timeout == null) {
+				return future.get();
+			}
+			return future.get(Math.max(0, deadline - System.nanoTime()),
+					TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException | CancellationException ex) {
+			future.cancel(true);
+			return getTimeoutHealth(name);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			return getTimeoutHealth(name);
+		}
+		catch (ExecutionException ex) {
+			throw rethrow(ex);
+		}
+	}
+
+	private RuntimeException rethrow(ExecutionException ex) {
+		Throwable cause = ex.getCause();
+		if (cause instanceof RuntimeException) {
+			return (RuntimeException) cause;
+		}
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return new IllegalStateException(cause);
+	}
+
+	private Health getTimeoutHealth(String name) {
+		CachedHealth cached = this.cache.get(name);
+		if (cached != null) {
+			return Health.status(cached.health.getStatus())
+					.withDetails(cached.health.getDetails()).withDetail("stale", true)
+					.build();
+		}
+		return (this.timeoutHealth != null) ? this.timeoutHealth
+				: Health.down().build();
+	}
+
+	/**
+	 * A {@link Health} and the time, in nanoseconds, at which it was computed.
+	 */
+	private static final class CachedHealth {
+
+		private final Health health;
+
+		private final long timestamp;
+
+		CachedHealth(Health health, long timestamp) {
+			this.health = health;
+			this.timestamp = timestamp;
+		}
+
+	}
+
 }
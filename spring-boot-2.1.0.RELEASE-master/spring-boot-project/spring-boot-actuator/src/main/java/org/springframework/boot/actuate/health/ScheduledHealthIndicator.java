@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * {@link HealthIndicator} that refreshes the health of another {@link HealthIndicator} in
+ * the background. Calls to {@link #health()} return the latest published {@link Health}
+ * and only invoke the delegate when no health has been published yet. When no health has
+ * been published for three refresh intervals plus the time that the last refresh took,
+ * for example because the delegate hangs, the health is {@link Status#DOWN down}.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class ScheduledHealthIndicator implements HealthIndicator {
+
+	private static final Log logger = LogFactory.getLog(ScheduledHealthIndicator.class);
+
+	private static final int MAX_AGE_INTERVALS = 3;
+
+	private final HealthIndicator delegate;
+
+	private final TaskScheduler scheduler;
+
+	private final ScheduledFuture<?> scheduled;
+
+	private final long maxAge;
+
+	private volatile PublishedHealth published;
+
+	/**
+	 * Create a new {@link ScheduledHealthIndicator} instance using a single threaded
+	 * {@link TaskScheduler}.
+	 * @param delegate the health indicator to refresh
+	 * @param refreshInterval the delay between the end of a refresh and the start of the
+	 * next one
+	 */
+	public ScheduledHealthIndicator(HealthIndicator delegate, Duration refreshInterval) {
+		this(delegate, new HealthIndicatorTaskScheduler(), refreshInterval);
+	}
+
+	/**
+	 * Create a new {@link ScheduledHealthIndicator} instance.
+	 * @param delegate the health indicator to refresh
+	 * @param scheduler the scheduler used to refresh the health
+	 * @param refreshInterval the delay between the end of a refresh and the start of the
+	 * next one
+	 */
+	public ScheduledHealthIndicator(HealthIndicator delegate, TaskScheduler scheduler,
+			Duration refreshInterval) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		Assert.notNull(refreshInterval, "RefreshInterval must not be null");
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+		this.maxAge = refreshInterval.toNanos() * MAX_AGE_INTERVALS;
+		this.scheduled = this.scheduler.scheduleWithFixedDelay(this::refresh,
+				refreshInterval);
+	}
+
+	@Override
+	public Health health() {
+		PublishedHealth published = this.published;
+		if (published == null) {
+			return refresh();
+		}
+		long age = System.nanoTime() - published.time;
+		// Refreshes run with a fixed delay so allow for the time the last one took
+		if (age > this.maxAge + published.duration) {
+			return Health.down().withDetail("error", "Health not refreshed for "
+					+ TimeUnit.NANOSECONDS.toMillis(age) + "ms").build();
+		}
+		return published.health;
+	}
+
+	private Health refresh() {
+		long start = System.nanoTime();
+		Health health;
+		try {
+			health = this.delegate.health();
+		}
+		catch (Exception ex) {
+			logger.warn("Health check failed", ex);
+			health = Health.down(ex).build();
+		}
+		long end = System.nanoTime();
+		this.published = new PublishedHealth(health, end, end - start);
+		return health;
+	}
+
+	/**
+	 * Stop refreshing the health of the delegate.
+	 */
+	public void shutdown() {
+		this.scheduled.cancel(false);
+		if (this.scheduler instanceof HealthIndicatorTaskScheduler) {
+			((HealthIndicatorTaskScheduler) this.scheduler).shutdown();
+		}
+	}
+
+	/**
+	 * A {@link Health}, the time at which it was published and how long it took to
+	 * refresh, in nanoseconds.
+	 */
+	private static final class PublishedHealth {
+
+		private final Health health;
+
+		private final long time;
+
+		private final long duration;
+
+		private PublishedHealth(Health health, long time, long duration) {
+			this.health = health;
+			this.time = time;
+			this.duration = duration;
+		}
+
+	}
+
+	/**
+	 * {@link TaskScheduler} used when the user doesn't specify one.
+	 */
+	static class HealthIndicatorTaskScheduler extends ThreadPoolTaskScheduler {
+
+		HealthIndicatorTaskScheduler() {
+			setPoolSize(1);
+			setDaemon(true);
+			setThreadNamePrefix("health-indicator-");
+			initialize();
+		}
+
+	}
+
+}
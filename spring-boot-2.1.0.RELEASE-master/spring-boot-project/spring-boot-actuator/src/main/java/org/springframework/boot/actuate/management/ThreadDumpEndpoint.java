@@ -18,14 +18,21 @@ package org.springframework.boot.actuate.management;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 
 /**
- * {@link Endpoint} to expose thread info.
+ * {@link Endpoint} to expose thread info, optionally limiting the depth of each stack
+ * trace.
  *
  * @author Dave Syer
  * @author Andy Wilkinson
@@ -34,10 +41,51 @@ import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 @Endpoint(id = "threaddump")
 public class ThreadDumpEndpoint {
 
-	@ReadOperation
+	private static final Method DUMP_ALL_THREADS_WITH_MAX_DEPTH = ReflectionUtils
+			.findMethod(ThreadMXBean.class, "dumpAllThreads", boolean.class,
+					boolean.class, int.class);
+
 	public ThreadDumpDescriptor threadDump() {
-		return new ThreadDumpDescriptor(Arrays
-				.asList(ManagementFactory.getThreadMXBean().dumpAllThreads(true, true)));
+		return threadDump(null);
+	}
+
+	/**
+	 * Dump the threads of the JVM.
+	 * @param maxDepth the maximum number of stack trace elements to include for each
+	 * thread or {@code null} to include complete stack traces. On Java 8, locked
+	 * monitors and synchronizers are not available when the depth is limited.
+	 * @return the thread dump
+	 * @throws InvalidEndpointRequestException if the max depth is negative
+	 */
+	@ReadOperation
+	public ThreadDumpDescriptor threadDump(@Nullable Integer maxDepth) {
+		if (maxDepth != null && maxDepth < 0) {
+			throw new InvalidEndpointRequestException(
+					"Max depth must not be negative but was: " + maxDepth,
+					"Max depth must not be negative");
+		}
+		return new ThreadDumpDescriptor(
+				dumpAllThreads(ManagementFactory.getThreadMXBean(), maxDepth));
+	}
+
+	private List<ThreadInfo> dumpAllThreads(ThreadMXBean threadMXBean,
+			Integer maxDepth) {
+		if (maxDepth == null) {
+			return Arrays.asList(threadMXBean.dumpAllThreads(true, true));
+		}
+		if (DUMP_ALL_THREADS_WITH_MAX_DEPTH != null) {
+			return Arrays.asList((ThreadInfo[]) ReflectionUtils.invokeMethod(
+					DUMP_ALL_THREADS_WITH_MAX_DEPTH, threadMXBean, true, true, maxDepth));
+		}
+		List<ThreadInfo> threads = new ArrayList<>();
+		for (ThreadInfo thread : threadMXBean
+				.getThreadInfo(threadMXBean.getAllThreadIds(), maxDepth)) {
+			// Null for threads that have terminated since their id was returned
+			if (thread != null) {
+				threads.add(thread);
+			}
+		}
+		return threads;
 	}
 
 	/**
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.exporter.common.TextFormat;
+
+/**
+ * {@link InputStream} that writes {@link MetricFamilySamples} in the Prometheus text
+ * format as it is being read. Samples are collected and written one family at a time into
+ * a buffer that is reused for each family, so the complete output is never held in
+ * memory.
+ *
+ * @author agent
+ */
+final class MetricFamilySamplesInputStream extends InputStream {
+
+	private final Enumeration<MetricFamilySamples> samples;
+
+	private final Buffer buffer = new Buffer();
+
+	private final Writer writer = new OutputStreamWriter(this.buffer,
+			StandardCharsets.UTF_8);
+
+	private int position;
+
+	MetricFamilySamplesInputStream(Enumeration<MetricFamilySamples> samples) {
+		this.samples = samples;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return this.buffer.get(this.position++) & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int count = Math.min(length, this.buffer.size() - this.position);
+		this.buffer.copy(this.position, bytes, offset, count);
+		this.position += count;
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return this.buffer.size() - this.position;
+	}
+
+	private boolean fill() throws IOException {
+		while (this.position >= this.buffer.size()) {
+			if (!this.samples.hasMoreElements()) {
+				return false;
+			}
+			this.buffer.reset();
+			this.position = 0;
+			TextFormat.write004(this.writer, Collections
+					.enumeration(Collections.singleton(this.samples.nextElement())));
+			this.writer.flush();
+		}
+		return true;
+	}
+
+	/**
+	 * {@link ByteArrayOutputStream} that gives access to its content without copying it.
+	 */
+	private static final class Buffer extends ByteArrayOutputStream {
+
+		private Buffer() {
+			super(8192);
+		}
+
+		byte get(int index) {
+			return this.buf[index];
+		}
+
+		void copy(int index, byte[] bytes, int offset, int length) {
+			System.arraycopy(this.buf, index, bytes, offset, length);
+		}
+
+	}
+
+}
@@ -16,9 +16,15 @@
 
 package org.springframework.boot.actuate.metrics.export.prometheus;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
 
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
@@ -26,10 +32,16 @@ import io.prometheus.client.exporter.common.TextFormat;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link Endpoint} that outputs metrics in a format that can be scraped by the Prometheus
- * server.
+ * server. The output is written while the response is being sent, one metric family at a
+ * time, rather than being built in memory first. When the endpoint's responses are
+ * cached, the output is also retained so that the metrics are only collected once for as
+ * long as a response is cached.
  *
  * @author Jon Schneider
  * @since 2.0.0
@@ -39,11 +51,30 @@ public class PrometheusScrapeEndpoint {
 
 	private final CollectorRegistry collectorRegistry;
 
+	private final boolean cached;
+
 	public PrometheusScrapeEndpoint(CollectorRegistry collectorRegistry) {
+		this(collectorRegistry, false);
+	}
+
+	/**
+	 * Create a new {@link PrometheusScrapeEndpoint} instance.
+	 * @param collectorRegistry the registry to scrape
+	 * @param cached whether the responses of the endpoint are cached, in which case the
+	 * output of each scrape is retained once it has been written
+	 * @since 2.1.0
+	 */
+	public PrometheusScrapeEndpoint(CollectorRegistry collectorRegistry,
+			boolean cached) {
 		this.collectorRegistry = collectorRegistry;
+		this.cached = cached;
 	}
 
-	@ReadOperation(produces = TextFormat.CONTENT_TYPE_004)
+	/**
+	 * Scrape all the metrics of the registry into a {@link String}. The endpoint's
+	 * operation is {@link #scrape(Set)}, which streams the metrics instead.
+	 * @return the metrics in the Prometheus text format
+	 */
 	public String scrape() {
 		try {
 			Writer writer = new StringWriter();
@@ -57,4 +88,129 @@ public class PrometheusScrapeEndpoint {
 		}
 	}
 
+	/**
+	 * Scrape the metrics of the registry.
+	 * @param includedNames the names of the metric families, or of their samples, to
+	 * include or {@code null} to include all metrics. Collectors that do not provide any
+	 * of the given names are not collected.
+	 * @return a resource that collects the metrics and writes them in the Prometheus text
+	 * format when it is read
+	 * @since 2.1.0
+	 */
+	@ReadOperation(produces = TextFormat.CONTENT_TYPE_004)
+	public Resource scrape(@Nullable Set<String> includedNames) {
+		return new ScrapeResource(this.collectorRegistry,
+				(includedNames != null) ? includedNames : Collections.emptySet(),
+				this.cached);
+	}
+
+	/**
+	 * {@link Resource} that collects the metrics when its content is read. Unlike an
+	 * {@link org.springframework.core.io.InputStreamResource}, it can be read more than
+	 * once. When retained, the content of the first complete read is returned by later
+	 * reads, otherwise the metrics are collected again each time.
+	 */
+	private static final class ScrapeResource extends AbstractResource {
+
+		private final CollectorRegistry collectorRegistry;
+
+		private final Set<String> includedNames;
+
+		private final boolean retained;
+
+		private volatile byte[] content;
+
+		private ScrapeResource(CollectorRegistry collectorRegistry,
+				Set<String> includedNames, boolean retained) {
+			this.collectorRegistry = collectorRegistry;
+			this.includedNames = includedNames;
+			this.retained = retained;
+		}
+
+		@Override
+		public String getDescription() {
+			return "Prometheus scrape";
+		}
+
+		@Override
+		public boolean exists() {
+			return true;
+		}
+
+		@Override
+		public long contentLength() {
+			byte[] content = this.content;
+			// Unknown until the metrics have been written
+			return (content != null) ? content.length : -1;
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			byte[] content = this.content;
+			if (content != null) {
+				return new ByteArrayInputStream(content);
+			}
+			InputStream inputStream = new MetricFamilySamplesInputStream(
+					this.collectorRegistry
+							.filteredMetricFamilySamples(this.includedNames));
+			return (this.retained) ? new RetainingInputStream(inputStream) : inputStream;
+		}
+
+		/**
+		 * {@link FilterInputStream} that retains the bytes that are read and makes them
+		 * the content of the resource once the end of the stream has been reached.
+		 */
+		private final class RetainingInputStream extends FilterInputStream {
+
+			private final ByteArrayOutputStream retained = new ByteArrayOutputStream();
+
+			private RetainingInputStream(InputStream inputStream) {
+				super(inputStream);
+			}
+
+			@Override
+			public int read() throws IOException {
+				int b = super.read();
+				if (b != -1) {
+					this.retained.write(b);
+				}
+				else {
+					retain();
+				}
+				return b;
+			}
+
+			@Override
+			public int read(byte[] bytes, int offset, int length) throws IOException {
+				int count = super.read(bytes, offset, length);
+				if (count > 0) {
+					this.retained.write(bytes, offset, count);
+				}
+				else if (count == -1) {
+					retain();
+				}
+				return count;
+			}
+
+			@Override
+			public long skip(long n) {
+				// Skipped bytes could not be retained
+				return 0;
+			}
+
+			@Override
+			public boolean markSupported() {
+				return false;
+			}
+
+			private void retain() {
+				if (ScrapeResource.this.content == null) {
+					ScrapeResource.this.content = this.retained.toByteArray();
+				}
+			}
+
+		}
+
+	}
+
 }
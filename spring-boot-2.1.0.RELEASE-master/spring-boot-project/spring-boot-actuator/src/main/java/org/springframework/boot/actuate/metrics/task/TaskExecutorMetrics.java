@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.task.AdaptiveThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MeterBinder} for a {@link ThreadPoolTaskExecutor}. Queue wait time and
+ * rejected tasks are also recorded for an {@link AdaptiveThreadPoolTaskExecutor}.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class TaskExecutorMetrics implements MeterBinder {
+
+	private final ThreadPoolTaskExecutor taskExecutor;
+
+	private final Iterable<Tag> tags;
+
+	public TaskExecutorMetrics(ThreadPoolTaskExecutor taskExecutor, String name,
+			Iterable<Tag> tags) {
+		Assert.notNull(taskExecutor, "TaskExecutor must not be null");
+		this.taskExecutor = taskExecutor;
+		this.tags = Tags.concat(tags, "name", name);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		bindGauge(registry, "executor.pool.size", "The current number of threads",
+				ThreadPoolTaskExecutor::getPoolSize);
+		bindGauge(registry, "executor.pool.core", "The core number of threads",
+				ThreadPoolTaskExecutor::getCorePoolSize);
+		bindGauge(registry, "executor.active",
+				"The approximate number of threads that are actively executing tasks",
+				ThreadPoolTaskExecutor::getActiveCount);
+		bindGauge(registry, "executor.queued",
+				"The approximate number of tasks that are waiting in the queue",
+				(taskExecutor) -> taskExecutor.getThreadPoolExecutor().getQueue().size());
+		FunctionCounter
+				.builder("executor.completed", this.taskExecutor,
+						(taskExecutor) -> taskExecutor.getThreadPoolExecutor()
+								.getCompletedTaskCount())
+				.tags(this.tags)
+				.description("The approximate number of tasks that have completed")
+				.register(registry);
+		if (this.taskExecutor instanceof AdaptiveThreadPoolTaskExecutor) {
+			bindAdaptive(registry, (AdaptiveThreadPoolTaskExecutor) this.taskExecutor);
+		}
+	}
+
+	private void bindAdaptive(MeterRegistry registry,
+			AdaptiveThreadPoolTaskExecutor taskExecutor) {
+		FunctionTimer
+				.builder("executor.queue.wait", taskExecutor,
+						AdaptiveThreadPoolTaskExecutor::getQueueWaitCount,
+						(executor) -> executor.getTotalQueueWaitTime().toNanos(),
+						TimeUnit.NANOSECONDS)
+				.tags(this.tags).description("Time that tasks spent waiting in the queue")
+				.register(registry);
+		FunctionCounter
+				.builder("executor.rejected", taskExecutor,
+						AdaptiveThreadPoolTaskExecutor::getRejectedCount)
+				.tags(this.tags).description("The number of tasks that were rejected")
+				.register(registry);
+	}
+
+	private void bindGauge(MeterRegistry registry, String name, String description,
+			ToDoubleFunction<ThreadPoolTaskExecutor> function) {
+		Gauge.builder(name, this.taskExecutor, function).tags(this.tags)
+				.description(description).register(registry);
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MeterBinder} for a {@link VirtualThreadTaskExecutor}. As there is no pool, the
+ * concurrency of the executor is measured by the number of tasks that are active.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class VirtualThreadTaskExecutorMetrics implements MeterBinder {
+
+	private final VirtualThreadTaskExecutor taskExecutor;
+
+	private final Iterable<Tag> tags;
+
+	public VirtualThreadTaskExecutorMetrics(VirtualThreadTaskExecutor taskExecutor,
+			String name, Iterable<Tag> tags) {
+		Assert.notNull(taskExecutor, "TaskExecutor must not be null");
+		this.taskExecutor = taskExecutor;
+		this.tags = Tags.concat(tags, "name", name);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("executor.active", this.taskExecutor,
+				VirtualThreadTaskExecutor::getActiveCount).tags(this.tags)
+				.description("The number of tasks that are being executed")
+				.register(registry);
+		FunctionCounter
+				.builder("executor.completed", this.taskExecutor,
+						VirtualThreadTaskExecutor::getCompletedTaskCount)
+				.tags(this.tags).description("The number of tasks that have completed")
+				.register(registry);
+	}
+
+}
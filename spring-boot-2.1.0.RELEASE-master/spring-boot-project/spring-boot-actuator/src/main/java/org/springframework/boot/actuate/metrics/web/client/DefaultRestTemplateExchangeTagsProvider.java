@@ -16,16 +16,20 @@
 
 package org.springframework.boot.actuate.metrics.web.client;
 
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.StringUtils;
 
 /**
- * Default implementation of {@link RestTemplateExchangeTagsProvider}.
+ * Default implementation of {@link RestTemplateExchangeTagsProvider}. The {@code uri} tag
+ * of the first URI templates and URIs that are used is cached.
  *
  * @author Jon Schneider
  * @since 2.0.0
@@ -33,15 +37,31 @@ import org.springframework.util.StringUtils;
 public class DefaultRestTemplateExchangeTagsProvider
 		implements RestTemplateExchangeTagsProvider {
 
+	private static final int MAX_CACHED_URI_TAGS = 1000;
+
+	private final Map<String, Tag> uriTags = new ConcurrentHashMap<>();
+
 	@Override
 	public Iterable<Tag> getTags(String urlTemplate, HttpRequest request,
 			ClientHttpResponse response) {
 		Tag uriTag = (StringUtils.hasText(urlTemplate)
-				? RestTemplateExchangeTags.uri(urlTemplate)
-				: RestTemplateExchangeTags.uri(request));
-		return Arrays.asList(RestTemplateExchangeTags.method(request), uriTag,
+				? getUriTag(urlTemplate, RestTemplateExchangeTags::uri)
+				: getUriTag(request.getURI().toString(),
+						(uri) -> RestTemplateExchangeTags.uri(request)));
+		return Tags.of(RestTemplateExchangeTags.method(request), uriTag,
 				RestTemplateExchangeTags.status(response),
 				RestTemplateExchangeTags.clientName(request));
 	}
 
+	private Tag getUriTag(String uri, Function<String, Tag> tagFactory) {
+		Tag tag = this.uriTags.get(uri);
+		if (tag == null) {
+			tag = tagFactory.apply(uri);
+			if (this.uriTags.size() < MAX_CACHED_URI_TAGS) {
+				this.uriTags.put(uri, tag);
+			}
+		}
+		return tag;
+	}
+
 }
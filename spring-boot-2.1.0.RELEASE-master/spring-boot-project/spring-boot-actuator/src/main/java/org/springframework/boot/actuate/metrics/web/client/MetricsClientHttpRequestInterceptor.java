@@ -19,9 +19,12 @@ package org.springframework.boot.actuate.metrics.web.client;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 import org.springframework.core.NamedThreadLocal;
@@ -44,12 +47,16 @@ class MetricsClientHttpRequestInterceptor implements ClientHttpRequestIntercepto
 	private static final ThreadLocal<String> urlTemplate = new NamedThreadLocal<>(
 			"Rest Template URL Template");
 
+	private static final int MAX_CACHED_TIMERS = 1000;
+
 	private final MeterRegistry meterRegistry;
 
 	private final RestTemplateExchangeTagsProvider tagProvider;
 
 	private final String metricName;
 
+	private final Map<Tags, Timer> timers = new ConcurrentHashMap<>();
+
 	MetricsClientHttpRequestInterceptor(MeterRegistry meterRegistry,
 			RestTemplateExchangeTagsProvider tagProvider, String metricName) {
 		this.tagProvider = tagProvider;
@@ -67,8 +74,8 @@ class MetricsClientHttpRequestInterceptor implements ClientHttpRequestIntercepto
 			return response;
 		}
 		finally {
-			getTimeBuilder(request, response).register(this.meterRegistry)
-					.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+			getTimer(request, response).record(System.nanoTime() - startTime,
+					TimeUnit.NANOSECONDS);
 			urlTemplate.remove();
 		}
 	}
@@ -91,11 +98,23 @@ class MetricsClientHttpRequestInterceptor implements ClientHttpRequestIntercepto
 		};
 	}
 
-	private Timer.Builder getTimeBuilder(HttpRequest request,
-			ClientHttpResponse response) {
-		return Timer.builder(this.metricName)
-				.tags(this.tagProvider.getTags(urlTemplate.get(), request, response))
-				.description("Timer of RestTemplate operation");
+	private Timer getTimer(HttpRequest request, ClientHttpResponse response) {
+		Iterable<Tag> tags = this.tagProvider.getTags(urlTemplate.get(), request,
+				response);
+		Timer timer = (tags instanceof Tags) ? this.timers.get(tags) : null;
+		if (timer == null) {
+			timer = createTimer(tags);
+			if (tags instanceof Tags && this.timers.size() < MAX_CACHED_TIMERS) {
+				this.timers.put((Tags) tags, timer);
+			}
+		}
+		return timer;
+	}
+
+	private Timer createTimer(Iterable<Tag> tags) {
+		return Timer.builder(this.metricName).tags(tags)
+				.description("Timer of RestTemplate operation")
+				.register(this.meterRegistry);
 	}
 
 }
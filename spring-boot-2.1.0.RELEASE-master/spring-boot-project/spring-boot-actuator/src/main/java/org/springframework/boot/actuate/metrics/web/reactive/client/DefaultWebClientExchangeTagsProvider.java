@@ -16,15 +16,18 @@
 
 package org.springframework.boot.actuate.metrics.web.reactive.client;
 
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 
 /**
- * Default implementation of {@link WebClientExchangeTagsProvider}.
+ * Default implementation of {@link WebClientExchangeTagsProvider}. The {@code uri} tag of
+ * the first URI templates and paths that are used is cached.
  *
  * @author Brian Clozel
  * @since 2.1.0
@@ -32,20 +35,36 @@ import org.springframework.web.reactive.function.client.ClientResponse;
 public class DefaultWebClientExchangeTagsProvider
 		implements WebClientExchangeTagsProvider {
 
+	private static final int MAX_CACHED_URI_TAGS = 1000;
+
+	private final Map<String, Tag> uriTags = new ConcurrentHashMap<>();
+
 	@Override
 	public Iterable<Tag> tags(ClientRequest request, ClientResponse response,
 			Throwable throwable) {
 		Tag method = WebClientExchangeTags.method(request);
-		Tag uri = WebClientExchangeTags.uri(request);
+		Tag uri = getUriTag(request);
 		Tag clientName = WebClientExchangeTags.clientName(request);
 		if (response != null) {
-			return Arrays.asList(method, uri, clientName,
+			return Tags.of(method, uri, clientName,
 					WebClientExchangeTags.status(response));
 		}
 		else {
-			return Arrays.asList(method, uri, clientName,
+			return Tags.of(method, uri, clientName,
 					WebClientExchangeTags.status(throwable));
 		}
 	}
 
+	private Tag getUriTag(ClientRequest request) {
+		String uriTemplate = WebClientExchangeTags.getUriTemplate(request);
+		Tag tag = this.uriTags.get(uriTemplate);
+		if (tag == null) {
+			tag = WebClientExchangeTags.uri(request);
+			if (this.uriTags.size() < MAX_CACHED_URI_TAGS) {
+				this.uriTags.put(uriTemplate, tag);
+			}
+		}
+		return tag;
+	}
+
 }
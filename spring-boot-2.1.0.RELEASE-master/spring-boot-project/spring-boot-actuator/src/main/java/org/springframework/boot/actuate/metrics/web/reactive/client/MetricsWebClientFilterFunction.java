@@ -16,10 +16,13 @@
 
 package org.springframework.boot.actuate.metrics.web.reactive.client;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.publisher.Mono;
 
@@ -40,12 +43,16 @@ public class MetricsWebClientFilterFunction implements ExchangeFilterFunction {
 	private static final String METRICS_WEBCLIENT_START_TIME = MetricsWebClientFilterFunction.class
 			.getName() + ".START_TIME";
 
+	private static final int MAX_CACHED_TIMERS = 1000;
+
 	private final MeterRegistry meterRegistry;
 
 	private final WebClientExchangeTagsProvider tagProvider;
 
 	private final String metricName;
 
+	private final Map<Tags, Timer> timers = new ConcurrentHashMap<>();
+
 	public MetricsWebClientFilterFunction(MeterRegistry meterRegistry,
 			WebClientExchangeTagsProvider tagProvider, String metricName) {
 		this.meterRegistry = meterRegistry;
@@ -63,13 +70,27 @@ public class MetricsWebClientFilterFunction implements ExchangeFilterFunction {
 				Throwable throwable = signal.getThrowable();
 				Iterable<Tag> tags = this.tagProvider.tags(clientRequest, clientResponse,
 						throwable);
-				Timer.builder(this.metricName).tags(tags)
-						.description("Timer of WebClient operation")
-						.register(this.meterRegistry)
-						.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+				getTimer(tags).record(System.nanoTime() - startTime,
+						TimeUnit.NANOSECONDS);
 			}
 		}).subscriberContext((context) -> context.put(METRICS_WEBCLIENT_START_TIME,
 				System.nanoTime()));
 	}
 
+	private Timer getTimer(Iterable<Tag> tags) {
+		Timer timer = (tags instanceof Tags) ? this.timers.get(tags) : null;
+		if (timer == null) {
+			timer = createTimer(tags);
+			if (tags instanceof Tags && this.timers.size() < MAX_CACHED_TIMERS) {
+				this.timers.put((Tags) tags, timer);
+			}
+		}
+		return timer;
+	}
+
+	private Timer createTimer(Iterable<Tag> tags) {
+		return Timer.builder(this.metricName).tags(tags)
+				.description("Timer of WebClient operation").register(this.meterRegistry);
+	}
+
 }
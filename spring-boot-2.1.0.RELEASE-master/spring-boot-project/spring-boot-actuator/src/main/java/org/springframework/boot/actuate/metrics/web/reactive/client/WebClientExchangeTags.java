@@ -66,9 +66,12 @@ public final class WebClientExchangeTags {
 	 * @return the uri tag
 	 */
 	public static Tag uri(ClientRequest request) {
-		String uri = (String) request.attribute(URI_TEMPLATE_ATTRIBUTE)
+		return Tag.of("uri", extractPath(getUriTemplate(request)));
+	}
+
+	static String getUriTemplate(ClientRequest request) {
+		return (String) request.attribute(URI_TEMPLATE_ATTRIBUTE)
 				.orElseGet(() -> request.url().getPath());
-		return Tag.of("uri", extractPath(uri));
 	}
 
 	private static String extractPath(String url) {
@@ -16,14 +16,22 @@
 
 package org.springframework.boot.actuate.metrics.web.reactive.server;
 
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
- * Default implementation of {@link WebFluxTagsProvider}.
+ * Default implementation of {@link WebFluxTagsProvider}. Tags of exchanges that were
+ * mapped to a pattern are cached per combination of method, pattern, status and exception
+ * type.
  *
  * @author Jon Schneider
  * @author Andy Wilkinson
@@ -31,12 +39,82 @@ import org.springframework.web.server.ServerWebExchange;
  */
 public class DefaultWebFluxTagsProvider implements WebFluxTagsProvider {
 
+	private static final int MAX_CACHED_TAGS = 1000;
+
+	private final Map<TagsKey, Tags> cachedTags = new ConcurrentHashMap<>();
+
 	@Override
 	public Iterable<Tag> httpRequestTags(ServerWebExchange exchange,
 			Throwable exception) {
-		return Arrays.asList(WebFluxTags.method(exchange), WebFluxTags.uri(exchange),
+		PathPattern pathPattern = exchange
+				.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (pathPattern == null) {
+			return createTags(exchange, exception);
+		}
+		TagsKey key = new TagsKey(exchange.getRequest().getMethodValue(),
+				pathPattern.getPatternString(), exchange.getResponse().getStatusCode(),
+				(exception != null) ? exception.getClass() : null);
+		Tags tags = this.cachedTags.get(key);
+		if (tags == null) {
+			tags = createTags(exchange, exception);
+			if (this.cachedTags.size() < MAX_CACHED_TAGS) {
+				this.cachedTags.put(key, tags);
+			}
+		}
+		return tags;
+	}
+
+	private Tags createTags(ServerWebExchange exchange, Throwable exception) {
+		return Tags.of(WebFluxTags.method(exchange), WebFluxTags.uri(exchange),
 				WebFluxTags.exception(exception), WebFluxTags.status(exchange),
 				WebFluxTags.outcome(exchange));
 	}
 
+	/**
+	 * Key of the tags of an exchange that was mapped to a pattern.
+	 */
+	private static final class TagsKey {
+
+		private final String method;
+
+		private final String pattern;
+
+		private final HttpStatus status;
+
+		private final Class<?> exceptionType;
+
+		TagsKey(String method, String pattern, HttpStatus status,
+				Class<?> exceptionType) {
+			this.method = method;
+			this.pattern = pattern;
+			this.status = status;
+			this.exceptionType = exceptionType;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TagsKey other = (TagsKey) obj;
+			return this.status == other.status
+					&& ObjectUtils.nullSafeEquals(this.method, other.method)
+					&& this.pattern.equals(other.pattern)
+					&& this.exceptionType == other.exceptionType;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = ObjectUtils.nullSafeHashCode(this.method);
+			result = 31 * result + this.pattern.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.status);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.exceptionType);
+			return result;
+		}
+
+	}
+
 }
@@ -16,10 +16,14 @@
 
 package org.springframework.boot.actuate.metrics.web.reactive.server;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
@@ -40,6 +44,8 @@ import org.springframework.web.server.WebFilterChain;
 @Order(Ordered.HIGHEST_PRECEDENCE + 1)
 public class MetricsWebFilter implements WebFilter {
 
+	private static final int MAX_CACHED_TIMERS = 1000;
+
 	private final MeterRegistry registry;
 
 	private final WebFluxTagsProvider tagsProvider;
@@ -48,6 +54,8 @@ public class MetricsWebFilter implements WebFilter {
 
 	private final boolean autoTimeRequests;
 
+	private final Map<Tags, Timer> timers = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@code MetricsWebFilter}.
 	 * @param registry the registry to which metrics are recorded
@@ -96,14 +104,23 @@ public class MetricsWebFilter implements WebFilter {
 
 	private void success(ServerWebExchange exchange, long start) {
 		Iterable<Tag> tags = this.tagsProvider.httpRequestTags(exchange, null);
-		this.registry.timer(this.metricName, tags).record(System.nanoTime() - start,
-				TimeUnit.NANOSECONDS);
+		getTimer(tags).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 	}
 
 	private void error(ServerWebExchange exchange, long start, Throwable cause) {
 		Iterable<Tag> tags = this.tagsProvider.httpRequestTags(exchange, cause);
-		this.registry.timer(this.metricName, tags).record(System.nanoTime() - start,
-				TimeUnit.NANOSECONDS);
+		getTimer(tags).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	private Timer getTimer(Iterable<Tag> tags) {
+		Timer timer = (tags instanceof Tags) ? this.timers.get(tags) : null;
+		if (timer == null) {
+			timer = this.registry.timer(this.metricName, tags);
+			if (tags instanceof Tags && this.timers.size() < MAX_CACHED_TIMERS) {
+				this.timers.put((Tags) tags, timer);
+			}
+		}
+		return timer;
 	}
 
 }
@@ -16,23 +16,53 @@
 
 package org.springframework.boot.actuate.metrics.web.servlet;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 
+import org.springframework.util.ObjectUtils;
+
 /**
- * Default implementation of {@link WebMvcTagsProvider}.
+ * Default implementation of {@link WebMvcTagsProvider}. Tags of requests that were
+ * mapped to a pattern are cached per combination of method, pattern, status and exception
+ * type.
  *
  * @author Jon Schneider
  * @since 2.0.0
  */
 public class DefaultWebMvcTagsProvider implements WebMvcTagsProvider {
 
+	private static final int MAX_CACHED_TAGS = 1000;
+
+	private final Map<TagsKey, Tags> cachedTags = new ConcurrentHashMap<>();
+
 	@Override
 	public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response,
 			Object handler, Throwable exception) {
+		String pattern = (request != null) ? WebMvcTags.getMatchingPattern(request)
+				: null;
+		if (pattern == null || response == null) {
+			return createTags(request, response, exception);
+		}
+		TagsKey key = new TagsKey(request.getMethod(), pattern, response.getStatus(),
+				(exception != null) ? exception.getClass() : null);
+		Tags tags = this.cachedTags.get(key);
+		if (tags == null) {
+			tags = createTags(request, response, exception);
+			if (this.cachedTags.size() < MAX_CACHED_TAGS) {
+				this.cachedTags.put(key, tags);
+			}
+		}
+		return tags;
+	}
+
+	private Tags createTags(HttpServletRequest request, HttpServletResponse response,
+			Throwable exception) {
 		return Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response),
 				WebMvcTags.exception(exception), WebMvcTags.status(response),
 				WebMvcTags.outcome(response));
@@ -43,4 +73,50 @@ public class DefaultWebMvcTagsProvider implements WebMvcTagsProvider {
 		return Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, null));
 	}
 
+	/**
+	 * Key of the tags of a request that was mapped to a pattern.
+	 */
+	private static final class TagsKey {
+
+		private final String method;
+
+		private final String pattern;
+
+		private final int status;
+
+		private final Class<?> exceptionType;
+
+		TagsKey(String method, String pattern, int status, Class<?> exceptionType) {
+			this.method = method;
+			this.pattern = pattern;
+			this.status = status;
+			this.exceptionType = exceptionType;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TagsKey other = (TagsKey) obj;
+			return this.status == other.status
+					&& ObjectUtils.nullSafeEquals(this.method, other.method)
+					&& this.pattern.equals(other.pattern)
+					&& this.exceptionType == other.exceptionType;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = ObjectUtils.nullSafeHashCode(this.method);
+			result = 31 * result + this.pattern.hashCode();
+			result = 31 * result + this.status;
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.exceptionType);
+			return result;
+		}
+
+	}
+
 }
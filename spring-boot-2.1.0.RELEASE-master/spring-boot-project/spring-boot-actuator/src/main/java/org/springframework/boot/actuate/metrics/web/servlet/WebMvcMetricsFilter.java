@@ -22,7 +22,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import javax.servlet.FilterChain;
@@ -35,6 +37,7 @@ import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Timer.Builder;
 import io.micrometer.core.instrument.Timer.Sample;
@@ -65,6 +68,8 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
 	private static final Log logger = LogFactory.getLog(WebMvcMetricsFilter.class);
 
+	private static final int MAX_CACHED_TIMERS = 1000;
+
 	private final ApplicationContext context;
 
 	private final MeterRegistry registry;
@@ -75,6 +80,8 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
 	private final boolean autoTimeRequests;
 
+	private final Map<Tags, Timer> timers = new ConcurrentHashMap<>();
+
 	private volatile HandlerMappingIntrospector introspector;
 
 	/**
@@ -221,7 +228,7 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 			stop(timerSample, tags, Timer.builder(annotation, this.metricName));
 		}
 		if (timingContext.getAnnotations().isEmpty() && this.autoTimeRequests) {
-			stop(timerSample, tags, Timer.builder(this.metricName));
+			timerSample.stop(getTimer(tags.get()));
 		}
 		for (LongTaskTimer.Sample sample : timingContext.getLongTaskTimerSamples()) {
 			sample.stop();
@@ -233,6 +240,17 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 		timerSample.stop(builder.tags(tags.get()).register(this.registry));
 	}
 
+	private Timer getTimer(Iterable<Tag> tags) {
+		Timer timer = (tags instanceof Tags) ? this.timers.get(tags) : null;
+		if (timer == null) {
+			timer = Timer.builder(this.metricName).tags(tags).register(this.registry);
+			if (tags instanceof Tags && this.timers.size() < MAX_CACHED_TIMERS) {
+				this.timers.put((Tags) tags, timer);
+			}
+		}
+		return timer;
+	}
+
 	/**
 	 * Context object attached to a request to retain information across the multiple
 	 * filter calls that happen with async requests.
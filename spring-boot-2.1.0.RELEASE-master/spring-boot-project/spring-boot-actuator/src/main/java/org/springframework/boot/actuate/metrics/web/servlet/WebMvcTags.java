@@ -140,7 +140,7 @@ public final class WebMvcTags {
 		}
 	}
 
-	private static String getMatchingPattern(HttpServletRequest request) {
+	static String getMatchingPattern(HttpServletRequest request) {
 		PathPattern dataRestPathPattern = (PathPattern) request
 				.getAttribute(DATA_REST_PATH_PATTERN_ATTRIBUTE);
 		if (dataRestPathPattern != null) {
@@ -17,15 +17,20 @@
 package org.springframework.boot.actuate.metrics.web.tomcat;
 
 import java.util.Collections;
+import java.util.concurrent.Executor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.tomcat.TomcatMetrics;
 import org.apache.catalina.Container;
 import org.apache.catalina.Context;
 import org.apache.catalina.Manager;
+import org.apache.catalina.connector.Connector;
 
+import org.springframework.boot.actuate.metrics.task.VirtualThreadTaskExecutorMetrics;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
 import org.springframework.boot.web.context.WebServerApplicationContext;
 import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
 import org.springframework.boot.web.server.WebServer;
@@ -56,22 +61,48 @@ public class TomcatMetricsBinder implements ApplicationListener<ApplicationStart
 	@Override
 	public void onApplicationEvent(ApplicationStartedEvent event) {
 		ApplicationContext applicationContext = event.getApplicationContext();
-		Manager manager = findManager(applicationContext);
+		TomcatWebServer webServer = findWebServer(applicationContext);
+		Manager manager = findManager(webServer);
 		new TomcatMetrics(manager, this.tags).bindTo(this.meterRegistry);
+		bindVirtualThreadExecutors(webServer);
 	}
 
-	private Manager findManager(ApplicationContext applicationContext) {
+	private void bindVirtualThreadExecutors(TomcatWebServer webServer) {
+		if (webServer == null) {
+			return;
+		}
+		for (Connector connector : webServer.getTomcat().getService()
+				.findConnectors()) {
+			Executor executor = connector.getProtocolHandler().getExecutor();
+			if (executor instanceof VirtualThreadTaskExecutor) {
+				// Request processing is not pooled so measure its concurrency instead
+				Tags tags = Tags.concat(this.tags, "port",
+						String.valueOf(connector.getLocalPort()));
+				new VirtualThreadTaskExecutorMetrics((VirtualThreadTaskExecutor) executor,
+						"tomcat", tags).bindTo(this.meterRegistry);
+			}
+		}
+	}
+
+	private TomcatWebServer findWebServer(ApplicationContext applicationContext) {
 		if (applicationContext instanceof WebServerApplicationContext) {
 			WebServer webServer = ((WebServerApplicationContext) applicationContext)
 					.getWebServer();
 			if (webServer instanceof TomcatWebServer) {
-				Context context = findContext((TomcatWebServer) webServer);
-				return context.getManager();
+				return (TomcatWebServer) webServer;
 			}
 		}
 		return null;
 	}
 
+	private Manager findManager(TomcatWebServer webServer) {
+		if (webServer != null) {
+			Context context = findContext(webServer);
+			return context.getManager();
+		}
+		return null;
+	}
+
 	private Context findContext(TomcatWebServer tomcatWebServer) {
 		for (Container container : tomcatWebServer.getTomcat().getHost().findChildren()) {
 			if (container instanceof Context) {
@@ -25,7 +25,6 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.springframework.http.HttpHeaders;
 
@@ -102,9 +101,16 @@ public class HttpExchangeTracer {
 		if (!this.includes.contains(include)) {
 			return new LinkedHashMap<>();
 		}
-		return headersSupplier.get().entrySet().stream()
-				.filter((entry) -> headerPredicate.test(entry.getKey()))
-				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		Map<String, List<String>> headers = headersSupplier.get();
+		// Sized up front so that the map is never resized while headers are copied
+		Map<String, List<String>> included = new LinkedHashMap<>(
+				(int) (headers.size() / 0.75f) + 1);
+		headers.forEach((name, values) -> {
+			if (headerPredicate.test(name)) {
+				included.put(name, values);
+			}
+		});
+		return included;
 	}
 
 	private final class FilteredTraceableRequest implements TraceableRequest {
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * Decides which HTTP request-response exchanges are traced and recorded. With
+ * {@link Mode#HEAD head-based} sampling, the decision is made when the request is
+ * received so that no trace is created for exchanges that are not sampled. With
+ * {@link Mode#TAIL tail-based} sampling, every exchange is traced and the decision is
+ * made once the response has been sent: traces of server errors and of exchanges
+ * slower than the slow threshold are always recorded and the rate only applies to the
+ * remaining traces.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class HttpTraceSampler {
+
+	private final Mode mode;
+
+	private final double rate;
+
+	private final Duration slowThreshold;
+
+	/**
+	 * Create a new {@link HttpTraceSampler} instance.
+	 * @param mode the sampling mode
+	 * @param rate the fraction of exchanges that are sampled, between 0.0 and 1.0
+	 * @param slowThreshold the time taken above which traces are always recorded when
+	 * using {@link Mode#TAIL tail-based} sampling, or {@code null} if only server errors
+	 * should always be recorded
+	 */
+	public HttpTraceSampler(Mode mode, double rate, Duration slowThreshold) {
+		Assert.notNull(mode, "Mode must not be null");
+		Assert.isTrue(rate >= 0.0 && rate <= 1.0, "Rate must be between 0.0 and 1.0");
+		this.mode = mode;
+		this.rate = rate;
+		this.slowThreshold = slowThreshold;
+	}
+
+	/**
+	 * Return whether the exchange initiated by the given {@code request} should be
+	 * traced. Called when the request is received, before any trace is created.
+	 * @param request the received request
+	 * @return {@code true} if the exchange should be traced
+	 */
+	public boolean isTraced(TraceableRequest request) {
+		return this.mode != Mode.HEAD || sample();
+	}
+
+	/**
+	 * Return whether the given {@code trace} of a completed exchange should be added to
+	 * the {@link HttpTraceRepository}.
+	 * @param trace the trace of the exchange
+	 * @return {@code true} if the trace should be recorded
+	 */
+	public boolean isRecorded(HttpTrace trace) {
+		return this.mode != Mode.TAIL || isAlwaysRecorded(trace) || sample();
+	}
+
+	private boolean isAlwaysRecorded(HttpTrace trace) {
+		HttpTrace.Response response = trace.getResponse();
+		if (response != null && response.getStatus() >= 500) {
+			return true;
+		}
+		Long timeTaken = trace.getTimeTaken();
+		return this.slowThreshold != null && timeTaken != null
+				&& timeTaken >= this.slowThreshold.toMillis();
+	}
+
+	private boolean sample() {
+		if (this.rate >= 1.0) {
+			return true;
+		}
+		return this.rate > 0.0 && ThreadLocalRandom.current().nextDouble() < this.rate;
+	}
+
+	/**
+	 * Sampling modes.
+	 */
+	public enum Mode {
+
+		/**
+		 * Decide whether to trace an exchange when its request is received.
+		 */
+		HEAD,
+
+		/**
+		 * Trace every exchange and decide whether to record it once it has completed,
+		 * always recording server errors and slow exchanges.
+		 */
+		TAIL
+
+	}
+
+}
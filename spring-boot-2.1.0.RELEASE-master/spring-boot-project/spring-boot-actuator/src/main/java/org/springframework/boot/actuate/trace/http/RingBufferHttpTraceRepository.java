@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free, fixed-capacity implementation of {@link HttpTraceRepository}. Traces are
+ * written to a ring buffer so that adding a trace never blocks concurrent requests.
+ * Once the buffer is full, the oldest trace is overwritten.
+ *
+ * @author agent
+ * @since 2.1.0
+ * @see HttpTraceSampler
+ */
+public class RingBufferHttpTraceRepository implements HttpTraceRepository {
+
+	private final AtomicReferenceArray<Slot> slots;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private volatile boolean reverse = true;
+
+	/**
+	 * Create a new {@link RingBufferHttpTraceRepository} with a capacity of 100.
+	 */
+	public RingBufferHttpTraceRepository() {
+		this(100);
+	}
+
+	/**
+	 * Create a new {@link RingBufferHttpTraceRepository} instance.
+	 * @param capacity the maximum number of traces to keep
+	 */
+	public RingBufferHttpTraceRepository(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		this.slots = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Flag to say that the repository lists traces in reverse order.
+	 * @param reverse flag value (default true)
+	 */
+	public void setReverse(boolean reverse) {
+		this.reverse = reverse;
+	}
+
+	@Override
+	public List<HttpTrace> findAll() {
+		int capacity = this.slots.length();
+		long last = this.sequence.get();
+		long first = Math.max(0, last - capacity);
+		List<HttpTrace> traces = new ArrayList<>((int) (last - first));
+		for (long sequence = first; sequence < last; sequence++) {
+			Slot slot = this.slots.get((int) (sequence % capacity));
+			// Skip slots that have not been written yet or that have already been
+			// overwritten by a more recent trace
+			if (slot != null && slot.sequence == sequence) {
+				traces.add(slot.trace);
+			}
+		}
+		if (this.reverse) {
+			Collections.reverse(traces);
+		}
+		return Collections.unmodifiableList(traces);
+	}
+
+	@Override
+	public void add(HttpTrace trace) {
+		long sequence = this.sequence.getAndIncrement();
+		this.slots.set((int) (sequence % this.slots.length()), new Slot(sequence, trace));
+	}
+
+	/**
+	 * A slot in the ring buffer.
+	 */
+	private static final class Slot {
+
+		private final long sequence;
+
+		private final HttpTrace trace;
+
+		private Slot(long sequence, HttpTrace trace) {
+			this.sequence = sequence;
+			this.trace = trace;
+		}
+
+	}
+
+}
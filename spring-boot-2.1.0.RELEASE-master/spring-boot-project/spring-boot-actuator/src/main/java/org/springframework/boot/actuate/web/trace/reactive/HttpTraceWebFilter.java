@@ -24,6 +24,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
@@ -55,6 +56,8 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
 
 	private final Set<Include> includes;
 
+	private HttpTraceSampler sampler;
+
 	public HttpTraceWebFilter(HttpTraceRepository repository, HttpExchangeTracer tracer,
 			Set<Include> includes) {
 		this.repository = repository;
@@ -71,15 +74,30 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
 		this.order = order;
 	}
 
+	/**
+	 * Set the {@link HttpTraceSampler} used to decide which exchanges are traced and
+	 * recorded. By default, every exchange is traced and recorded.
+	 * @param sampler the sampler or {@code null}
+	 * @since 2.1.0
+	 */
+	public void setSampler(HttpTraceSampler sampler) {
+		this.sampler = sampler;
+	}
+
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerWebExchangeTraceableRequest request = new ServerWebExchangeTraceableRequest(
+				exchange);
+		if (this.sampler != null && !this.sampler.isTraced(request)) {
+			return chain.filter(exchange);
+		}
 		Mono<?> principal = (this.includes.contains(Include.PRINCIPAL)
 				? exchange.getPrincipal().cast(Object.class).defaultIfEmpty(NONE)
 				: Mono.just(NONE));
 		Mono<?> session = (this.includes.contains(Include.SESSION_ID)
 				? exchange.getSession() : Mono.just(NONE));
 		return Mono.zip(principal, session)
-				.flatMap((tuple) -> filter(exchange, chain,
+				.flatMap((tuple) -> filter(exchange, chain, request,
 						asType(tuple.getT1(), Principal.class),
 						asType(tuple.getT2(), WebSession.class)));
 	}
@@ -92,9 +110,8 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
 	}
 
 	private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain,
-			Principal principal, WebSession session) {
-		ServerWebExchangeTraceableRequest request = new ServerWebExchangeTraceableRequest(
-				exchange);
+			ServerWebExchangeTraceableRequest request, Principal principal,
+			WebSession session) {
 		HttpTrace trace = this.tracer.receivedRequest(request);
 		return chain.filter(exchange).doAfterSuccessOrError((aVoid, ex) -> {
 			TraceableServerHttpResponse response = new TraceableServerHttpResponse(
@@ -102,7 +119,9 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
 							exchange.getResponse()) : exchange.getResponse());
 			this.tracer.sendingResponse(trace, response, () -> principal,
 					() -> getStartedSessionId(session));
-			this.repository.add(trace);
+			if (this.sampler == null || this.sampler.isRecorded(trace)) {
+				this.repository.add(trace);
+			}
 		});
 	}
 
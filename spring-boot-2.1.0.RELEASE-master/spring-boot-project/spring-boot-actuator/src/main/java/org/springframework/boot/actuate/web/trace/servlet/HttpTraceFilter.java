@@ -31,6 +31,7 @@ import javax.servlet.http.HttpSession;
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -55,6 +56,8 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
 
 	private final HttpExchangeTracer tracer;
 
+	private HttpTraceSampler sampler;
+
 	/**
 	 * Create a new {@link HttpTraceFilter} instance.
 	 * @param repository the trace repository
@@ -74,16 +77,27 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
 		this.order = order;
 	}
 
+	/**
+	 * Set the {@link HttpTraceSampler} used to decide which exchanges are traced and
+	 * recorded. By default, every exchange is traced and recorded.
+	 * @param sampler the sampler or {@code null}
+	 * @since 2.1.0
+	 */
+	public void setSampler(HttpTraceSampler sampler) {
+		this.sampler = sampler;
+	}
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request,
 			HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
-		if (!isRequestValid(request)) {
+		TraceableHttpServletRequest traceableRequest = new TraceableHttpServletRequest(
+				request);
+		if ((this.sampler != null && !this.sampler.isTraced(traceableRequest))
+				|| !isRequestValid(request)) {
 			filterChain.doFilter(request, response);
 			return;
 		}
-		TraceableHttpServletRequest traceableRequest = new TraceableHttpServletRequest(
-				request);
 		HttpTrace trace = this.tracer.receivedRequest(traceableRequest);
 		int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
 		try {
@@ -97,7 +111,9 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
 							: response);
 			this.tracer.sendingResponse(trace, traceableResponse,
 					request::getUserPrincipal, () -> getSessionId(request));
-			this.repository.add(trace);
+			if (this.sampler == null || this.sampler.isRecorded(trace)) {
+				this.repository.add(trace);
+			}
 		}
 	}
 
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.audit;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link MappedFileAuditEventRepository}.
+ *
+ * @author agent
+ */
+public class MappedFileAuditEventRepositoryTests {
+
+	@Rule
+	public final TemporaryFolder temp = new TemporaryFolder();
+
+	private File directory;
+
+	private MappedFileAuditEventRepository repository;
+
+	@Before
+	public void setup() throws IOException {
+		this.directory = this.temp.newFolder();
+		this.repository = new MappedFileAuditEventRepository(this.directory, 1024, 2);
+	}
+
+	@After
+	public void close() {
+		this.repository.close();
+	}
+
+	@Test
+	public void findReturnsEventsInOrder() {
+		this.repository.add(new AuditEvent("dave", "a"));
+		this.repository.add(new AuditEvent("dave", "b"));
+		List<AuditEvent> events = this.repository.find("dave", null, null);
+		assertThat(events).extracting(AuditEvent::getType).containsExactly("a", "b");
+	}
+
+	@Test
+	public void addNullAuditEvent() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> this.repository.add(null))
+				.withMessageContaining("AuditEvent must not be null");
+	}
+
+	@Test
+	public void findByPrincipal() {
+		this.repository.add(new AuditEvent("dave", "a"));
+		this.repository.add(new AuditEvent("phil", "b"));
+		this.repository.add(new AuditEvent("dave", "c"));
+		this.repository.add(new AuditEvent("phil", "d"));
+		List<AuditEvent> events = this.repository.find("dave", null, null);
+		assertThat(events).extracting(AuditEvent::getType).containsExactly("a", "c");
+		assertThat(this.repository.find("andy", null, null)).isEmpty();
+	}
+
+	@Test
+	public void findByPrincipalAndType() {
+		this.repository.add(new AuditEvent("dave", "a"));
+		this.repository.add(new AuditEvent("phil", "b"));
+		this.repository.add(new AuditEvent("dave", "c"));
+		this.repository.add(new AuditEvent("dave", "a"));
+		List<AuditEvent> events = this.repository.find("dave", null, "a");
+		assertThat(events).hasSize(2).allMatch(
+				(event) -> event.getPrincipal().equals("dave")
+						&& event.getType().equals("a"));
+		assertThat(this.repository.find("phil", null, "a")).isEmpty();
+	}
+
+	@Test
+	public void findByDate() {
+		Instant instant = Instant.now();
+		Map<String, Object> data = new HashMap<>();
+		this.repository.add(new AuditEvent(instant, "dave", "a", data));
+		this.repository.add(new AuditEvent(instant.plus(1, ChronoUnit.DAYS), "phil",
+				"b", data));
+		this.repository.add(new AuditEvent(instant.plus(2, ChronoUnit.DAYS), "dave",
+				"c", data));
+		List<AuditEvent> events = this.repository.find(null, instant, null);
+		assertThat(events).extracting(AuditEvent::getType).containsExactly("b", "c");
+		events = this.repository.find("dave", instant, null);
+		assertThat(events).extracting(AuditEvent::getType).containsExactly("c");
+		events = this.repository.find(null, instant.plus(2, ChronoUnit.DAYS), null);
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	public void eventDataIsRetained() {
+		this.repository.add(new AuditEvent("dave", "a", "one=1", "two=2"));
+		AuditEvent event = this.repository.find("dave", null, null).get(0);
+		assertThat(event.getData()).containsEntry("one", "1").containsEntry("two",
+				"2");
+	}
+
+	@Test
+	public void nonSerializableDataIsConvertedToString() {
+		Map<String, Object> data = Collections.singletonMap("value", new Object() {
+
+			@Override
+			public String toString() {
+				return "custom";
+			}
+
+		});
+		this.repository.add(new AuditEvent("dave", "a", data));
+		AuditEvent event = this.repository.find("dave", null, null).get(0);
+		assertThat(event.getData()).containsEntry("value", "custom");
+	}
+
+	@Test
+	public void oldestSegmentIsEvicted() {
+		for (int i = 0; i < 100; i++) {
+			this.repository.add(new AuditEvent("dave", "type-" + i));
+		}
+		List<AuditEvent> events = this.repository.find("dave", null, null);
+		assertThat(events).isNotEmpty().hasSizeLessThan(100);
+		assertThat(events.get(events.size() - 1).getType()).isEqualTo("type-99");
+		assertThat(this.directory.list()).hasSize(2);
+	}
+
+	@Test
+	public void addEventLargerThanSegment() {
+		StringBuilder value = new StringBuilder();
+		for (int i = 0; i < 1024; i++) {
+			value.append("x");
+		}
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository
+				.add(new AuditEvent("dave", "a", "value=" + value)))
+				.withMessageContaining("does not fit in a segment");
+	}
+
+	@Test
+	public void existingSegmentsAreDeleted() throws IOException {
+		this.repository.add(new AuditEvent("dave", "a"));
+		MappedFileAuditEventRepository repository = new MappedFileAuditEventRepository(
+				this.directory, 1024, 2);
+		assertThat(repository.find("dave", null, null)).isEmpty();
+		repository.close();
+	}
+
+}
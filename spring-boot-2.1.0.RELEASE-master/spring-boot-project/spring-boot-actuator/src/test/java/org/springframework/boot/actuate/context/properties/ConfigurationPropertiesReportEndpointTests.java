@@ -26,6 +26,7 @@ import java.util.function.BiConsumer;
 
 import org.junit.Test;
 
+import org.springframework.boot.actuate.context.properties.ConfigurationPropertiesReportEndpoint.ApplicationConfigurationProperties;
 import org.springframework.boot.actuate.context.properties.ConfigurationPropertiesReportEndpoint.ConfigurationPropertiesBeanDescriptor;
 import org.springframework.boot.actuate.context.properties.ConfigurationPropertiesReportEndpoint.ContextConfigurationProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -34,6 +35,9 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -197,6 +201,46 @@ public class ConfigurationPropertiesReportEndpointTests {
 		});
 	}
 
+	@Test
+	public void reportIsReusedWhileEnvironmentIsUnchanged() {
+		new ApplicationContextRunner().withUserConfiguration(Config.class)
+				.run((context) -> {
+					ConfigurationPropertiesReportEndpoint endpoint = context
+							.getBean(ConfigurationPropertiesReportEndpoint.class);
+					ApplicationConfigurationProperties report = endpoint
+							.configurationProperties();
+					assertThat(endpoint.configurationProperties()).isSameAs(report);
+				});
+	}
+
+	@Test
+	public void reportIsCreatedAgainWhenEnvironmentChanges() {
+		new ApplicationContextRunner().withUserConfiguration(Config.class)
+				.run((context) -> {
+					ConfigurationPropertiesReportEndpoint endpoint = context
+							.getBean(ConfigurationPropertiesReportEndpoint.class);
+					ApplicationConfigurationProperties report = endpoint
+							.configurationProperties();
+					((ConfigurableEnvironment) context.getEnvironment())
+							.getPropertySources().addFirst(new MapPropertySource("test",
+									Collections.singletonMap("test.name", "spring")));
+					assertThat(endpoint.configurationProperties()).isNotSameAs(report);
+				});
+	}
+
+	@Test
+	public void reportIsCreatedAgainWhenContextIsRefreshed() {
+		new ApplicationContextRunner().withUserConfiguration(Config.class)
+				.run((context) -> {
+					ConfigurationPropertiesReportEndpoint endpoint = context
+							.getBean(ConfigurationPropertiesReportEndpoint.class);
+					ApplicationConfigurationProperties report = endpoint
+							.configurationProperties();
+					endpoint.onApplicationEvent(new ContextRefreshedEvent(context));
+					assertThat(endpoint.configurationProperties()).isNotSameAs(report);
+				});
+	}
+
 	private void load(
 			BiConsumer<ApplicationContext, ContextConfigurationProperties> properties) {
 		load(Collections.emptyList(), properties);
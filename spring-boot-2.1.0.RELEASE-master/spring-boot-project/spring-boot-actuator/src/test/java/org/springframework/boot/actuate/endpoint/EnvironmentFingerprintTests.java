@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EnvironmentFingerprint}.
+ *
+ * @author agent
+ */
+public class EnvironmentFingerprintTests {
+
+	@Test
+	public void fingerprintIsStableWhenEnvironmentIsUnchanged() {
+		StandardEnvironment environment = new StandardEnvironment();
+		assertThat(EnvironmentFingerprint.compute(environment))
+				.isEqualTo(EnvironmentFingerprint.compute(environment));
+	}
+
+	@Test
+	public void fingerprintChangesWhenMapSourceContentChanges() {
+		StandardEnvironment environment = new StandardEnvironment();
+		Map<String, Object> map = new HashMap<>();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", map));
+		long fingerprint = EnvironmentFingerprint.compute(environment);
+		map.put("foo", "bar");
+		assertThat(EnvironmentFingerprint.compute(environment)).isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	public void fingerprintChangesWhenEnumerableSourcePropertyNamesChange() {
+		StandardEnvironment environment = new StandardEnvironment();
+		List<String> names = new ArrayList<>();
+		environment.getPropertySources().addFirst(new ListPropertySource(names));
+		long fingerprint = EnvironmentFingerprint.compute(environment);
+		names.add("foo");
+		assertThat(EnvironmentFingerprint.compute(environment)).isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	public void fingerprintChangesWhenActiveProfilesChange() {
+		StandardEnvironment environment = new StandardEnvironment();
+		long fingerprint = EnvironmentFingerprint.compute(environment);
+		environment.setActiveProfiles("test");
+		assertThat(EnvironmentFingerprint.compute(environment)).isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	public void sourceSharedByEnvironmentsIsHashedOnce() {
+		AtomicInteger hashes = new AtomicInteger();
+		Map<String, Object> map = new HashMap<String, Object>() {
+
+			@Override
+			public int hashCode() {
+				hashes.incrementAndGet();
+				return super.hashCode();
+			}
+
+		};
+		StandardEnvironment parent = new StandardEnvironment();
+		parent.getPropertySources().addFirst(new MapPropertySource("test", map));
+		StandardEnvironment child = new StandardEnvironment();
+		child.merge(parent);
+		EnvironmentFingerprint.compute(child, parent);
+		assertThat(hashes.get()).isEqualTo(1);
+	}
+
+	private static class ListPropertySource
+			extends EnumerablePropertySource<List<String>> {
+
+		ListPropertySource(List<String> names) {
+			super("list", names);
+		}
+
+		@Override
+		public String[] getPropertyNames() {
+			return getSource().toArray(new String[0]);
+		}
+
+		@Override
+		public Object getProperty(String name) {
+			return getSource().contains(name) ? "value" : null;
+		}
+
+	}
+
+}
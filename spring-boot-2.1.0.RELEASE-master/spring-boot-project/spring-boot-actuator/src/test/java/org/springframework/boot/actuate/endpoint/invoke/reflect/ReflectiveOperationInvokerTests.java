@@ -16,6 +16,9 @@
 
 package org.springframework.boot.actuate.endpoint.invoke.reflect;
 
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.Principal;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -32,6 +35,8 @@ import org.springframework.util.ReflectionUtils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -119,6 +124,48 @@ public class ReflectiveOperationInvokerTests {
 		assertThat(result).isEqualTo("4321");
 	}
 
+	@Test
+	public void invokeShouldResolveSecurityContextAndPrincipal() {
+		OperationMethod operationMethod = new OperationMethod(
+				ReflectionUtils.findMethod(Example.class, "describe",
+						SecurityContext.class, Principal.class),
+				OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(this.target,
+				operationMethod, this.parameterValueMapper);
+		SecurityContext securityContext = mock(SecurityContext.class);
+		Principal principal = mock(Principal.class);
+		given(principal.getName()).willReturn("alice");
+		given(securityContext.getPrincipal()).willReturn(principal);
+		Object result = invoker.invoke(
+				new InvocationContext(securityContext, Collections.emptyMap()));
+		assertThat(result).isEqualTo("alice");
+	}
+
+	@Test
+	public void invokeWhenMethodThrowsRuntimeExceptionShouldRethrow() {
+		OperationMethod operationMethod = new OperationMethod(
+				ReflectionUtils.findMethod(Example.class, "fail"), OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(this.target,
+				operationMethod, this.parameterValueMapper);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> invoker.invoke(new InvocationContext(
+						mock(SecurityContext.class), Collections.emptyMap())))
+				.withMessage("failure");
+	}
+
+	@Test
+	public void invokeWhenMethodThrowsCheckedExceptionShouldWrap() {
+		OperationMethod operationMethod = new OperationMethod(
+				ReflectionUtils.findMethod(Example.class, "failWithCheckedException"),
+				OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(this.target,
+				operationMethod, this.parameterValueMapper);
+		assertThatExceptionOfType(UndeclaredThrowableException.class)
+				.isThrownBy(() -> invoker.invoke(new InvocationContext(
+						mock(SecurityContext.class), Collections.emptyMap())))
+				.withCauseInstanceOf(IOException.class);
+	}
+
 	static class Example {
 
 		String reverse(String name) {
@@ -129,6 +176,19 @@ public class ReflectiveOperationInvokerTests {
 			return new StringBuilder(String.valueOf(name)).reverse().toString();
 		}
 
+		String describe(SecurityContext securityContext, Principal principal) {
+			return (securityContext.getPrincipal() == principal) ? principal.getName()
+					: null;
+		}
+
+		String fail() {
+			throw new IllegalStateException("failure");
+		}
+
+		String failWithCheckedException() throws IOException {
+			throw new IOException("failure");
+		}
+
 	}
 
 }
@@ -78,19 +78,47 @@ public class CachingOperationInvokerTests {
 	}
 
 	@Test
-	public void targetAlwaysInvokedWithParameters() {
-		OperationInvoker target = mock(OperationInvoker.class);
+	public void cacheInTtlWithParameters() {
 		Map<String, Object> parameters = new HashMap<>();
 		parameters.put("test", "value");
 		parameters.put("something", null);
+		assertCacheIsUsed(parameters);
+	}
+
+	@Test
+	public void cacheInTtlWithEqualParameters() {
+		OperationInvoker target = mock(OperationInvoker.class);
 		InvocationContext context = new InvocationContext(mock(SecurityContext.class),
-				parameters);
-		given(target.invoke(context)).willReturn(new Object());
+				Collections.singletonMap("test", "value"));
+		InvocationContext equalContext = new InvocationContext(
+				mock(SecurityContext.class), Collections.singletonMap("test", "value"));
+		Object expected = new Object();
+		given(target.invoke(context)).willReturn(expected);
 		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 500L);
-		invoker.invoke(context);
-		invoker.invoke(context);
-		invoker.invoke(context);
-		verify(target, times(3)).invoke(context);
+		assertThat(invoker.invoke(context)).isSameAs(expected);
+		assertThat(invoker.invoke(equalContext)).isSameAs(expected);
+		verify(target, times(1)).invoke(context);
+		verifyNoMoreInteractions(target);
+	}
+
+	@Test
+	public void targetInvokedForEachCombinationOfParameters() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		InvocationContext first = new InvocationContext(mock(SecurityContext.class),
+				Collections.singletonMap("test", "one"));
+		InvocationContext second = new InvocationContext(mock(SecurityContext.class),
+				Collections.singletonMap("test", "two"));
+		Object firstResponse = new Object();
+		Object secondResponse = new Object();
+		given(target.invoke(first)).willReturn(firstResponse);
+		given(target.invoke(second)).willReturn(secondResponse);
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 500L);
+		assertThat(invoker.invoke(first)).isSameAs(firstResponse);
+		assertThat(invoker.invoke(second)).isSameAs(secondResponse);
+		assertThat(invoker.invoke(first)).isSameAs(firstResponse);
+		assertThat(invoker.invoke(second)).isSameAs(secondResponse);
+		verify(target, times(1)).invoke(first);
+		verify(target, times(1)).invoke(second);
 	}
 
 	@Test
@@ -295,6 +295,61 @@ public class EnvironmentEndpointTests {
 				.isEqualTo("apple");
 	}
 
+	@Test
+	public void environmentIsDescribedOnceWhileUnchanged() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		environment.getPropertySources()
+				.addFirst(singleKeyPropertySource("one", "a", "alpha"));
+		EnvironmentEndpoint endpoint = new EnvironmentEndpoint(environment);
+		EnvironmentDescriptor descriptor = endpoint.environment(null);
+		assertThat(endpoint.environment(null)).isSameAs(descriptor);
+	}
+
+	@Test
+	public void environmentIsDescribedAgainWhenPropertySourceIsAdded() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		environment.getPropertySources()
+				.addFirst(singleKeyPropertySource("one", "a", "alpha"));
+		EnvironmentEndpoint endpoint = new EnvironmentEndpoint(environment);
+		endpoint.environment(null);
+		environment.getPropertySources()
+				.addFirst(singleKeyPropertySource("two", "a", "apple"));
+		Map<String, PropertySourceDescriptor> sources = propertySources(
+				endpoint.environment(null));
+		assertThat(sources.keySet()).containsExactly("two", "one");
+	}
+
+	@Test
+	public void environmentIsDescribedAgainWhenPropertyValueChanges() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("a", "alpha");
+		environment.getPropertySources().addFirst(new MapPropertySource("one", source));
+		EnvironmentEndpoint endpoint = new EnvironmentEndpoint(environment);
+		endpoint.environment(null);
+		source.put("a", "apple");
+		Map<String, PropertySourceDescriptor> sources = propertySources(
+				endpoint.environment(null));
+		assertThat(sources.get("one").getProperties().get("a").getValue())
+				.isEqualTo("apple");
+	}
+
+	@Test
+	public void patternIsAppliedToSnapshot() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("a.one", "alpha");
+		source.put("b.one", "bravo");
+		environment.getPropertySources().addFirst(new MapPropertySource("one", source));
+		EnvironmentEndpoint endpoint = new EnvironmentEndpoint(environment);
+		EnvironmentDescriptor all = endpoint.environment(null);
+		EnvironmentDescriptor filtered = endpoint.environment("a.*");
+		assertThat(propertySources(filtered).get("one").getProperties())
+				.containsOnlyKeys("a.one");
+		assertThat(propertySources(all).get("one").getProperties())
+				.containsOnlyKeys("a.one", "b.one");
+	}
+
 	private static ConfigurableEnvironment emptyEnvironment() {
 		StandardEnvironment environment = new StandardEnvironment();
 		environment.getPropertySources()
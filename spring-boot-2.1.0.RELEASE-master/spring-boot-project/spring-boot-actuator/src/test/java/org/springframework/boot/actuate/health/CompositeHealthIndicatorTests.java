@@ -19,8 +19,15 @@ package org.springframework.boot.actuate.health;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -28,6 +35,9 @@ import org.mockito.MockitoAnnotations;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link CompositeHealthIndicator}
@@ -46,6 +56,8 @@ public class CompositeHealthIndicatorTests {
 	@Mock
 	private HealthIndicator two;
 
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
 	@Before
 	public void setup() {
 		MockitoAnnotations.initMocks(this);
@@ -57,6 +69,11 @@ public class CompositeHealthIndicatorTests {
 		this.healthAggregator = new OrderedHealthAggregator();
 	}
 
+	@After
+	public void shutdown() {
+		this.executor.shutdownNow();
+	}
+
 	@Test
 	public void createWithIndicators() {
 		Map<String, HealthIndicator> indicators = new HashMap<>();
@@ -90,4 +107,159 @@ public class CompositeHealthIndicatorTests {
 						+ ":{\"2\":\"2\"}}}}}}");
 	}
 
+	@Test
+	public void concurrentStrategyInvokesAllIndicators() {
+		Map<String, HealthIndicator> indicators = new HashMap<>();
+		indicators.put("one", this.one);
+		indicators.put("two", this.two);
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator, indicators).concurrentStrategy(this.executor);
+		Health result = composite.health();
+		assertThat(result.getDetails()).hasSize(2);
+		assertThat(result.getDetails()).containsEntry("one",
+				new Health.Builder().unknown().withDetail("1", "1").build());
+		assertThat(result.getDetails()).containsEntry("two",
+				new Health.Builder().unknown().withDetail("2", "2").build());
+	}
+
+	@Test
+	public void timeoutStrategyUsesTimeoutHealth() {
+		CountDownLatch latch = new CountDownLatch(1);
+		Map<String, HealthIndicator> indicators = new HashMap<>();
+		indicators.put("one", this.one);
+		indicators.put("slow", () -> {
+			awaitQuietly(latch);
+			return Health.up().build();
+		});
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator, indicators).concurrentStrategy(this.executor)
+						.timeoutStrategy(100, Health.down().build());
+		try {
+			Health result = composite.health();
+			assertThat(result.getDetails()).containsEntry("slow",
+					Health.down().build());
+			assertThat(result.getDetails()).containsEntry("one",
+					new Health.Builder().unknown().withDetail("1", "1").build());
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	public void timeoutStrategyWithoutTimeoutHealthReportsDownAndCancels()
+			throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Map<String, HealthIndicator> indicators = new HashMap<>();
+		indicators.put("one", () -> Health.up().build());
+		indicators.put("slow", () -> {
+			try {
+				Thread.sleep(10000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+			return Health.up().build();
+		});
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator, indicators).concurrentStrategy(this.executor)
+						.timeoutStrategy(100, null);
+		Health result = composite.health();
+		assertThat(result.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(result.getDetails()).containsEntry("slow",
+				Health.down().withDetail("timeout", "100ms").build());
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void timeoutStrategyWhenExecutorRejectsUsesTimeoutHealth() {
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator, Collections.singletonMap("one", this.one))
+						.concurrentStrategy((task) -> {
+							throw new RejectedExecutionException();
+						}).timeoutStrategy(100, null);
+		Health result = composite.health();
+		assertThat(result.getStatus()).isEqualTo(Status.DOWN);
+		verify(this.one, never()).health();
+	}
+
+	@Test
+	public void timeoutStrategyUsesStaleCachedHealth() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		CountDownLatch invoked = new CountDownLatch(2);
+		Map<String, HealthIndicator> indicators = new HashMap<>();
+		indicators.put("slow", () -> {
+			invoked.countDown();
+			if (invoked.getCount() == 0) {
+				awaitQuietly(latch);
+			}
+			return Health.up().withDetail("a", "b").build();
+		});
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator, indicators).concurrentStrategy(this.executor)
+						.timeoutStrategy(100, Health.down().build()).cacheStrategy(0);
+		try {
+			assertThat(composite.health().getDetails()).containsEntry("slow",
+					Health.up().withDetail("a", "b").build());
+			assertThat(composite.health().getDetails()).containsEntry("slow",
+					Health.up().withDetail("a", "b").withDetail("stale", true)
+							.build());
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	public void cacheStrategyReusesHealth() {
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator, Collections.singletonMap("one", this.one))
+						.cacheStrategy(60000);
+		composite.health();
+		Health result = composite.health();
+		assertThat(result.getDetails()).containsEntry("one",
+				new Health.Builder().unknown().withDetail("1", "1").build());
+		verify(this.one, times(1)).health();
+	}
+
+	@Test
+	public void cacheStrategySharesConcurrentRefresh() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicInteger invocations = new AtomicInteger();
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator, Collections.singletonMap("slow", () -> {
+					invocations.incrementAndGet();
+					started.countDown();
+					awaitQuietly(latch);
+					return Health.up().build();
+				})).cacheStrategy(60000);
+		Thread first = new Thread(composite::health);
+		Thread second = new Thread(composite::health);
+		try {
+			first.start();
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			second.start();
+			while (second.getState() != Thread.State.WAITING
+					&& second.getState() != Thread.State.TIMED_WAITING) {
+				Thread.sleep(10);
+			}
+		}
+		finally {
+			latch.countDown();
+		}
+		first.join(5000);
+		second.join(5000);
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import org.springframework.boot.actuate.health.ScheduledHealthIndicator.HealthIndicatorTaskScheduler;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ScheduledHealthIndicator}.
+ *
+ * @author agent
+ */
+public class ScheduledHealthIndicatorTests {
+
+	@Mock
+	private HealthIndicator delegate;
+
+	@Mock
+	private ScheduledFuture<Object> future;
+
+	@Captor
+	private ArgumentCaptor<Runnable> task;
+
+	private TaskScheduler scheduler;
+
+	private Duration refreshInterval = Duration.ofSeconds(10);
+
+	@Before
+	public void setup() {
+		MockitoAnnotations.initMocks(this);
+		this.scheduler = mockScheduler(TaskScheduler.class);
+	}
+
+	@Test
+	public void createWhenDelegateIsNullThrowsException() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new ScheduledHealthIndicator(null, this.scheduler,
+						this.refreshInterval))
+				.withMessage("Delegate must not be null");
+	}
+
+	@Test
+	public void createWhenRefreshIntervalIsNullThrowsException() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new ScheduledHealthIndicator(this.delegate,
+						this.scheduler, null))
+				.withMessage("RefreshInterval must not be null");
+	}
+
+	@Test
+	public void createSchedulesRefresh() {
+		new ScheduledHealthIndicator(this.delegate, this.scheduler,
+				this.refreshInterval);
+		verify(this.scheduler).scheduleWithFixedDelay(isA(Runnable.class),
+				eq(this.refreshInterval));
+	}
+
+	@Test
+	public void healthWhenNotRefreshedInvokesDelegate() {
+		given(this.delegate.health()).willReturn(Health.up().build());
+		ScheduledHealthIndicator indicator = new ScheduledHealthIndicator(
+				this.delegate, this.scheduler, this.refreshInterval);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		verify(this.delegate, times(1)).health();
+	}
+
+	@Test
+	public void healthReturnsLatestRefreshedHealth() {
+		ScheduledHealthIndicator indicator = new ScheduledHealthIndicator(
+				this.delegate, this.scheduler, this.refreshInterval);
+		verify(this.scheduler).scheduleWithFixedDelay(this.task.capture(),
+				eq(this.refreshInterval));
+		given(this.delegate.health()).willReturn(Health.up().build());
+		this.task.getValue().run();
+		given(this.delegate.health()).willReturn(Health.down().build());
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		this.task.getValue().run();
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+		verify(this.delegate, times(2)).health();
+	}
+
+	@Test
+	public void healthWhenRefreshFailsReturnsDown() {
+		ScheduledHealthIndicator indicator = new ScheduledHealthIndicator(
+				this.delegate, this.scheduler, this.refreshInterval);
+		verify(this.scheduler).scheduleWithFixedDelay(this.task.capture(),
+				eq(this.refreshInterval));
+		given(this.delegate.health()).willThrow(new IllegalStateException("Failed"));
+		this.task.getValue().run();
+		Health health = indicator.health();
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error",
+				"java.lang.IllegalStateException: Failed");
+	}
+
+	@Test
+	public void healthWhenRefreshHangsReturnsDown() throws Exception {
+		Duration refreshInterval = Duration.ofMillis(20);
+		ScheduledHealthIndicator indicator = new ScheduledHealthIndicator(
+				this.delegate, this.scheduler, refreshInterval);
+		verify(this.scheduler).scheduleWithFixedDelay(this.task.capture(),
+				eq(refreshInterval));
+		given(this.delegate.health()).willReturn(Health.up().build());
+		this.task.getValue().run();
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		CountDownLatch hung = new CountDownLatch(1);
+		given(this.delegate.health()).willAnswer((invocation) -> {
+			hung.await();
+			return Health.up().build();
+		});
+		Thread refresh = new Thread(this.task.getValue());
+		refresh.start();
+		try {
+			Thread.sleep(refreshInterval.toMillis() * 5);
+			Health health = indicator.health();
+			assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+			assertThat((String) health.getDetails().get("error"))
+					.startsWith("Health not refreshed for");
+		}
+		finally {
+			hung.countDown();
+		}
+		refresh.join();
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	public void healthWhenRefreshIsSlowerThanIntervalReturnsLatestHealth()
+			throws Exception {
+		Duration refreshInterval = Duration.ofMillis(50);
+		ScheduledHealthIndicator indicator = new ScheduledHealthIndicator(
+				this.delegate, this.scheduler, refreshInterval);
+		verify(this.scheduler).scheduleWithFixedDelay(this.task.capture(),
+				eq(refreshInterval));
+		given(this.delegate.health()).willAnswer((invocation) -> {
+			Thread.sleep(refreshInterval.toMillis() * 4);
+			return Health.up().build();
+		});
+		this.task.getValue().run();
+		Thread.sleep(refreshInterval.toMillis() * 4);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	public void shutdownWhenOwnsSchedulerDoesShutdownScheduler() {
+		HealthIndicatorTaskScheduler ownedScheduler = mockScheduler(
+				HealthIndicatorTaskScheduler.class);
+		ScheduledHealthIndicator indicator = new ScheduledHealthIndicator(
+				this.delegate, ownedScheduler, this.refreshInterval);
+		indicator.shutdown();
+		verify(this.future).cancel(false);
+		verify(ownedScheduler).shutdown();
+	}
+
+	@Test
+	public void shutdownWhenDoesNotOwnSchedulerDoesNotShutdownScheduler() {
+		ThreadPoolTaskScheduler otherScheduler = mockScheduler(
+				ThreadPoolTaskScheduler.class);
+		ScheduledHealthIndicator indicator = new ScheduledHealthIndicator(
+				this.delegate, otherScheduler, this.refreshInterval);
+		indicator.shutdown();
+		verify(this.future).cancel(false);
+		verify(otherScheduler, never()).shutdown();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T extends TaskScheduler> T mockScheduler(Class<T> type) {
+		T scheduler = mock(type);
+		given(scheduler.scheduleWithFixedDelay(isA(Runnable.class),
+				isA(Duration.class))).willReturn((ScheduledFuture) this.future);
+		return scheduler;
+	}
+
+}
@@ -31,6 +31,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.util.FileCopyUtils;
 
@@ -71,6 +72,25 @@ public class LogFileWebEndpointWebIntegrationTests {
 				.expectBody(String.class).isEqualTo("--TEST--");
 	}
 
+	@Test
+	public void getRequestWithRangeProducesPartialResponse() {
+		TestPropertyValues.of("logging.file:" + this.logFile.getAbsolutePath())
+				.applyTo(context);
+		client.get().uri("/actuator/logfile").header("Range", "bytes=2-5").exchange()
+				.expectStatus().isEqualTo(HttpStatus.PARTIAL_CONTENT).expectHeader()
+				.valueEquals("Content-Range", "bytes 2-5/8").expectBody(String.class)
+				.isEqualTo("TEST");
+	}
+
+	@Test
+	public void getRequestWithSuffixRangeProducesTailOfLogFile() {
+		TestPropertyValues.of("logging.file:" + this.logFile.getAbsolutePath())
+				.applyTo(context);
+		client.get().uri("/actuator/logfile").header("Range", "bytes=-4").exchange()
+				.expectStatus().isEqualTo(HttpStatus.PARTIAL_CONTENT)
+				.expectBody(String.class).isEqualTo("ST--");
+	}
+
 	@Configuration
 	static class TestConfiguration {
 
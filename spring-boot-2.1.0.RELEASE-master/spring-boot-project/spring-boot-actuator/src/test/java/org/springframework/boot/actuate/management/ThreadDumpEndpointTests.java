@@ -18,7 +18,10 @@ package org.springframework.boot.actuate.management;
 
 import org.junit.Test;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link ThreadDumpEndpoint}.
@@ -30,8 +33,21 @@ public class ThreadDumpEndpointTests {
 
 	@Test
 	public void dumpThreads() {
-		assertThat(new ThreadDumpEndpoint().threadDump().getThreads().size())
-				.isGreaterThan(0);
+		assertThat(new ThreadDumpEndpoint().threadDump().getThreads()).isNotEmpty();
+	}
+
+	@Test
+	public void dumpThreadsWithMaxDepthLimitsStackTraces() {
+		assertThat(new ThreadDumpEndpoint().threadDump(2).getThreads())
+				.allSatisfy((thread) -> assertThat(thread.getStackTrace().length)
+						.isLessThanOrEqualTo(2));
+	}
+
+	@Test
+	public void dumpThreadsWithNegativeMaxDepthThrowsException() {
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> new ThreadDumpEndpoint().threadDump(-1))
+				.withMessageContaining("-1");
 	}
 
 }
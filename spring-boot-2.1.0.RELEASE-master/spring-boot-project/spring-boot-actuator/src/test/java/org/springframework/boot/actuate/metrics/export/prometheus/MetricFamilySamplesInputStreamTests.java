@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.junit.Test;
+
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MetricFamilySamplesInputStream}.
+ *
+ * @author agent
+ */
+public class MetricFamilySamplesInputStreamTests {
+
+	@Test
+	public void readProducesTextFormat() throws Exception {
+		CollectorRegistry registry = new CollectorRegistry(true);
+		Counter.build().name("counter").help("A counter").labelNames("name")
+				.register(registry).labels("test").inc(3);
+		Gauge.build().name("gauge").help("A gauge").register(registry).set(5);
+		StringWriter expected = new StringWriter();
+		TextFormat.write004(expected, registry.metricFamilySamples());
+		String content = StreamUtils.copyToString(
+				new MetricFamilySamplesInputStream(registry.metricFamilySamples()),
+				StandardCharsets.UTF_8);
+		assertThat(content).isEqualTo(expected.toString());
+	}
+
+	@Test
+	public void readWhenRegistryIsEmptyProducesNoContent() throws Exception {
+		CollectorRegistry registry = new CollectorRegistry(true);
+		MetricFamilySamplesInputStream inputStream = new MetricFamilySamplesInputStream(
+				registry.metricFamilySamples());
+		assertThat(inputStream.read()).isEqualTo(-1);
+		assertThat(inputStream.read(new byte[8], 0, 8)).isEqualTo(-1);
+	}
+
+}
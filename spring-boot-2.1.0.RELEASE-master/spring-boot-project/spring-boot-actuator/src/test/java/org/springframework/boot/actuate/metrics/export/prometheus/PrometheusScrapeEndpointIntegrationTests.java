@@ -20,6 +20,7 @@ import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Counter;
 import io.prometheus.client.exporter.common.TextFormat;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -30,6 +31,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Tests for {@link PrometheusScrapeEndpoint}.
  *
@@ -47,6 +50,24 @@ public class PrometheusScrapeEndpointIntegrationTests {
 				.contentType(MediaType.parseMediaType(TextFormat.CONTENT_TYPE_004));
 	}
 
+	@Test
+	public void scrapeIncludesAllMetrics() {
+		String body = client.get().uri("/actuator/prometheus").exchange().expectStatus()
+				.isOk().expectBody(String.class).returnResult().getResponseBody();
+		assertThat(body).contains("counter1").contains("counter2")
+				.contains("counter3");
+	}
+
+	@Test
+	public void scrapeWithIncludedNames() {
+		String body = client.get()
+				.uri("/actuator/prometheus?includedNames=counter1,counter2").exchange()
+				.expectStatus().isOk().expectBody(String.class).returnResult()
+				.getResponseBody();
+		assertThat(body).contains("counter1").contains("counter2")
+				.doesNotContain("counter3");
+	}
+
 	@Configuration
 	static class TestConfiguration {
 
@@ -58,7 +79,14 @@ public class PrometheusScrapeEndpointIntegrationTests {
 
 		@Bean
 		public CollectorRegistry collectorRegistry() {
-			return new CollectorRegistry(true);
+			CollectorRegistry collectorRegistry = new CollectorRegistry(true);
+			Counter.build().name("counter1").help("First counter")
+					.register(collectorRegistry);
+			Counter.build().name("counter2").help("Second counter")
+					.register(collectorRegistry);
+			Counter.build().name("counter3").help("Third counter")
+					.register(collectorRegistry);
+			return collectorRegistry;
 		}
 
 		@Bean
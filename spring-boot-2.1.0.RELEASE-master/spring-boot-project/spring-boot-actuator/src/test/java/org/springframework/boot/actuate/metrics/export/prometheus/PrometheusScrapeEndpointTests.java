@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Counter;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.boot.actuate.endpoint.InvocationContext;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.invoke.OperationInvoker;
+import org.springframework.boot.actuate.endpoint.invoker.cache.CachingOperationInvoker;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link PrometheusScrapeEndpoint}.
+ *
+ * @author agent
+ */
+public class PrometheusScrapeEndpointTests {
+
+	private final CollectorRegistry collectorRegistry = new CollectorRegistry(true);
+
+	private final PrometheusScrapeEndpoint endpoint = new PrometheusScrapeEndpoint(
+			this.collectorRegistry);
+
+	private Counter counter;
+
+	@Before
+	public void registerCounters() {
+		this.counter = Counter.build().name("counter1").help("First counter")
+				.register(this.collectorRegistry);
+		Counter.build().name("counter2").help("Second counter")
+				.register(this.collectorRegistry);
+	}
+
+	@Test
+	public void scrapeToString() {
+		assertThat(this.endpoint.scrape()).contains("counter1").contains("counter2");
+	}
+
+	@Test
+	public void scrapeResourceCanBeReadMoreThanOnce() throws IOException {
+		Resource resource = this.endpoint.scrape(Collections.singleton("counter1"));
+		assertThat(read(resource)).contains("counter1").doesNotContain("counter2");
+		assertThat(read(resource)).contains("counter1").doesNotContain("counter2");
+	}
+
+	@Test
+	public void scrapeResourceCollectsMetricsEachTimeItIsRead() throws IOException {
+		Resource resource = this.endpoint.scrape(null);
+		assertThat(read(resource)).contains("counter1 0.0");
+		this.counter.inc();
+		assertThat(read(resource)).contains("counter1 1.0");
+		assertThat(resource.contentLength()).isEqualTo(-1);
+	}
+
+	@Test
+	public void scrapeResourceOfCachedEndpointRetainsMetrics() throws IOException {
+		Resource resource = new PrometheusScrapeEndpoint(this.collectorRegistry, true)
+				.scrape(null);
+		String content = read(resource);
+		assertThat(content).contains("counter1 0.0");
+		this.counter.inc();
+		assertThat(read(resource)).isEqualTo(content);
+		assertThat(resource.contentLength())
+				.isEqualTo(content.getBytes(StandardCharsets.UTF_8).length);
+	}
+
+	@Test
+	public void cachedScrapeCanBeReadMoreThanOnce() throws IOException {
+		PrometheusScrapeEndpoint endpoint = new PrometheusScrapeEndpoint(
+				this.collectorRegistry, true);
+		OperationInvoker invoker = CachingOperationInvoker
+				.apply((context) -> endpoint.scrape(null), 60000);
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class),
+				Collections.emptyMap());
+		Resource first = (Resource) invoker.invoke(context);
+		Resource second = (Resource) invoker.invoke(context);
+		assertThat(second).isSameAs(first);
+		assertThat(read(first)).contains("counter1").contains("counter2");
+		assertThat(read(second)).contains("counter1").contains("counter2");
+	}
+
+	private String read(Resource resource) throws IOException {
+		return StreamUtils.copyToString(resource.getInputStream(),
+				StandardCharsets.UTF_8);
+	}
+
+}
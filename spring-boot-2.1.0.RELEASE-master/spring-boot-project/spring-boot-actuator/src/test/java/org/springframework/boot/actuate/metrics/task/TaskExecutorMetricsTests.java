@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import org.springframework.boot.task.AdaptiveThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TaskExecutorMetrics}.
+ *
+ * @author agent
+ */
+public class TaskExecutorMetricsTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private ThreadPoolTaskExecutor taskExecutor;
+
+	@After
+	public void shutdown() {
+		if (this.taskExecutor != null) {
+			this.taskExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void taskExecutorIsInstrumented() throws Exception {
+		this.taskExecutor = new ThreadPoolTaskExecutor();
+		this.taskExecutor.setCorePoolSize(2);
+		this.taskExecutor.initialize();
+		bind(this.taskExecutor);
+		this.taskExecutor.submit(() -> {
+		}).get();
+		assertThat(this.registry.get("executor.pool.core").tag("name", "test").gauge()
+				.value()).isEqualTo(2);
+		assertThat(this.registry.get("executor.queued").gauge().value()).isEqualTo(0);
+		assertThat(this.registry.get("executor.completed").functionCounter())
+				.isNotNull();
+		assertThat(this.registry.find("executor.queue.wait").meter()).isNull();
+	}
+
+	@Test
+	public void adaptiveTaskExecutorIsInstrumented() throws Exception {
+		AdaptiveThreadPoolTaskExecutor executor = new AdaptiveThreadPoolTaskExecutor();
+		this.taskExecutor = executor;
+		executor.initialize();
+		bind(executor);
+		executor.submit(() -> {
+		}).get();
+		FunctionTimer queueWait = this.registry.get("executor.queue.wait")
+				.functionTimer();
+		assertThat(queueWait.count()).isEqualTo(1);
+		assertThat(queueWait.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(
+				(double) executor.getTotalQueueWaitTime().toNanos());
+		assertThat(this.registry.get("executor.rejected").functionCounter().count())
+				.isEqualTo(0);
+	}
+
+	private void bind(ThreadPoolTaskExecutor taskExecutor) {
+		new TaskExecutorMetrics(taskExecutor, "test", Collections.emptyList())
+				.bindTo(this.registry);
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.task;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for {@link VirtualThreadTaskExecutorMetrics}.
+ *
+ * @author agent
+ */
+public class VirtualThreadTaskExecutorMetricsTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	public void taskExecutorIsInstrumented() throws Exception {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+		VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("test-");
+		new VirtualThreadTaskExecutorMetrics(executor, "test", Collections.emptyList())
+				.bindTo(this.registry);
+		executor.submit(() -> {
+		}).get();
+		assertThat(this.registry.get("executor.active").tag("name", "test").gauge())
+				.isNotNull();
+		assertThat(this.registry.get("executor.completed").functionCounter())
+				.isNotNull();
+	}
+
+}
@@ -81,6 +81,22 @@ public class MetricsRestTemplateCustomizerTests {
 		this.mockServer.verify();
 	}
 
+	@Test
+	public void interceptRestTemplateRecordsRequestsWithSameTagsInSameTimer() {
+		for (String uri : new String[] { "/test/123", "/test/456" }) {
+			this.mockServer.expect(MockRestRequestMatchers.requestTo(uri))
+					.andExpect(MockRestRequestMatchers.method(HttpMethod.GET))
+					.andRespond(MockRestResponseCreators.withSuccess("OK",
+							MediaType.APPLICATION_JSON));
+		}
+		this.restTemplate.getForObject("/test/{id}", String.class, 123);
+		this.restTemplate.getForObject("/test/{id}", String.class, 456);
+		assertThat(this.registry.get("http.client.requests")
+				.tags("method", "GET", "uri", "/test/{id}", "status", "200").timer()
+				.count()).isEqualTo(2);
+		this.mockServer.verify();
+	}
+
 	@Test
 	public void avoidDuplicateRegistration() {
 		this.customizer.customize(this.restTemplate);
@@ -92,6 +92,21 @@ public class MetricsWebClientFilterFunctionTests {
 				.timer().count()).isEqualTo(1);
 	}
 
+	@Test
+	public void filterWhenRequestsHaveSameTagsShouldRecordSameTimer() {
+		given(this.response.statusCode()).willReturn(HttpStatus.OK);
+		for (String project : new String[] { "spring-boot", "spring-framework" }) {
+			ClientRequest request = ClientRequest
+					.create(HttpMethod.GET,
+							URI.create("http://example.com/projects/" + project))
+					.attribute(URI_TEMPLATE_ATTRIBUTE, "/projects/{project}").build();
+			this.filterFunction.filter(request, this.exchange).block();
+		}
+		assertThat(this.registry.get("http.client.requests")
+				.tags("method", "GET", "uri", "/projects/{project}", "status", "200")
+				.timer().count()).isEqualTo(2);
+	}
+
 	@Test
 	public void filterWhenIoExceptionThrownShouldRecordTimer() {
 		ClientRequest request = ClientRequest.create(HttpMethod.GET,
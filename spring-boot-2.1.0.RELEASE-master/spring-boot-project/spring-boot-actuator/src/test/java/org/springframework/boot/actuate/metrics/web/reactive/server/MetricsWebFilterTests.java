@@ -110,6 +110,27 @@ public class MetricsWebFilterTests {
 		assertMetricsContainsTag("status", "500");
 	}
 
+	@Test
+	public void filterRecordsRequestsWithSameTagsInSameTimer() {
+		for (int i = 0; i < 2; i++) {
+			MockServerWebExchange exchange = createExchange("/projects/spring-boot",
+					"/projects/{project}");
+			this.webFilter.filter(exchange,
+					(serverWebExchange) -> exchange.getResponse().setComplete())
+					.block();
+		}
+		MockServerWebExchange exchange = createExchange("/projects/spring-boot",
+				"/projects/{project}");
+		this.webFilter.filter(exchange, (serverWebExchange) -> {
+			exchange.getResponse().setStatusCodeValue(404);
+			return exchange.getResponse().setComplete();
+		}).block();
+		assertThat(this.registry.get(REQUEST_METRICS_NAME).tag("status", "200")
+				.timer().count()).isEqualTo(2);
+		assertThat(this.registry.get(REQUEST_METRICS_NAME).tag("status", "404")
+				.timer().count()).isEqualTo(1);
+	}
+
 	private MockServerWebExchange createExchange(String path, String pathPattern) {
 		PathPatternParser parser = new PathPatternParser();
 		MockServerWebExchange exchange = MockServerWebExchange
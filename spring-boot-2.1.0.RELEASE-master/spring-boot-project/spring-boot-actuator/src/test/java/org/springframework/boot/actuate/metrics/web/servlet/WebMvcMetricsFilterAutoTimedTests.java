@@ -77,6 +77,20 @@ public class WebMvcMetricsFilterAutoTimedTests {
 				.count()).isEqualTo(1L);
 	}
 
+	@Test
+	public void requestsWithSameTagsAreRecordedInSameTimer() throws Exception {
+		this.mvc.perform(get("/api/repeated/1")).andExpect(status().isOk());
+		this.mvc.perform(get("/api/repeated/2")).andExpect(status().isOk());
+		this.mvc.perform(get("/api/repeated/oops"))
+				.andExpect(status().is4xxClientError());
+		assertThat(this.registry.get("http.server.requests")
+				.tags("uri", "/api/repeated/{id}", "status", "200").timer().count())
+						.isEqualTo(2L);
+		assertThat(this.registry.get("http.server.requests")
+				.tags("uri", "/api/repeated/{id}", "status", "400").timer().count())
+						.isEqualTo(1L);
+	}
+
 	@Configuration
 	@EnableWebMvc
 	@Import({ Controller.class })
@@ -110,6 +124,11 @@ public class WebMvcMetricsFilterAutoTimedTests {
 			return id.toString();
 		}
 
+		@GetMapping("/repeated/{id}")
+		public String repeated(@PathVariable Long id) {
+			return id.toString();
+		}
+
 	}
 
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler.Mode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link HttpTraceSampler}.
+ *
+ * @author agent
+ */
+public class HttpTraceSamplerTests {
+
+	private final TraceableRequest request = mock(TraceableRequest.class);
+
+	@Test
+	public void createWithInvalidRate() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new HttpTraceSampler(Mode.HEAD, 1.5, null))
+				.withMessageContaining("Rate must be between 0.0 and 1.0");
+	}
+
+	@Test
+	public void headSamplingWithZeroRateDoesNotTrace() {
+		HttpTraceSampler sampler = new HttpTraceSampler(Mode.HEAD, 0.0, null);
+		assertThat(sampler.isTraced(this.request)).isFalse();
+	}
+
+	@Test
+	public void headSamplingWithFullRateTraces() {
+		HttpTraceSampler sampler = new HttpTraceSampler(Mode.HEAD, 1.0, null);
+		assertThat(sampler.isTraced(this.request)).isTrue();
+	}
+
+	@Test
+	public void headSamplingRecordsEveryTracedExchange() {
+		HttpTraceSampler sampler = new HttpTraceSampler(Mode.HEAD, 0.0, null);
+		assertThat(sampler.isRecorded(createTrace(200, 0))).isTrue();
+	}
+
+	@Test
+	public void tailSamplingTracesEveryExchange() {
+		HttpTraceSampler sampler = new HttpTraceSampler(Mode.TAIL, 0.0, null);
+		assertThat(sampler.isTraced(this.request)).isTrue();
+	}
+
+	@Test
+	public void tailSamplingWithZeroRateRecordsServerErrors() {
+		HttpTraceSampler sampler = new HttpTraceSampler(Mode.TAIL, 0.0, null);
+		assertThat(sampler.isRecorded(createTrace(200, 0))).isFalse();
+		assertThat(sampler.isRecorded(createTrace(503, 0))).isTrue();
+	}
+
+	@Test
+	public void tailSamplingWithZeroRateRecordsSlowExchanges() {
+		HttpTraceSampler sampler = new HttpTraceSampler(Mode.TAIL, 0.0,
+				Duration.ofMillis(100));
+		assertThat(sampler.isRecorded(createTrace(200, 99))).isFalse();
+		assertThat(sampler.isRecorded(createTrace(200, 100))).isTrue();
+	}
+
+	private HttpTrace createTrace(int status, long timeTaken) {
+		return new HttpTrace(
+				new HttpTrace.Request("GET", null, Collections.emptyMap(), null),
+				new HttpTrace.Response(status, Collections.emptyMap()), Instant.now(),
+				null, null, timeTaken);
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RingBufferHttpTraceRepository}.
+ *
+ * @author agent
+ */
+public class RingBufferHttpTraceRepositoryTests {
+
+	@Test
+	public void capacityLimited() {
+		RingBufferHttpTraceRepository repository = new RingBufferHttpTraceRepository(2);
+		repository.add(new HttpTrace(createRequest("GET")));
+		repository.add(new HttpTrace(createRequest("POST")));
+		repository.add(new HttpTrace(createRequest("DELETE")));
+		List<HttpTrace> traces = repository.findAll();
+		assertThat(traces).hasSize(2);
+		assertThat(traces.get(0).getRequest().getMethod()).isEqualTo("DELETE");
+		assertThat(traces.get(1).getRequest().getMethod()).isEqualTo("POST");
+	}
+
+	@Test
+	public void reverseFalse() {
+		RingBufferHttpTraceRepository repository = new RingBufferHttpTraceRepository(2);
+		repository.setReverse(false);
+		repository.add(new HttpTrace(createRequest("GET")));
+		repository.add(new HttpTrace(createRequest("POST")));
+		repository.add(new HttpTrace(createRequest("DELETE")));
+		List<HttpTrace> traces = repository.findAll();
+		assertThat(traces).hasSize(2);
+		assertThat(traces.get(0).getRequest().getMethod()).isEqualTo("POST");
+		assertThat(traces.get(1).getRequest().getMethod()).isEqualTo("DELETE");
+	}
+
+	@Test
+	public void concurrentAddsAreKept() throws Exception {
+		RingBufferHttpTraceRepository repository = new RingBufferHttpTraceRepository(
+				10000);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch latch = new CountDownLatch(8);
+		for (int i = 0; i < 8; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < 1000; j++) {
+					repository.add(new HttpTrace(createRequest("GET")));
+				}
+				latch.countDown();
+			});
+		}
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(repository.findAll()).hasSize(8000);
+	}
+
+	private TraceableRequest createRequest(String method) {
+		TraceableRequest request = mock(TraceableRequest.class);
+		given(request.getMethod()).willReturn(method);
+		return request;
+	}
+
+}
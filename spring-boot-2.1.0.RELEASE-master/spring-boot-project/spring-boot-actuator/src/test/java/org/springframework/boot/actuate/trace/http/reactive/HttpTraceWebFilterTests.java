@@ -19,6 +19,7 @@ package org.springframework.boot.actuate.trace.http.reactive;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.servlet.ServletException;
 
@@ -27,6 +28,8 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace.Session;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler.Mode;
 import org.springframework.boot.actuate.trace.http.InMemoryHttpTraceRepository;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.boot.actuate.web.trace.reactive.HttpTraceWebFilter;
@@ -165,4 +168,19 @@ public class HttpTraceWebFilterTests {
 		}
 	}
 
+	@Test
+	public void filterDoesNotTraceExchangeThatIsNotSampled() {
+		this.filter.setSampler(new HttpTraceSampler(Mode.HEAD, 0.0, null));
+		AtomicBoolean filtered = new AtomicBoolean();
+		this.filter.filter(
+				MockServerWebExchange
+						.from(MockServerHttpRequest.get("https://api.example.com")),
+				(exchange) -> {
+					filtered.set(true);
+					return Mono.empty();
+				}).block();
+		assertThat(filtered).isTrue();
+		assertThat(this.repository.findAll()).isEmpty();
+	}
+
 }
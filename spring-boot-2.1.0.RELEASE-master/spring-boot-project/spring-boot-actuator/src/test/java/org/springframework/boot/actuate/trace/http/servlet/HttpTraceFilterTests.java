@@ -29,6 +29,8 @@ import org.junit.Test;
 
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace.Session;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler.Mode;
 import org.springframework.boot.actuate.trace.http.InMemoryHttpTraceRepository;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.boot.actuate.web.trace.servlet.HttpTraceFilter;
@@ -38,8 +40,11 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link HttpTraceFilter}.
@@ -136,4 +141,34 @@ public class HttpTraceFilterTests {
 		assertThat(this.repository.findAll()).hasSize(0);
 	}
 
+	@Test
+	public void filterDoesNotTraceExchangeThatIsNotSampled()
+			throws ServletException, IOException {
+		HttpTraceSampler sampler = mock(HttpTraceSampler.class);
+		given(sampler.isTraced(any())).willReturn(false);
+		this.filter.setSampler(sampler);
+		MockFilterChain chain = new MockFilterChain();
+		this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+				chain);
+		assertThat(chain.getRequest()).isNotNull();
+		assertThat(this.repository.findAll()).isEmpty();
+		verify(sampler).isTraced(any());
+		verify(sampler, never()).isRecorded(any());
+	}
+
+	@Test
+	public void filterRecordsServerErrorsWithTailSampling()
+			throws ServletException, IOException {
+		this.filter.setSampler(new HttpTraceSampler(Mode.TAIL, 0.0, null));
+		this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+				new MockFilterChain());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.setStatus(503);
+		this.filter.doFilter(new MockHttpServletRequest(), response,
+				new MockFilterChain());
+		assertThat(this.repository.findAll()).hasSize(1);
+		assertThat(this.repository.findAll().get(0).getResponse().getStatus())
+				.isEqualTo(503);
+	}
+
 }
@@ -46,6 +46,15 @@ class OnClassCondition extends FilteringSpringBootCondition {
 	@Override
 	protected final ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
 			AutoConfigurationMetadata autoConfigurationMetadata) {
+		PrecomputedClassConditions precomputed = PrecomputedClassConditions
+				.get(getBeanClassLoader());
+		if (!precomputed.isEmpty()) {
+			// Outcomes were resolved when the archive was packaged so there is little
+			// work left to split
+			return new StandardOutcomesResolver(autoConfigurationClasses, 0,
+					autoConfigurationClasses.length, autoConfigurationMetadata,
+					getBeanClassLoader(), precomputed).resolveOutcomes();
+		}
 		// Split the work and perform half in a background thread. Using a single
 		// additional thread seems to offer the best performance. More threads make
 		// things worse
@@ -57,7 +66,7 @@ class OnClassCondition extends FilteringSpringBootCondition {
 		// 【2】这里用主线程去扫描判断已经加载的一半自动配置类
 		OutcomesResolver secondHalfResolver = new StandardOutcomesResolver(
 				autoConfigurationClasses, split, autoConfigurationClasses.length,
-				autoConfigurationMetadata, getBeanClassLoader());
+				autoConfigurationMetadata, getBeanClassLoader(), null);
 		// 【3】先让主线程去执行解析一半自动配置类是否匹配条件
 		ConditionOutcome[] secondHalf = secondHalfResolver.resolveOutcomes();
 		// 【4】这里用新开启的线程取解析另一半自动配置类是否匹配
@@ -78,7 +87,7 @@ class OnClassCondition extends FilteringSpringBootCondition {
 		// 新建一个StandardOutcomesResolver对象
 		OutcomesResolver outcomesResolver = new StandardOutcomesResolver(
 				autoConfigurationClasses, start, end, autoConfigurationMetadata,
-				getBeanClassLoader());
+				getBeanClassLoader(), null);
 		try {
 			// new一个ThreadedOutcomesResolver对象，并将StandardOutcomesResolver类型的outcomesResolver对象作为构造器参数传入
 			return new ThreadedOutcomesResolver(outcomesResolver);
@@ -199,14 +208,17 @@ class OnClassCondition extends FilteringSpringBootCondition {
 		// 类加载器
 		private final ClassLoader beanClassLoader;
 
+		private final PrecomputedClassConditions precomputed;
+
 		private StandardOutcomesResolver(String[] autoConfigurationClasses, int start,
 				int end, AutoConfigurationMetadata autoConfigurationMetadata,
-				ClassLoader beanClassLoader) {
+				ClassLoader beanClassLoader, PrecomputedClassConditions precomputed) {
 			this.autoConfigurationClasses = autoConfigurationClasses;
 			this.start = start;
 			this.end = end;
 			this.autoConfigurationMetadata = autoConfigurationMetadata;
 			this.beanClassLoader = beanClassLoader;
+			this.precomputed = precomputed;
 		}
 
 		@Override
@@ -240,7 +252,11 @@ class OnClassCondition extends FilteringSpringBootCondition {
 					if (candidates != null) {
 						// 拿到自动配置类注解@ConditionalOnClass的值后，再调用getOutcome方法去判断匹配结果,若该类存在于类路径，则getOutcome返回null，否则非null
 						/*******************【主线，重点关注】******************/
-						outcomes[i - start] = getOutcome(candidates);
+						String missing = (this.precomputed != null)
+								? this.precomputed.getMissingClasses(autoConfigurationClass)
+								: null;
+						outcomes[i - start] = (missing != null)
+								? getPrecomputedOutcome(missing) : getOutcome(candidates);
 					}
 				}
 			}
@@ -274,6 +290,16 @@ class OnClassCondition extends FilteringSpringBootCondition {
 			return null;
 		}
 
+		private ConditionOutcome getPrecomputedOutcome(String missing) {
+			if (missing.isEmpty()) {
+				return null;
+			}
+			return ConditionOutcome.noMatch(ConditionMessage
+					.forCondition(ConditionalOnClass.class)
+					.didNotFind("required class", "required classes")
+					.items(Style.QUOTE, StringUtils.commaDelimitedListToSet(missing)));
+		}
+
 		private ConditionOutcome getOutcome(String className,
 				ClassNameFilter classNameFilter, ClassLoader classLoader) {
 			// 调用classNameFilter的matches方法来判断`@ConditionalOnClass`指定的类存不存在类路径中
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.condition;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@code @ConditionalOnClass} outcomes of auto-configuration candidates that were
+ * resolved against the packaged class path when the archive was repackaged. The
+ * outcomes are only used when the class path fingerprint recorded alongside them
+ * matches the class path of the class loader that loads the candidates. The file is
+ * written by {@code spring-boot-loader-tools} and its format must be kept in sync with
+ * it.
+ *
+ * @see OnClassCondition
+ * @author agent
+ */
+final class PrecomputedClassConditions {
+
+	static final String PATH = "META-INF/"
+			+ "spring-autoconfigure-class-conditions.properties";
+
+	static final String FINGERPRINT_KEY = "fingerprint";
+
+	private static final String NESTED_SEPARATOR = "!/";
+
+	private static final PrecomputedClassConditions NONE = new PrecomputedClassConditions(
+			Collections.emptyMap());
+
+	private static final Map<ClassLoader, PrecomputedClassConditions> cache = new ConcurrentReferenceHashMap<>();
+
+	private final Map<String, String> missingClasses;
+
+	private PrecomputedClassConditions(Map<String, String> missingClasses) {
+		this.missingClasses = missingClasses;
+	}
+
+	/**
+	 * Return if no outcomes are available.
+	 * @return {@code true} if no outcomes are available
+	 */
+	boolean isEmpty() {
+		return this.missingClasses.isEmpty();
+	}
+
+	/**
+	 * Return the comma-delimited required classes that were missing for the given
+	 * auto-configuration class.
+	 * @param autoConfigurationClass the auto-configuration class
+	 * @return the missing classes, an empty string if all required classes were present
+	 * or {@code null} if the class was not precomputed
+	 */
+	String getMissingClasses(String autoConfigurationClass) {
+		return this.missingClasses.get(autoConfigurationClass);
+	}
+
+	/**
+	 * Return the {@link PrecomputedClassConditions} that apply to the given class
+	 * loader.
+	 * @param classLoader the class loader used to load auto-configuration candidates
+	 * @return the precomputed class conditions (never {@code null})
+	 */
+	static PrecomputedClassConditions get(ClassLoader classLoader) {
+		if (classLoader == null) {
+			return NONE;
+		}
+		return cache.computeIfAbsent(classLoader, PrecomputedClassConditions::load);
+	}
+
+	private static PrecomputedClassConditions load(ClassLoader classLoader) {
+		if (!(classLoader instanceof URLClassLoader)) {
+			return NONE;
+		}
+		String fingerprint = getFingerprint(((URLClassLoader) classLoader).getURLs());
+		URL url = (fingerprint != null) ? classLoader.getResource(PATH) : null;
+		if (url == null) {
+			return NONE;
+		}
+		try {
+			return load(PropertiesLoaderUtils.loadProperties(new UrlResource(url)),
+					fingerprint);
+		}
+		catch (IOException ex) {
+			return NONE;
+		}
+	}
+
+	static PrecomputedClassConditions load(Properties properties, String fingerprint) {
+		if (!fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+			return NONE;
+		}
+		Map<String, String> missingClasses = new HashMap<>(properties.size());
+		for (String name : properties.stringPropertyNames()) {
+			if (!FINGERPRINT_KEY.equals(name)) {
+				missingClasses.put(name, properties.getProperty(name));
+			}
+		}
+		return new PrecomputedClassConditions(missingClasses);
+	}
+
+	/**
+	 * Calculate the fingerprint of a class path made up of entries nested in an
+	 * executable archive.
+	 * @param urls the class path URLs
+	 * @return the fingerprint or {@code null} if a URL does not reference a nested entry
+	 */
+	static String getFingerprint(URL[] urls) {
+		Set<String> entries = new TreeSet<>();
+		for (URL url : urls) {
+			String path = url.toString();
+			int start = path.indexOf(NESTED_SEPARATOR);
+			if (start == -1 || !path.endsWith(NESTED_SEPARATOR)
+					|| start == path.length() - NESTED_SEPARATOR.length()) {
+				return null;
+			}
+			entries.add(path.substring(start + NESTED_SEPARATOR.length(),
+					path.length() - NESTED_SEPARATOR.length()));
+		}
+		return getFingerprint(entries,
+				System.getProperty("java.specification.version"));
+	}
+
+	private static String getFingerprint(Set<String> entries, String javaVersion) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			for (String entry : entries) {
+				digest.update(entry.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			digest.update(String.valueOf(javaVersion).getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest.digest()) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			return null;
+		}
+	}
+
+}
@@ -17,14 +17,19 @@
 package org.springframework.boot.autoconfigure.task;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties.RejectionPolicy;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.AdaptiveThreadPoolTaskExecutor;
 import org.springframework.boot.task.TaskExecutorBuilder;
 import org.springframework.boot.task.TaskExecutorCustomizer;
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -72,6 +77,10 @@ public class TaskExecutionAutoConfiguration {
 		builder = builder.maxPoolSize(pool.getMaxSize());
 		builder = builder.allowCoreThreadTimeOut(pool.isAllowCoreThreadTimeout());
 		builder = builder.keepAlive(pool.getKeepAlive());
+		if (pool.getRejectionPolicy() == RejectionPolicy.CALLER_RUNS) {
+			builder = builder
+					.rejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		}
 		builder = builder.threadNamePrefix(this.properties.getThreadNamePrefix());
 		builder = builder.customizers(this.taskExecutorCustomizers);
 		builder = builder.taskDecorator(this.taskDecorator.getIfUnique());
@@ -81,8 +90,29 @@ public class TaskExecutionAutoConfiguration {
 	@Lazy
 	@Bean(name = APPLICATION_TASK_EXECUTOR_BEAN_NAME)
 	@ConditionalOnMissingBean(Executor.class)
+	@ConditionalOnProperty(prefix = "spring.task.execution", name = "virtual-threads", havingValue = "false", matchIfMissing = true)
 	public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+		TaskExecutionProperties.Adaptive adaptive = this.properties.getPool()
+				.getAdaptive();
+		if (adaptive.isEnabled()) {
+			AdaptiveThreadPoolTaskExecutor taskExecutor = builder
+					.build(AdaptiveThreadPoolTaskExecutor.class);
+			taskExecutor.setTargetWaitTime(adaptive.getTargetWaitTime());
+			taskExecutor.setAdjustmentInterval(adaptive.getAdjustmentInterval());
+			return taskExecutor;
+		}
 		return builder.build();
 	}
 
+	@Lazy
+	@Bean(name = APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	@ConditionalOnMissingBean(Executor.class)
+	@ConditionalOnProperty(prefix = "spring.task.execution", name = "virtual-threads", havingValue = "true")
+	public VirtualThreadTaskExecutor virtualThreadApplicationTaskExecutor() {
+		VirtualThreadTaskExecutor taskExecutor = new VirtualThreadTaskExecutor(
+				this.properties.getThreadNamePrefix());
+		this.taskDecorator.ifUnique(taskExecutor::setTaskDecorator);
+		return taskExecutor;
+	}
+
 }
@@ -36,6 +36,13 @@ public class TaskExecutionProperties {
 	 */
 	private String threadNamePrefix = "task-";
 
+	/**
+	 * Whether to execute each task on a new virtual thread rather than on a pool of
+	 * platform threads. Requires a JVM that supports virtual threads. Pool settings are
+	 * ignored when enabled.
+	 */
+	private boolean virtualThreads;
+
 	public Pool getPool() {
 		return this.pool;
 	}
@@ -48,6 +55,14 @@ public class TaskExecutionProperties {
 		this.threadNamePrefix = threadNamePrefix;
 	}
 
+	public boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
 	public static class Pool {
 
 		/**
@@ -79,6 +94,13 @@ public class TaskExecutionProperties {
 		 */
 		private Duration keepAlive = Duration.ofSeconds(60);
 
+		/**
+		 * Policy to apply to new tasks when both the queue and the pool are full.
+		 */
+		private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+		private final Adaptive adaptive = new Adaptive();
+
 		public int getQueueCapacity() {
 			return this.queueCapacity;
 		}
@@ -119,6 +141,81 @@ public class TaskExecutionProperties {
 			this.keepAlive = keepAlive;
 		}
 
+		public RejectionPolicy getRejectionPolicy() {
+			return this.rejectionPolicy;
+		}
+
+		public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+			this.rejectionPolicy = rejectionPolicy;
+		}
+
+		public Adaptive getAdaptive() {
+			return this.adaptive;
+		}
+
+	}
+
+	public static class Adaptive {
+
+		/**
+		 * Whether to adapt the core number of threads to the time that tasks wait in the
+		 * queue. The core size is never decreased below "core-size" nor increased beyond
+		 * "max-size".
+		 */
+		private boolean enabled;
+
+		/**
+		 * Average time that tasks may wait in the queue before the core number of
+		 * threads is increased.
+		 */
+		private Duration targetWaitTime = Duration.ofMillis(10);
+
+		/**
+		 * Minimum time between two adjustments of the core number of threads.
+		 */
+		private Duration adjustmentInterval = Duration.ofSeconds(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTargetWaitTime() {
+			return this.targetWaitTime;
+		}
+
+		public void setTargetWaitTime(Duration targetWaitTime) {
+			this.targetWaitTime = targetWaitTime;
+		}
+
+		public Duration getAdjustmentInterval() {
+			return this.adjustmentInterval;
+		}
+
+		public void setAdjustmentInterval(Duration adjustmentInterval) {
+			this.adjustmentInterval = adjustmentInterval;
+		}
+
+	}
+
+	/**
+	 * Policies applied to tasks that cannot be accepted by the executor.
+	 */
+	public enum RejectionPolicy {
+
+		/**
+		 * Reject the task by throwing an exception.
+		 */
+		ABORT,
+
+		/**
+		 * Run the task in the thread that submitted it, slowing down submitters.
+		 */
+		CALLER_RUNS
+
 	}
 
 }
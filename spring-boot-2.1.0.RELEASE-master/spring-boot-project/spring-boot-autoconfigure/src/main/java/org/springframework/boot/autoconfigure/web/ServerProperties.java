@@ -324,6 +324,13 @@ public class ServerProperties {
 		 */
 		private int minSpareThreads = 10;
 
+		/**
+		 * Whether to process each request on a new virtual thread rather than on the pool
+		 * of worker threads. Requires a JVM that supports virtual threads. The
+		 * "max-threads" and "min-spare-threads" properties are ignored when enabled.
+		 */
+		private boolean virtualThreads;
+
 		/**
 		 * Maximum size of the HTTP post content.
 		 */
@@ -397,6 +404,14 @@ public class ServerProperties {
 			this.minSpareThreads = minSpareThreads;
 		}
 
+		public boolean isVirtualThreads() {
+			return this.virtualThreads;
+		}
+
+		public void setVirtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+		}
+
 		public DataSize getMaxHttpPostSize() {
 			return this.maxHttpPostSize;
 		}
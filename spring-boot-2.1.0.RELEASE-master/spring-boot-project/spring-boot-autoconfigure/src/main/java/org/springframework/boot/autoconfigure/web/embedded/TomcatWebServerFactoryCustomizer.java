@@ -17,6 +17,7 @@
 package org.springframework.boot.autoconfigure.web.embedded;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import org.apache.catalina.Lifecycle;
 import org.apache.catalina.valves.AccessLogValve;
@@ -32,6 +33,7 @@ import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties.Tomcat;
 import org.springframework.boot.cloud.CloudPlatform;
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
 import org.springframework.boot.web.embedded.tomcat.ConfigurableTomcatWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
@@ -85,6 +87,8 @@ public class TomcatWebServerFactoryCustomizer implements
 						tomcatProperties.getMaxThreads()));
 		propertyMapper.from(tomcatProperties::getMinSpareThreads).when(this::isPositive)
 				.to((minSpareThreads) -> customizeMinThreads(factory, minSpareThreads));
+		propertyMapper.from(tomcatProperties::isVirtualThreads).whenTrue()
+				.toCall(() -> customizeVirtualThreads(factory));
 		propertyMapper.from(this::determineMaxHttpHeaderSize).whenNonNull()
 				.asInt(DataSize::toBytes).when(this::isPositive)
 				.to((maxHttpHeaderSize) -> customizeMaxHttpHeaderSize(factory,
@@ -212,6 +216,20 @@ public class TomcatWebServerFactoryCustomizer implements
 		});
 	}
 
+	private void customizeVirtualThreads(ConfigurableTomcatWebServerFactory factory) {
+		factory.addConnectorCustomizers((connector) -> {
+			ProtocolHandler handler = connector.getProtocolHandler();
+			if (handler instanceof AbstractProtocol) {
+				AbstractProtocol<?> protocol = (AbstractProtocol<?>) handler;
+				protocol.setExecutor(createVirtualThreadExecutor());
+			}
+		});
+	}
+
+	Executor createVirtualThreadExecutor() {
+		return new VirtualThreadTaskExecutor("tomcat-handler-");
+	}
+
 	@SuppressWarnings("rawtypes")
 	private void customizeMaxHttpHeaderSize(ConfigurableTomcatWebServerFactory factory,
 			int maxHttpHeaderSize) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.condition;
+
+import java.net.URL;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PrecomputedClassConditions}.
+ *
+ * @author agent
+ */
+public class PrecomputedClassConditionsTests {
+
+	@Test
+	public void fingerprintIsIndependentOfClassPathOrder() throws Exception {
+		URL classes = new URL("jar:file:/app.jar!/BOOT-INF/classes!/");
+		URL library = new URL("jar:file:/app.jar!/BOOT-INF/lib/library.jar!/");
+		String fingerprint = PrecomputedClassConditions
+				.getFingerprint(new URL[] { classes, library });
+		assertThat(fingerprint).isNotNull().isEqualTo(PrecomputedClassConditions
+				.getFingerprint(new URL[] { library, classes }));
+		assertThat(fingerprint).isNotEqualTo(
+				PrecomputedClassConditions.getFingerprint(new URL[] { classes }));
+	}
+
+	@Test
+	public void fingerprintIsNullWhenClassPathIsNotNested() throws Exception {
+		assertThat(PrecomputedClassConditions.getFingerprint(
+				new URL[] { new URL("file:/app/classes/") })).isNull();
+	}
+
+	@Test
+	public void loadWhenFingerprintMatches() {
+		Properties properties = new Properties();
+		properties.setProperty(PrecomputedClassConditions.FINGERPRINT_KEY, "abc");
+		properties.setProperty("test.match", "");
+		properties.setProperty("test.nomatch", "java.io.DoesNotExist");
+		PrecomputedClassConditions conditions = PrecomputedClassConditions
+				.load(properties, "abc");
+		assertThat(conditions.getMissingClasses("test.match")).isEmpty();
+		assertThat(conditions.getMissingClasses("test.nomatch"))
+				.isEqualTo("java.io.DoesNotExist");
+		assertThat(conditions.getMissingClasses("test.other")).isNull();
+	}
+
+	@Test
+	public void loadWhenFingerprintDoesNotMatch() {
+		Properties properties = new Properties();
+		properties.setProperty(PrecomputedClassConditions.FINGERPRINT_KEY, "abc");
+		properties.setProperty("test.nomatch", "java.io.DoesNotExist");
+		assertThat(PrecomputedClassConditions.load(properties, "def").isEmpty())
+				.isTrue();
+	}
+
+}
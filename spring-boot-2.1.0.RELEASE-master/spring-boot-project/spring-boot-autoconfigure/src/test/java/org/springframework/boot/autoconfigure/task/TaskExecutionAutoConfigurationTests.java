@@ -16,17 +16,22 @@
 
 package org.springframework.boot.autoconfigure.task;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 
 import org.junit.Rule;
 import org.junit.Test;
 
 import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.task.AdaptiveThreadPoolTaskExecutor;
 import org.springframework.boot.task.TaskExecutorBuilder;
 import org.springframework.boot.task.TaskExecutorCustomizer;
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.context.runner.ContextConsumer;
@@ -43,6 +48,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -81,6 +89,43 @@ public class TaskExecutionAutoConfigurationTests {
 				}));
 	}
 
+	@Test
+	public void taskExecutorBuilderShouldApplyCallerRunsRejectionPolicy() {
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.pool.queue-capacity=10",
+						"spring.task.execution.pool.rejection-policy=caller-runs")
+				.run(assertTaskExecutor((taskExecutor) -> {
+					Object handler = ReflectionTestUtils.getField(taskExecutor,
+							"rejectedExecutionHandler");
+					assertThat(handler)
+							.isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+				}));
+	}
+
+	@Test
+	public void taskExecutorIsNotAdaptiveByDefault() {
+		this.contextRunner.run((context) -> assertThat(context)
+				.getBean("applicationTaskExecutor")
+				.isNotInstanceOf(AdaptiveThreadPoolTaskExecutor.class));
+	}
+
+	@Test
+	public void taskExecutorWhenAdaptiveIsEnabledShouldBeAdaptive() {
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.pool.adaptive.enabled=true",
+						"spring.task.execution.pool.adaptive.target-wait-time=50ms",
+						"spring.task.execution.pool.core-size=2")
+				.run((context) -> {
+					assertThat(context).getBean("applicationTaskExecutor")
+							.isInstanceOf(AdaptiveThreadPoolTaskExecutor.class);
+					AdaptiveThreadPoolTaskExecutor taskExecutor = context
+							.getBean(AdaptiveThreadPoolTaskExecutor.class);
+					assertThat(taskExecutor.getCorePoolSize()).isEqualTo(2);
+					assertThat(ReflectionTestUtils.getField(taskExecutor,
+							"targetWaitTime")).isEqualTo(Duration.ofMillis(50));
+				});
+	}
+
 	@Test
 	public void taskExecutorBuilderWhenHasCustomBuilderShouldUseCustomBuilder() {
 		this.contextRunner.withUserConfiguration(CustomTaskExecutorBuilderConfig.class)
@@ -153,6 +198,33 @@ public class TaskExecutionAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void enableAsyncWhenVirtualThreadsAreEnabledUsesVirtualThreads() {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.virtual-threads=true",
+						"spring.task.execution.thread-name-prefix=task-test-")
+				.withUserConfiguration(AsyncConfiguration.class, TestBean.class)
+				.run((context) -> {
+					assertThat(context).getBean("applicationTaskExecutor")
+							.isInstanceOf(VirtualThreadTaskExecutor.class);
+					TestBean bean = context.getBean(TestBean.class);
+					String text = bean.echo("something").get();
+					assertThat(text).contains("task-test-").contains("something");
+				});
+	}
+
+	@Test
+	public void taskExecutorWhenVirtualThreadsAreNotSupportedShouldFail() {
+		assumeFalse(VirtualThreadTaskExecutor.isSupported());
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.virtual-threads=true")
+				.run((context) -> assertThatExceptionOfType(BeanCreationException.class)
+						.isThrownBy(() -> context.getBean("applicationTaskExecutor"))
+						.withStackTraceContaining(
+								"Virtual threads are not supported"));
+	}
+
 	private ContextConsumer<AssertableApplicationContext> assertTaskExecutor(
 			Consumer<ThreadPoolTaskExecutor> taskExecutor) {
 		return (context) -> {
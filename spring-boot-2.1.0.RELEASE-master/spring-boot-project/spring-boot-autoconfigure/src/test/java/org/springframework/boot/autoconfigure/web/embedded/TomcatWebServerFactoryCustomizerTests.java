@@ -17,6 +17,7 @@
 package org.springframework.boot.autoconfigure.web.embedded;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.apache.catalina.Context;
@@ -36,6 +37,7 @@ import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.task.VirtualThreadTaskExecutor;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
 import org.springframework.mock.env.MockEnvironment;
@@ -44,6 +46,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests for {@link TomcatWebServerFactoryCustomizer}
@@ -103,6 +107,33 @@ public class TomcatWebServerFactoryCustomizerTests {
 						.isEqualTo(-1));
 	}
 
+	@Test
+	public void enableVirtualThreads() {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+		bind("server.tomcat.virtual-threads=true");
+		customizeAndRunServer((server) -> assertThat(((AbstractProtocol<?>) server
+				.getTomcat().getConnector().getProtocolHandler()).getExecutor())
+						.isInstanceOf(VirtualThreadTaskExecutor.class));
+	}
+
+	@Test
+	public void enableVirtualThreadsSetsConnectorExecutor() {
+		Executor executor = mock(VirtualThreadTaskExecutor.class);
+		this.customizer = new TomcatWebServerFactoryCustomizer(this.environment,
+				this.serverProperties) {
+
+			@Override
+			Executor createVirtualThreadExecutor() {
+				return executor;
+			}
+
+		};
+		bind("server.tomcat.virtual-threads=true");
+		customizeAndRunServer((server) -> assertThat(((AbstractProtocol<?>) server
+				.getTomcat().getConnector().getProtocolHandler()).getExecutor())
+						.isSameAs(executor));
+	}
+
 	@Test
 	public void customMaxConnections() {
 		bind("server.tomcat.max-connections=5");
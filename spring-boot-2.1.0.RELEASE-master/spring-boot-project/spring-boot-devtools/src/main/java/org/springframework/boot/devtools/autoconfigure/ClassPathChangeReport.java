@@ -0,0 +1,190 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.autoconfigure;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.devtools.filewatch.ChangedFile;
+import org.springframework.boot.devtools.filewatch.ChangedFiles;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Summary of a class path change that triggers a restart. Changed classes are mapped to
+ * the bean definitions that use them and to the beans that depend on those beans.
+ *
+ * @author agent
+ */
+final class ClassPathChangeReport {
+
+	private final int changedFiles;
+
+	private final int changedResources;
+
+	private final Set<String> changedClasses;
+
+	private final Set<String> changedBeans;
+
+	private final Set<String> dependentBeans;
+
+	private ClassPathChangeReport(int changedFiles, int changedResources,
+			Set<String> changedClasses, Set<String> changedBeans,
+			Set<String> dependentBeans) {
+		this.changedFiles = changedFiles;
+		this.changedResources = changedResources;
+		this.changedClasses = changedClasses;
+		this.changedBeans = changedBeans;
+		this.dependentBeans = dependentBeans;
+	}
+
+	/**
+	 * Return the names of the classes that have changed.
+	 * @return the changed classes
+	 */
+	Set<String> getChangedClasses() {
+		return this.changedClasses;
+	}
+
+	/**
+	 * Return whether any of the changed files is not a class file.
+	 * @return {@code true} if a resource has changed
+	 */
+	boolean hasChangedResources() {
+		return this.changedResources > 0;
+	}
+
+	/**
+	 * Return the names of the beans whose class has changed.
+	 * @return the changed beans
+	 */
+	Set<String> getChangedBeans() {
+		return this.changedBeans;
+	}
+
+	/**
+	 * Return the names of the beans that depend, directly or not, on a changed bean.
+	 * @return the dependent beans
+	 */
+	Set<String> getDependentBeans() {
+		return this.dependentBeans;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder message = new StringBuilder();
+		message.append(this.changedFiles)
+				.append((this.changedFiles != 1) ? " changed files" : " changed file");
+		if (!this.changedClasses.isEmpty()) {
+			message.append(" (").append(this.changedClasses.size())
+					.append((this.changedClasses.size() != 1) ? " classes" : " class")
+					.append(" used by ").append(this.changedBeans.size())
+					.append((this.changedBeans.size() != 1) ? " beans" : " bean")
+					.append(" with ").append(this.dependentBeans.size())
+					.append((this.dependentBeans.size() != 1) ? " dependents"
+							: " dependent")
+					.append(")");
+		}
+		return message.toString();
+	}
+
+	/**
+	 * Create a report for the given change set.
+	 * @param changeSet the changed files
+	 * @param beanFactory the bean factory of the application being restarted
+	 * @return the report
+	 */
+	static ClassPathChangeReport get(Set<ChangedFiles> changeSet,
+			ConfigurableListableBeanFactory beanFactory) {
+		int changedFiles = 0;
+		int changedResources = 0;
+		Set<String> changedClasses = new TreeSet<>();
+		for (ChangedFiles files : changeSet) {
+			for (ChangedFile file : files) {
+				changedFiles++;
+				String name = StringUtils.cleanPath(file.getRelativeName());
+				if (name.endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+					name = name.substring(0,
+							name.length() - ClassUtils.CLASS_FILE_SUFFIX.length());
+					changedClasses.add(name.replace('/', '.'));
+				}
+				else {
+					changedResources++;
+				}
+			}
+		}
+		if (changedClasses.isEmpty()) {
+			return new ClassPathChangeReport(changedFiles, changedResources,
+					changedClasses, Collections.emptySet(), Collections.emptySet());
+		}
+		Set<String> changedTypes = getOuterClassNames(changedClasses);
+		Set<String> changedBeans = new TreeSet<>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+			String className = definition.getBeanClassName();
+			if (className != null
+					&& changedTypes.contains(getOuterClassName(className))) {
+				changedBeans.add(beanName);
+			}
+		}
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			String factoryBeanName = beanFactory.getBeanDefinition(beanName)
+					.getFactoryBeanName();
+			if (factoryBeanName != null && changedBeans.contains(factoryBeanName)) {
+				// Bean methods of a changed configuration class
+				changedBeans.add(beanName);
+			}
+		}
+		return new ClassPathChangeReport(changedFiles, changedResources,
+				changedClasses, changedBeans,
+				getDependentBeans(beanFactory, changedBeans));
+	}
+
+	private static Set<String> getOuterClassNames(Set<String> classNames) {
+		Set<String> outerClassNames = new LinkedHashSet<>();
+		for (String className : classNames) {
+			outerClassNames.add(getOuterClassName(className));
+		}
+		return outerClassNames;
+	}
+
+	private static String getOuterClassName(String className) {
+		int nestedIndex = className.indexOf(ClassUtils.INNER_CLASS_SEPARATOR);
+		return (nestedIndex != -1) ? className.substring(0, nestedIndex) : className;
+	}
+
+	private static Set<String> getDependentBeans(
+			ConfigurableListableBeanFactory beanFactory, Set<String> beanNames) {
+		Set<String> dependentBeans = new TreeSet<>();
+		Deque<String> remaining = new ArrayDeque<>(beanNames);
+		while (!remaining.isEmpty()) {
+			for (String dependent : beanFactory.getDependentBeans(remaining.pop())) {
+				if (!beanNames.contains(dependent) && dependentBeans.add(dependent)) {
+					remaining.push(dependent);
+				}
+			}
+		}
+		return dependentBeans;
+	}
+
+}
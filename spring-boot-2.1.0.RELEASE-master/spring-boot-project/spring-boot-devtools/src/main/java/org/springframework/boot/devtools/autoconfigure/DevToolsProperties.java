@@ -89,6 +89,12 @@ public class DevToolsProperties {
 		 */
 		private Duration quietPeriod = Duration.ofMillis(400);
 
+		/**
+		 * Whether to use the file system's native change notifications, when available,
+		 * rather than polling to detect classpath changes.
+		 */
+		private boolean useWatchService = true;
+
 		/**
 		 * Name of a specific file that, when changed, triggers the restart check. If not
 		 * specified, any classpath file change triggers the restart.
@@ -105,6 +111,12 @@ public class DevToolsProperties {
 		 */
 		private boolean logConditionEvaluationDelta = true;
 
+		/**
+		 * Whether to reuse, after a restart caused by class changes only, the singleton
+		 * beans that neither use nor reference a changed or reloadable class.
+		 */
+		private boolean retainUnaffectedBeans;
+
 		public boolean isEnabled() {
 			return this.enabled;
 		}
@@ -157,6 +169,14 @@ public class DevToolsProperties {
 			this.quietPeriod = quietPeriod;
 		}
 
+		public boolean isUseWatchService() {
+			return this.useWatchService;
+		}
+
+		public void setUseWatchService(boolean useWatchService) {
+			this.useWatchService = useWatchService;
+		}
+
 		public String getTriggerFile() {
 			return this.triggerFile;
 		}
@@ -181,6 +201,14 @@ public class DevToolsProperties {
 			this.logConditionEvaluationDelta = logConditionEvaluationDelta;
 		}
 
+		public boolean isRetainUnaffectedBeans() {
+			return this.retainUnaffectedBeans;
+		}
+
+		public void setRetainUnaffectedBeans(boolean retainUnaffectedBeans) {
+			this.retainUnaffectedBeans = retainUnaffectedBeans;
+		}
+
 	}
 
 	/**
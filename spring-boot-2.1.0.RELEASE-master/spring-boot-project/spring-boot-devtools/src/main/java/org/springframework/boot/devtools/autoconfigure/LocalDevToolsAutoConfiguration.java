@@ -19,7 +19,14 @@ package org.springframework.boot.devtools.autoconfigure;
 import java.io.File;
 import java.net.URL;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -101,20 +108,59 @@ public class LocalDevToolsAutoConfiguration {
 	static class RestartConfiguration
 			implements ApplicationListener<ClassPathChangedEvent> {
 
+		private static final Log logger = LogFactory.getLog(RestartConfiguration.class);
+
 		private final DevToolsProperties properties;
 
-		RestartConfiguration(DevToolsProperties properties) {
+		private final ConfigurableListableBeanFactory beanFactory;
+
+		RestartConfiguration(DevToolsProperties properties,
+				ConfigurableListableBeanFactory beanFactory) {
 			this.properties = properties;
+			this.beanFactory = beanFactory;
 		}
 
 		@Override
 		public void onApplicationEvent(ClassPathChangedEvent event) {
 			if (event.isRestartRequired()) {
+				boolean retain = this.properties.getRestart()
+						.isRetainUnaffectedBeans();
+				if (logger.isInfoEnabled() || retain) {
+					ClassPathChangeReport report = ClassPathChangeReport
+							.get(event.getChangeSet(), this.beanFactory);
+					logChange(report);
+					if (retain) {
+						retainUnaffectedBeans(report);
+					}
+				}
 				Restarter.getInstance().restart(
 						new FileWatchingFailureHandler(fileSystemWatcherFactory()));
 			}
 		}
 
+		private void logChange(ClassPathChangeReport report) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Restarting due to " + report);
+				if (logger.isDebugEnabled()) {
+					logger.debug("Changed classes " + report.getChangedClasses()
+							+ " are used by beans " + report.getChangedBeans()
+							+ " with dependents " + report.getDependentBeans());
+				}
+			}
+		}
+
+		private void retainUnaffectedBeans(ClassPathChangeReport report) {
+			RetainedBeans retainedBeans = RetainedBeans.get(this.beanFactory, report);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Retaining unaffected beans "
+						+ retainedBeans.getBeanNames());
+			}
+			Restarter restarter = Restarter.getInstance();
+			restarter.removeAttribute(RetainedBeans.ATTRIBUTE_NAME);
+			restarter.getOrAddAttribute(RetainedBeans.ATTRIBUTE_NAME,
+					() -> retainedBeans);
+		}
+
 		@Bean
 		@ConditionalOnMissingBean
 		public ClassPathFileSystemWatcher classPathFileSystemWatcher() {
@@ -142,6 +188,12 @@ public class LocalDevToolsAutoConfiguration {
 			return this::newFileSystemWatcher;
 		}
 
+		@Bean
+		@ConditionalOnProperty(prefix = "spring.devtools.restart", name = "retain-unaffected-beans")
+		public static RetainedBeansRegistrar retainedBeansRegistrar() {
+			return new RetainedBeansRegistrar();
+		}
+
 		@Bean
 		@ConditionalOnProperty(prefix = "spring.devtools.restart", name = "log-condition-evaluation-delta", matchIfMissing = true)
 		public ConditionEvaluationDeltaLoggingListener conditionEvaluationDeltaLoggingListener() {
@@ -153,6 +205,7 @@ public class LocalDevToolsAutoConfiguration {
 			FileSystemWatcher watcher = new FileSystemWatcher(true,
 					restartProperties.getPollInterval(),
 					restartProperties.getQuietPeriod());
+			watcher.setUseWatchService(restartProperties.isUseWatchService());
 			String triggerFile = restartProperties.getTriggerFile();
 			if (StringUtils.hasLength(triggerFile)) {
 				watcher.setTriggerFilter(new TriggerFileFilter(triggerFile));
@@ -166,6 +219,33 @@ public class LocalDevToolsAutoConfiguration {
 
 	}
 
+	/**
+	 * {@link BeanFactoryPostProcessor} that registers the beans retained by the previous
+	 * run of the application.
+	 */
+	static class RetainedBeansRegistrar implements BeanFactoryPostProcessor {
+
+		private static final Log logger = LogFactory
+				.getLog(RetainedBeansRegistrar.class);
+
+		@Override
+		public void postProcessBeanFactory(
+				ConfigurableListableBeanFactory beanFactory) throws BeansException {
+			Object retainedBeans = Restarter.getInstance()
+					.removeAttribute(RetainedBeans.ATTRIBUTE_NAME);
+			if (retainedBeans instanceof RetainedBeans) {
+				Set<String> registered = ((RetainedBeans) retainedBeans)
+						.register(beanFactory);
+				logger.info("Reused " + registered.size() + " unaffected "
+						+ ((registered.size() != 1) ? "beans" : "bean"));
+				if (logger.isDebugEnabled()) {
+					logger.debug("Reused unaffected beans " + registered);
+				}
+			}
+		}
+
+	}
+
 	static class LiveReloadServerEventListener implements GenericApplicationListener {
 
 		private final OptionalLiveReloadServer liveReloadServer;
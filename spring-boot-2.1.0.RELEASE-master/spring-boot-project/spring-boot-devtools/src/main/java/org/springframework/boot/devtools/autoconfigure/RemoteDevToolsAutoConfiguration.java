@@ -39,9 +39,12 @@ import org.springframework.boot.devtools.remote.server.HandlerMapper;
 import org.springframework.boot.devtools.remote.server.HttpHeaderAccessManager;
 import org.springframework.boot.devtools.remote.server.HttpStatusHandler;
 import org.springframework.boot.devtools.remote.server.UrlHandlerMapper;
+import org.springframework.boot.devtools.restart.Restarter;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFilesCodec;
 import org.springframework.boot.devtools.restart.server.DefaultSourceFolderUrlFilter;
 import org.springframework.boot.devtools.restart.server.HttpRestartServer;
 import org.springframework.boot.devtools.restart.server.HttpRestartServerHandler;
+import org.springframework.boot.devtools.restart.server.RestartServer;
 import org.springframework.boot.devtools.restart.server.SourceFolderUrlFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -124,7 +127,11 @@ public class RemoteDevToolsAutoConfiguration {
 		@ConditionalOnMissingBean
 		public HttpRestartServer remoteRestartHttpRestartServer(
 				SourceFolderUrlFilter sourceFolderUrlFilter) {
-			return new HttpRestartServer(sourceFolderUrlFilter);
+			ClassLoaderFilesCodec codec = (ClassLoaderFilesCodec) Restarter.getInstance()
+					.getOrAddAttribute("remoteRestartClassLoaderFilesCodec",
+							ClassLoaderFilesCodec::new);
+			return new HttpRestartServer(new RestartServer(sourceFolderUrlFilter),
+					codec);
 		}
 
 		@Bean
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.autoconfigure;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.Aware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanFactory;
+import org.springframework.boot.devtools.restart.classloader.RestartClassLoader;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.Lifecycle;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Singleton beans that are unaffected by a class path change and that can be reused by
+ * the application context that is created when the application restarts. A bean is only
+ * retained when neither its class nor any of the objects that it references were loaded
+ * by a {@link RestartClassLoader}, when it is not tied to the lifecycle of its
+ * application context, and when every bean that it depends on is also retained. Nothing
+ * is retained when a file other than a class file has changed, as the configuration of
+ * the application may then be different.
+ *
+ * @author agent
+ */
+final class RetainedBeans {
+
+	/**
+	 * Name of the {@code Restarter} attribute that holds the retained beans across a
+	 * restart.
+	 */
+	static final String ATTRIBUTE_NAME = RetainedBeans.class.getName();
+
+	private static final String NULL_BEAN_CLASS_NAME = "org.springframework.beans.factory.support.NullBean";
+
+	private static final int MAX_REFERENCE_DEPTH = 8;
+
+	private static final String CLOSE_METHOD_NAME = "close";
+
+	private static final String SHUTDOWN_METHOD_NAME = "shutdown";
+
+	private final Map<String, RetainedBean> beans;
+
+	private RetainedBeans(Map<String, RetainedBean> beans) {
+		this.beans = beans;
+	}
+
+	/**
+	 * Return the names of the retained beans.
+	 * @return the bean names
+	 */
+	Set<String> getBeanNames() {
+		return Collections.unmodifiableSet(this.beans.keySet());
+	}
+
+	/**
+	 * Register the retained beans whose definition is unchanged as singletons of the
+	 * given bean factory, so that they are not created again.
+	 * @param beanFactory the bean factory of the restarted application
+	 * @return the names of the registered beans
+	 */
+	Set<String> register(ConfigurableListableBeanFactory beanFactory) {
+		Map<String, RetainedBean> registrable = new LinkedHashMap<>();
+		this.beans.forEach((name, bean) -> {
+			if (beanFactory.containsBeanDefinition(name)
+					&& !beanFactory.containsSingleton(name)
+					&& bean.matches(beanFactory.getMergedBeanDefinition(name))) {
+				registrable.put(name, bean);
+			}
+		});
+		removeUnresolvable(registrable);
+		registrable.forEach((name, bean) -> {
+			beanFactory.registerSingleton(name, bean.getInstance());
+			for (String dependency : bean.getDependencies()) {
+				beanFactory.registerDependentBean(dependency, name);
+			}
+		});
+		return registrable.keySet();
+	}
+
+	/**
+	 * Find the beans of the given bean factory that can be retained across a restart
+	 * caused by the given change.
+	 * @param beanFactory the bean factory of the application being restarted
+	 * @param report the change that triggered the restart
+	 * @return the retained beans
+	 */
+	static RetainedBeans get(ConfigurableListableBeanFactory beanFactory,
+			ClassPathChangeReport report) {
+		if (report.hasChangedResources()) {
+			return new RetainedBeans(Collections.emptyMap());
+		}
+		Map<Object, String> beanNames = new IdentityHashMap<>();
+		for (String name : beanFactory.getSingletonNames()) {
+			Object singleton = beanFactory.getSingleton(name);
+			if (singleton != null) {
+				beanNames.put(singleton, name);
+			}
+		}
+		Map<String, RetainedBean> beans = new LinkedHashMap<>();
+		for (String name : beanFactory.getBeanDefinitionNames()) {
+			if (!report.getChangedBeans().contains(name)
+					&& !report.getDependentBeans().contains(name)) {
+				RetainedBean bean = getRetainedBean(beanFactory, name, beanNames);
+				if (bean != null) {
+					beans.put(name, bean);
+				}
+			}
+		}
+		removeUnresolvable(beans);
+		return new RetainedBeans(beans);
+	}
+
+	private static RetainedBean getRetainedBean(
+			ConfigurableListableBeanFactory beanFactory, String name,
+			Map<Object, String> beanNames) {
+		BeanDefinition definition = beanFactory.getMergedBeanDefinition(name);
+		if (!definition.isSingleton() || definition.isAbstract()
+				|| !beanFactory.containsSingleton(name)) {
+			return null;
+		}
+		Object instance = beanFactory.getSingleton(name);
+		if (instance == null || !isRetainable(beanFactory, instance, definition)) {
+			return null;
+		}
+		Set<String> dependencies = new LinkedHashSet<>(
+				Arrays.asList(beanFactory.getDependenciesForBean(name)));
+		// A bean method's configuration class is only referenced when the bean's
+		// fields say so
+		dependencies.remove(definition.getFactoryBeanName());
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		visited.add(instance);
+		if (!addFieldReferences(instance, instance.getClass(), beanNames,
+				dependencies, visited, 0)) {
+			return null;
+		}
+		return new RetainedBean(instance, definition, dependencies);
+	}
+
+	private static boolean isRetainable(ConfigurableListableBeanFactory beanFactory,
+			Object instance, BeanDefinition definition) {
+		if (instance instanceof Aware || instance instanceof Lifecycle
+				|| instance instanceof ApplicationListener
+				|| instance instanceof BeanPostProcessor
+				|| instance instanceof BeanFactoryPostProcessor
+				|| instance instanceof FactoryBean || instance instanceof DisposableBean
+				|| instance instanceof AutoCloseable
+				|| NULL_BEAN_CLASS_NAME.equals(instance.getClass().getName())
+				|| hasDestroyMethod(instance, definition)
+				|| isRestartLoaded(instance.getClass())) {
+			return false;
+		}
+		if (beanFactory instanceof AbstractBeanFactory) {
+			for (BeanPostProcessor postProcessor : ((AbstractBeanFactory) beanFactory)
+					.getBeanPostProcessors()) {
+				if (postProcessor instanceof DestructionAwareBeanPostProcessor
+						&& ((DestructionAwareBeanPostProcessor) postProcessor)
+								.requiresDestruction(instance)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasDestroyMethod(Object instance, BeanDefinition definition) {
+		String destroyMethodName = definition.getDestroyMethodName();
+		if (AbstractBeanDefinition.INFER_METHOD.equals(destroyMethodName)) {
+			// Inferred in the same way as DisposableBeanAdapter, the default of @Bean
+			Class<?> type = instance.getClass();
+			return ClassUtils.hasMethod(type, CLOSE_METHOD_NAME)
+					|| ClassUtils.hasMethod(type, SHUTDOWN_METHOD_NAME);
+		}
+		return StringUtils.hasLength(destroyMethodName);
+	}
+
+	private static boolean addReferences(Object value, Map<Object, String> beanNames,
+			Set<String> references, Set<Object> visited, int depth) {
+		if (value == null || !visited.add(value)) {
+			return true;
+		}
+		String beanName = beanNames.get(value);
+		if (beanName != null) {
+			references.add(beanName);
+			return true;
+		}
+		Class<?> type = value.getClass();
+		if (depth > MAX_REFERENCE_DEPTH || value instanceof BeanFactory
+				|| value instanceof ApplicationContext || value instanceof ObjectFactory
+				|| isRestartLoaded(type)) {
+			return false;
+		}
+		if (type.isArray()) {
+			if (!type.getComponentType().isPrimitive()) {
+				for (int i = 0; i < Array.getLength(value); i++) {
+					if (!addReferences(Array.get(value, i), beanNames, references,
+							visited, depth + 1)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		if (value instanceof Collection || value instanceof Map) {
+			Collection<?> elements = (value instanceof Map)
+					? ((Map<?, ?>) value).entrySet() : (Collection<?>) value;
+			for (Object element : elements) {
+				Object[] values = (element instanceof Map.Entry)
+						? new Object[] { ((Map.Entry<?, ?>) element).getKey(),
+								((Map.Entry<?, ?>) element).getValue() }
+						: new Object[] { element };
+				for (Object item : values) {
+					if (!addReferences(item, beanNames, references, visited,
+							depth + 1)) {
+						return false;
+					}
+				}
+			}
+		}
+		if (isPlatformType(type)) {
+			return true;
+		}
+		return addFieldReferences(value, type, beanNames, references, visited, depth);
+	}
+
+	private static boolean addFieldReferences(Object value, Class<?> type,
+			Map<Object, String> beanNames, Set<String> references, Set<Object> visited,
+			int depth) {
+		for (Class<?> candidate = type; candidate != null
+				&& !isPlatformType(candidate); candidate = candidate.getSuperclass()) {
+			for (Field field : candidate.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers())
+						|| field.getType().isPrimitive()) {
+					continue;
+				}
+				Object fieldValue;
+				try {
+					ReflectionUtils.makeAccessible(field);
+					fieldValue = field.get(value);
+				}
+				catch (Exception ex) {
+					return false;
+				}
+				if (!addReferences(fieldValue, beanNames, references, visited,
+						depth + 1)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isPlatformType(Class<?> type) {
+		return type.getClassLoader() == null || type.getName().startsWith("java.");
+	}
+
+	private static boolean isRestartLoaded(Class<?> type) {
+		for (ClassLoader classLoader = type.getClassLoader(); classLoader != null;
+				classLoader = classLoader.getParent()) {
+			if (classLoader instanceof RestartClassLoader) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void removeUnresolvable(Map<String, RetainedBean> beans) {
+		boolean removed;
+		do {
+			removed = beans.values().removeIf((bean) -> !beans.keySet()
+					.containsAll(bean.getDependencies()));
+		}
+		while (removed);
+	}
+
+	/**
+	 * A retained bean instance, along with the definition that it was created from.
+	 */
+	private static final class RetainedBean {
+
+		private final Object instance;
+
+		private final String beanClassName;
+
+		private final String factoryBeanName;
+
+		private final String factoryMethodName;
+
+		private final Set<String> dependencies;
+
+		RetainedBean(Object instance, BeanDefinition definition,
+				Set<String> dependencies) {
+			this.instance = instance;
+			this.beanClassName = definition.getBeanClassName();
+			this.factoryBeanName = definition.getFactoryBeanName();
+			this.factoryMethodName = definition.getFactoryMethodName();
+			this.dependencies = dependencies;
+		}
+
+		Object getInstance() {
+			return this.instance;
+		}
+
+		Set<String> getDependencies() {
+			return this.dependencies;
+		}
+
+		boolean matches(BeanDefinition definition) {
+			return ObjectUtils.nullSafeEquals(this.beanClassName,
+					definition.getBeanClassName())
+					&& ObjectUtils.nullSafeEquals(this.factoryBeanName,
+							definition.getFactoryBeanName())
+					&& ObjectUtils.nullSafeEquals(this.factoryMethodName,
+							definition.getFactoryMethodName());
+		}
+
+	}
+
+}
@@ -18,16 +18,32 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.util.Assert;
@@ -62,6 +78,8 @@ public class FileSystemWatcher {
 
 	private FileFilter triggerFilter;
 
+	private boolean useWatchService;
+
 	private final Object monitor = new Object();
 
 	/**
@@ -142,6 +160,23 @@ public class FileSystemWatcher {
 		}
 	}
 
+	/**
+	 * Set whether to use the file system's {@link WatchService} to detect changes rather
+	 * than polling the source folders. Only the folders that have reported events are
+	 * rescanned, with a full rescan when events have been lost. Polling is used when the
+	 * {@link WatchService} is not backed by native notifications or when a source folder
+	 * does not exist. Cannot be called after the watcher has been {@link #start()
+	 * started}.
+	 * @param useWatchService if the {@link WatchService} should be used
+	 * @since 2.1.0
+	 */
+	public void setUseWatchService(boolean useWatchService) {
+		synchronized (this.monitor) {
+			checkNotStarted();
+			this.useWatchService = useWatchService;
+		}
+	}
+
 	private void checkNotStarted() {
 		synchronized (this.monitor) {
 			Assert.state(this.watchThread == null, "FileSystemWatcher already started");
@@ -157,9 +192,7 @@ public class FileSystemWatcher {
 			if (this.watchThread == null) {
 				Map<File, FolderSnapshot> localFolders = new HashMap<>();
 				localFolders.putAll(this.folders);
-				this.watchThread = new Thread(new Watcher(this.remainingScans,
-						new ArrayList<>(this.listeners), this.triggerFilter,
-						this.pollInterval, this.quietPeriod, localFolders));
+				this.watchThread = new Thread(createWatcher(localFolders));
 				this.watchThread.setName("File Watcher");
 				this.watchThread.setDaemon(this.daemon);
 				this.watchThread.start();
@@ -167,6 +200,54 @@ public class FileSystemWatcher {
 		}
 	}
 
+	private Watcher createWatcher(Map<File, FolderSnapshot> folders) {
+		List<FileChangeListener> listeners = new ArrayList<>(this.listeners);
+		if (this.useWatchService) {
+			WatchService watchService = getNativeWatchService(folders.keySet());
+			if (watchService != null) {
+				try {
+					return new WatchServiceWatcher(this.remainingScans, listeners,
+							this.triggerFilter, this.pollInterval, this.quietPeriod,
+							folders, watchService);
+				}
+				catch (IOException ex) {
+					closeQuietly(watchService);
+				}
+			}
+		}
+		return new Watcher(this.remainingScans, listeners, this.triggerFilter,
+				this.pollInterval, this.quietPeriod, folders);
+	}
+
+	private WatchService getNativeWatchService(Set<File> folders) {
+		for (File folder : folders) {
+			if (!folder.isDirectory()) {
+				return null;
+			}
+		}
+		try {
+			WatchService watchService = FileSystems.getDefault().newWatchService();
+			if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+				// Not worth it, the JDK would poll with a longer interval than ours
+				closeQuietly(watchService);
+				return null;
+			}
+			return watchService;
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			return null;
+		}
+	}
+
+	private static void closeQuietly(WatchService watchService) {
+		try {
+			watchService.close();
+		}
+		catch (IOException ex) {
+			// Ignore
+		}
+	}
+
 	private void saveInitialSnapshots() {
 		for (File folder : this.folders.keySet()) {
 			this.folders.put(folder, new FolderSnapshot(folder));
@@ -206,19 +287,19 @@ public class FileSystemWatcher {
 		}
 	}
 
-	private static final class Watcher implements Runnable {
+	private static class Watcher implements Runnable {
 
 		private final AtomicInteger remainingScans;
 
 		private final List<FileChangeListener> listeners;
 
-		private final FileFilter triggerFilter;
+		protected final FileFilter triggerFilter;
 
-		private final long pollInterval;
+		protected final long pollInterval;
 
-		private final long quietPeriod;
+		protected final long quietPeriod;
 
-		private Map<File, FolderSnapshot> folders;
+		protected Map<File, FolderSnapshot> folders;
 
 		private Watcher(AtomicInteger remainingScans, List<FileChangeListener> listeners,
 				FileFilter triggerFilter, long pollInterval, long quietPeriod,
@@ -248,7 +329,7 @@ public class FileSystemWatcher {
 			}
 		}
 
-		private void scan() throws InterruptedException {
+		protected void scan() throws InterruptedException {
 			Thread.sleep(this.pollInterval - this.quietPeriod);
 			Map<File, FolderSnapshot> previous;
 			Map<File, FolderSnapshot> current = this.folders;
@@ -263,7 +344,7 @@ public class FileSystemWatcher {
 			}
 		}
 
-		private boolean isDifferent(Map<File, FolderSnapshot> previous,
+		protected boolean isDifferent(Map<File, FolderSnapshot> previous,
 				Map<File, FolderSnapshot> current) {
 			if (!previous.keySet().equals(current.keySet())) {
 				return true;
@@ -286,7 +367,7 @@ public class FileSystemWatcher {
 			return snapshots;
 		}
 
-		private void updateSnapshots(Collection<FolderSnapshot> snapshots) {
+		protected void updateSnapshots(Collection<FolderSnapshot> snapshots) {
 			Map<File, FolderSnapshot> updated = new LinkedHashMap<>();
 			Set<ChangedFiles> changeSet = new LinkedHashSet<>();
 			for (FolderSnapshot snapshot : snapshots) {
@@ -312,4 +393,139 @@ public class FileSystemWatcher {
 
 	}
 
+	/**
+	 * {@link Watcher} that waits for {@link WatchService} events rather than polling.
+	 * Changes are batched until no further events are received for the quiet period.
+	 */
+	private static final class WatchServiceWatcher extends Watcher {
+
+		private final WatchService watchService;
+
+		private final Map<WatchKey, Path> keys = new HashMap<>();
+
+		private final Set<File> changed = new HashSet<>();
+
+		private boolean rescan;
+
+		private WatchServiceWatcher(AtomicInteger remainingScans,
+				List<FileChangeListener> listeners, FileFilter triggerFilter,
+				long pollInterval, long quietPeriod, Map<File, FolderSnapshot> folders,
+				WatchService watchService) throws IOException {
+			super(remainingScans, listeners, triggerFilter, pollInterval, quietPeriod,
+					folders);
+			this.watchService = watchService;
+			for (File folder : folders.keySet()) {
+				register(folder.toPath());
+			}
+		}
+
+		private void register(Path start) throws IOException {
+			Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS),
+					Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+
+						@Override
+						public FileVisitResult preVisitDirectory(Path dir,
+								BasicFileAttributes attrs) throws IOException {
+							WatchKey key = dir.register(
+									WatchServiceWatcher.this.watchService,
+									StandardWatchEventKinds.ENTRY_CREATE,
+									StandardWatchEventKinds.ENTRY_DELETE,
+									StandardWatchEventKinds.ENTRY_MODIFY);
+							WatchServiceWatcher.this.keys.put(key, dir);
+							return FileVisitResult.CONTINUE;
+						}
+
+						@Override
+						public FileVisitResult visitFileFailed(Path file,
+								IOException ex) throws IOException {
+							if (ex instanceof FileSystemLoopException) {
+								return FileVisitResult.CONTINUE;
+							}
+							throw ex;
+						}
+
+					});
+		}
+
+		@Override
+		public void run() {
+			try {
+				super.run();
+			}
+			finally {
+				closeQuietly(this.watchService);
+			}
+		}
+
+		@Override
+		protected void scan() throws InterruptedException {
+			WatchKey key = this.watchService.poll(this.pollInterval,
+					TimeUnit.MILLISECONDS);
+			while (key != null) {
+				processEvents(key);
+				key = this.watchService.poll(this.quietPeriod, TimeUnit.MILLISECONDS);
+			}
+			if (!this.rescan && this.changed.isEmpty()) {
+				return;
+			}
+			Map<File, FolderSnapshot> current = getUpdatedSnapshots();
+			if (isDifferent(this.folders, current)) {
+				updateSnapshots(current.values());
+			}
+			else if (this.triggerFilter != null) {
+				// Keep the changes until the trigger file is updated
+				return;
+			}
+			this.changed.clear();
+			this.rescan = false;
+		}
+
+		private void processEvents(WatchKey key) {
+			Path folder = this.keys.get(key);
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (folder == null
+						|| event.kind() == StandardWatchEventKinds.OVERFLOW) {
+					this.rescan = true;
+					continue;
+				}
+				Path path = folder.resolve((Path) event.context());
+				this.changed.add(path.toFile());
+				if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+						&& Files.isDirectory(path)) {
+					try {
+						register(path);
+					}
+					catch (IOException ex) {
+						this.rescan = true;
+					}
+				}
+			}
+			if (!key.reset()) {
+				this.keys.remove(key);
+			}
+		}
+
+		private Map<File, FolderSnapshot> getUpdatedSnapshots() {
+			Map<File, FolderSnapshot> snapshots = new LinkedHashMap<>();
+			for (Map.Entry<File, FolderSnapshot> entry : this.folders.entrySet()) {
+				File folder = entry.getKey();
+				snapshots.put(folder, this.rescan ? new FolderSnapshot(folder)
+						: entry.getValue().getUpdatedSnapshot(getChanged(folder)));
+			}
+			return snapshots;
+		}
+
+		private Set<File> getChanged(File folder) {
+			Path folderPath = folder.toPath();
+			Set<File> changed = new HashSet<>();
+			for (File file : this.changed) {
+				if (file.toPath().startsWith(folderPath)) {
+					changed.add(file);
+				}
+			}
+			return changed;
+		}
+
+	}
+
 }
@@ -60,6 +60,50 @@ class FolderSnapshot {
 		this.files = Collections.unmodifiableSet(files);
 	}
 
+	private FolderSnapshot(File folder, Set<FileSnapshot> files) {
+		this.folder = folder;
+		this.time = new Date();
+		this.files = Collections.unmodifiableSet(files);
+	}
+
+	/**
+	 * Return a new snapshot that only rescans the given changed files and folders,
+	 * retaining the existing snapshots of all other files.
+	 * @param changed the files and folders that have changed
+	 * @return the updated snapshot
+	 */
+	FolderSnapshot getUpdatedSnapshot(Set<File> changed) {
+		Set<FileSnapshot> files = new LinkedHashSet<>();
+		for (FileSnapshot file : this.files) {
+			if (!isChanged(file.getFile(), changed)) {
+				files.add(file);
+			}
+		}
+		for (File file : changed) {
+			if (isChanged(file.getParentFile(), changed)) {
+				// Already rescanned as part of a changed parent folder
+				continue;
+			}
+			if (file.isDirectory()) {
+				collectFiles(file, files);
+			}
+			else if (file.isFile()) {
+				files.add(new FileSnapshot(file));
+			}
+		}
+		return new FolderSnapshot(this.folder, files);
+	}
+
+	private boolean isChanged(File file, Set<File> changed) {
+		while (file != null) {
+			if (changed.contains(file)) {
+				return true;
+			}
+			file = file.getParentFile();
+		}
+		return false;
+	}
+
 	private void collectFiles(File source, Set<FileSnapshot> result) {
 		File[] children = source.listFiles();
 		if (children != null) {
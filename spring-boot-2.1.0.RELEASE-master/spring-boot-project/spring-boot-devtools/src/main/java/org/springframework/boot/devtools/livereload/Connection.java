@@ -45,6 +45,9 @@ class Connection {
 
 	public static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
 
+	private static final byte[] RELOAD_FRAME = new Frame(
+			"{\"command\":\"reload\",\"path\":\"/\"}").toByteArray();
+
 	private final Socket socket;
 
 	private final ConnectionInputStream inputStream;
@@ -93,9 +96,9 @@ class Connection {
 		this.outputStream.writeHeaders("HTTP/1.1 101 Switching Protocols",
 				"Upgrade: websocket", "Connection: Upgrade",
 				"Sec-WebSocket-Accept: " + accept);
-		new Frame("{\"command\":\"hello\",\"protocols\":"
+		writeWebSocketFrame(new Frame("{\"command\":\"hello\",\"protocols\":"
 				+ "[\"http://livereload.com/protocols/official-7\"],"
-				+ "\"serverName\":\"spring-boot\"}").write(this.outputStream);
+				+ "\"serverName\":\"spring-boot\"}"));
 		Thread.sleep(100);
 		this.webSocket = true;
 		while (this.running) {
@@ -135,12 +138,20 @@ class Connection {
 	public void triggerReload() throws IOException {
 		if (this.webSocket) {
 			logger.debug("Triggering LiveReload");
-			writeWebSocketFrame(new Frame("{\"command\":\"reload\",\"path\":\"/\"}"));
+			writeWebSocketFrame(RELOAD_FRAME);
 		}
 	}
 
 	private void writeWebSocketFrame(Frame frame) throws IOException {
-		frame.write(this.outputStream);
+		writeWebSocketFrame(frame.toByteArray());
+	}
+
+	private void writeWebSocketFrame(byte[] frame) throws IOException {
+		// Reloads are written from a different thread than ping responses
+		synchronized (this.outputStream) {
+			this.outputStream.write(frame);
+			this.outputStream.flush();
+		}
 	}
 
 	private String getWebsocketAcceptResponse() throws NoSuchAlgorithmException {
@@ -70,17 +70,29 @@ class Frame {
 	}
 
 	public void write(OutputStream outputStream) throws IOException {
-		outputStream.write(0x80 | this.type.code);
+		outputStream.write(toByteArray());
+		outputStream.flush();
+	}
+
+	/**
+	 * Return the encoded frame so that it can be written with a single call or shared
+	 * between connections.
+	 * @return the encoded frame
+	 */
+	byte[] toByteArray() {
+		int headerLength = (this.payload.length < 126) ? 2 : 4;
+		byte[] bytes = new byte[headerLength + this.payload.length];
+		bytes[0] = (byte) (0x80 | this.type.code);
 		if (this.payload.length < 126) {
-			outputStream.write(0x00 | (this.payload.length & 0x7F));
+			bytes[1] = (byte) (0x00 | (this.payload.length & 0x7F));
 		}
 		else {
-			outputStream.write(0x7E);
-			outputStream.write(this.payload.length >> 8 & 0xFF);
-			outputStream.write(this.payload.length >> 0 & 0xFF);
+			bytes[1] = 0x7E;
+			bytes[2] = (byte) (this.payload.length >> 8 & 0xFF);
+			bytes[3] = (byte) (this.payload.length >> 0 & 0xFF);
 		}
-		outputStream.write(this.payload);
-		outputStream.flush();
+		System.arraycopy(this.payload, 0, bytes, headerLength, this.payload.length);
+		return bytes;
 	}
 
 	public static Frame read(ConnectionInputStream inputStream) throws IOException {
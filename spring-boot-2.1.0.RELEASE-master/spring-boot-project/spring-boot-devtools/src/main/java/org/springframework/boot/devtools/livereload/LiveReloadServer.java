@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -36,7 +37,9 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.util.Assert;
 
 /**
- * A <a href="http://livereload.com">livereload</a> server.
+ * A <a href="http://livereload.com">livereload</a> server. Reloads that are triggered in
+ * quick succession, for example when several application contexts are refreshed, are
+ * coalesced so that connected clients only reload once.
  *
  * @author Phillip Webb
  * @since 1.3.0
@@ -53,6 +56,8 @@ public class LiveReloadServer {
 
 	private static final int READ_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(4);
 
+	private static final long RELOAD_QUIET_PERIOD = 100;
+
 	private final ExecutorService executor = Executors
 			.newCachedThreadPool(new WorkerThreadFactory());
 
@@ -60,6 +65,12 @@ public class LiveReloadServer {
 
 	private final Object monitor = new Object();
 
+	private final Object reloadMonitor = new Object();
+
+	private boolean reloadPending;
+
+	private long reloadTime;
+
 	private final int port;
 
 	private final ThreadFactory threadFactory;
@@ -196,18 +207,58 @@ public class LiveReloadServer {
 	}
 
 	/**
-	 * Trigger livereload of all connected clients.
+	 * Trigger livereload of all connected clients. Clients are reloaded once no further
+	 * reload has been triggered for a short period.
 	 */
 	public void triggerReload() {
-		synchronized (this.monitor) {
-			synchronized (this.connections) {
-				for (Connection connection : this.connections) {
-					try {
-						connection.triggerReload();
-					}
-					catch (Exception ex) {
-						logger.debug("Unable to send reload message", ex);
-					}
+		synchronized (this.reloadMonitor) {
+			this.reloadTime = System.currentTimeMillis() + RELOAD_QUIET_PERIOD;
+			if (this.reloadPending) {
+				return;
+			}
+			try {
+				this.executor.execute(this::reloadWhenQuiet);
+				this.reloadPending = true;
+			}
+			catch (RejectedExecutionException ex) {
+				logger.debug("Unable to trigger reload as the server has been stopped");
+			}
+		}
+	}
+
+	private void reloadWhenQuiet() {
+		try {
+			long delay = getRemainingQuietPeriod();
+			while (delay > 0) {
+				Thread.sleep(delay);
+				delay = getRemainingQuietPeriod();
+			}
+			reloadConnections();
+		}
+		catch (InterruptedException ex) {
+			synchronized (this.reloadMonitor) {
+				this.reloadPending = false;
+			}
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private long getRemainingQuietPeriod() {
+		synchronized (this.reloadMonitor) {
+			long delay = this.reloadTime - System.currentTimeMillis();
+			this.reloadPending = (delay > 0);
+			return delay;
+		}
+	}
+
+	private void reloadConnections() {
+		synchronized (this.connections) {
+			for (Connection connection : this.connections) {
+				try {
+					connection.triggerReload();
+				}
+				catch (Exception ex) {
+					logger.debug("Unable to send reload message", ex);
 				}
 			}
 		}
@@ -16,9 +16,7 @@
 
 package org.springframework.boot.devtools.remote.client;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.net.ConnectException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -37,6 +35,7 @@ import org.springframework.boot.devtools.filewatch.ChangedFiles;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFilesCodec;
 import org.springframework.context.ApplicationListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -49,7 +48,9 @@ import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
 
 /**
- * Listens and pushes any classpath updates to a remote endpoint.
+ * Listens and pushes any classpath updates to a remote endpoint. Updates are
+ * {@link ClassLoaderFilesCodec encoded} so that only content that the remote endpoint
+ * does not already have is sent.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -75,6 +76,8 @@ public class ClassPathChangeUploader
 
 	private final ClientHttpRequestFactory requestFactory;
 
+	private final ClassLoaderFilesCodec codec = new ClassLoaderFilesCodec();
+
 	public ClassPathChangeUploader(String url, ClientHttpRequestFactory requestFactory) {
 		Assert.hasLength(url, "URL must not be empty");
 		Assert.notNull(requestFactory, "RequestFactory must not be null");
@@ -91,15 +94,20 @@ public class ClassPathChangeUploader
 	public void onApplicationEvent(ClassPathChangedEvent event) {
 		try {
 			ClassLoaderFiles classLoaderFiles = getClassLoaderFiles(event);
-			byte[] bytes = serialize(classLoaderFiles);
-			performUpload(classLoaderFiles, bytes);
+			if (!performUpload(classLoaderFiles, this.codec.encode(classLoaderFiles))) {
+				logger.debug("Remote endpoint is missing content, uploading all files");
+				this.codec.clear();
+				boolean uploaded = performUpload(classLoaderFiles,
+						this.codec.encode(classLoaderFiles));
+				Assert.state(uploaded, "Unable to upload class files");
+			}
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException(ex);
 		}
 	}
 
-	private void performUpload(ClassLoaderFiles classLoaderFiles, byte[] bytes)
+	private boolean performUpload(ClassLoaderFiles classLoaderFiles, byte[] bytes)
 			throws IOException {
 		try {
 			while (true) {
@@ -107,15 +115,19 @@ public class ClassPathChangeUploader
 					ClientHttpRequest request = this.requestFactory
 							.createRequest(this.uri, HttpMethod.POST);
 					HttpHeaders headers = request.getHeaders();
-					headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+					headers.setContentType(
+							MediaType.parseMediaType(ClassLoaderFilesCodec.CONTENT_TYPE));
 					headers.setContentLength(bytes.length);
 					FileCopyUtils.copy(bytes, request.getBody());
 					ClientHttpResponse response = request.execute();
 					HttpStatus statusCode = response.getStatusCode();
+					if (statusCode == HttpStatus.CONFLICT) {
+						return false;
+					}
 					Assert.state(statusCode == HttpStatus.OK, () -> "Unexpected "
 							+ statusCode + " response uploading class files");
-					logUpload(classLoaderFiles);
-					return;
+					logUpload(classLoaderFiles, bytes);
+					return true;
 				}
 				catch (ConnectException ex) {
 					logger.warn("Failed to connect when uploading to " + this.uri
@@ -130,18 +142,11 @@ public class ClassPathChangeUploader
 		}
 	}
 
-	private void logUpload(ClassLoaderFiles classLoaderFiles) {
+	private void logUpload(ClassLoaderFiles classLoaderFiles, byte[] bytes) {
 		int size = classLoaderFiles.size();
 		logger.info("Uploaded " + size + " class "
-				+ ((size != 1) ? "resources" : "resource"));
-	}
-
-	private byte[] serialize(ClassLoaderFiles classLoaderFiles) throws IOException {
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
-		objectOutputStream.writeObject(classLoaderFiles);
-		objectOutputStream.close();
-		return outputStream.toByteArray();
+				+ ((size != 1) ? "resources" : "resource") + " (" + bytes.length
+				+ " bytes)");
 	}
 
 	private ClassLoaderFiles getClassLoaderFiles(ClassPathChangedEvent event)
@@ -208,6 +208,7 @@ public class RemoteClientConfiguration implements InitializingBean {
 			FileSystemWatcher watcher = new FileSystemWatcher(true,
 					restartProperties.getPollInterval(),
 					restartProperties.getQuietPeriod());
+			watcher.setUseWatchService(restartProperties.isUseWatchService());
 			String triggerFile = restartProperties.getTriggerFile();
 			if (StringUtils.hasLength(triggerFile)) {
 				watcher.setTriggerFilter(new TriggerFileFilter(triggerFile));
@@ -33,6 +33,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -249,8 +250,14 @@ public class Restarter {
 		}
 		this.logger.debug("Restarting application");
 		getLeakSafeThread().call(() -> {
+			long startTime = System.nanoTime();
 			Restarter.this.stop();
 			Restarter.this.start(failureHandler);
+			if (Restarter.this.logger.isInfoEnabled()) {
+				Restarter.this.logger.info("Restart completed in "
+						+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+						+ "ms");
+			}
 			return null;
 		});
 	}
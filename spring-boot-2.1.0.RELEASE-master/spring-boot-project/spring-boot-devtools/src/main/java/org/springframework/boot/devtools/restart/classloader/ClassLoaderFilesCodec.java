@@ -0,0 +1,297 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart.classloader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles.SourceFolder;
+
+/**
+ * Compact, content addressed, encoding of {@link ClassLoaderFiles}. Encoded files are
+ * compressed and content is identified by its SHA-256 digest. Both sides of a connection
+ * keep the latest content of each file that has been exchanged, so content that the
+ * other side already holds is sent as a reference and content that changed since it was
+ * last sent is sent as a delta against the previous version.
+ * <p>
+ * A {@link MissingContentException} is thrown on decode when a reference cannot be
+ * resolved, in which case the sender should {@link #clear() clear} its state and send the
+ * files again.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class ClassLoaderFilesCodec {
+
+	/**
+	 * The content type of encoded {@link ClassLoaderFiles}.
+	 */
+	public static final String CONTENT_TYPE = "application/vnd.spring-boot.devtools.class-loader-files";
+
+	private static final int VERSION = 1;
+
+	private static final int DIGEST_LENGTH = 32;
+
+	private static final byte RAW = 'R';
+
+	private static final byte REFERENCE = 'H';
+
+	private static final byte DELTA = 'D';
+
+	private final Map<String, String> digests = new HashMap<>();
+
+	private final Map<String, byte[]> contents = new HashMap<>();
+
+	/**
+	 * Encode the given files, updating the state of this codec to assume that they will
+	 * be decoded by the receiver.
+	 * @param files the files to encode
+	 * @return the encoded bytes
+	 * @throws IOException in case of I/O errors
+	 */
+	public synchronized byte[] encode(ClassLoaderFiles files) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(
+				new DeflaterOutputStream(bytes))) {
+			output.writeInt(VERSION);
+			output.writeInt(files.getSourceFolders().size());
+			for (SourceFolder folder : files.getSourceFolders()) {
+				output.writeUTF(folder.getName());
+				output.writeInt(folder.getFilesEntrySet().size());
+				for (Entry<String, ClassLoaderFile> entry : folder
+						.getFilesEntrySet()) {
+					encode(output, folder.getName(), entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private void encode(DataOutputStream output, String folder, String name,
+			ClassLoaderFile file) throws IOException {
+		String key = getKey(folder, name);
+		output.writeUTF(name);
+		output.writeByte(file.getKind().ordinal());
+		output.writeLong(file.getLastModified());
+		if (file.getKind() == Kind.DELETED) {
+			remove(key);
+			return;
+		}
+		byte[] content = file.getContents();
+		byte[] digest = digest(content);
+		output.write(digest);
+		String hash = toHex(digest);
+		String previousHash = this.digests.get(key);
+		byte[] previous = (previousHash != null) ? this.contents.get(previousHash)
+				: null;
+		if (this.contents.containsKey(hash)) {
+			output.writeByte(REFERENCE);
+		}
+		else if (previous != null) {
+			output.writeByte(DELTA);
+			writeDelta(output, previous, content);
+		}
+		else {
+			output.writeByte(RAW);
+			output.writeInt(content.length);
+			output.write(content);
+		}
+		put(key, hash, content);
+	}
+
+	private void writeDelta(DataOutputStream output, byte[] previous, byte[] content)
+			throws IOException {
+		int max = Math.min(previous.length, content.length);
+		int prefix = 0;
+		while (prefix < max && previous[prefix] == content[prefix]) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < max - prefix && previous[previous.length - suffix
+				- 1] == content[content.length - suffix - 1]) {
+			suffix++;
+		}
+		output.writeInt(prefix);
+		output.writeInt(suffix);
+		output.writeInt(content.length - prefix - suffix);
+		output.write(content, prefix, content.length - prefix - suffix);
+	}
+
+	/**
+	 * Decode files that were encoded by the codec of the sender.
+	 * @param inputStream the input stream to decode
+	 * @return the decoded files
+	 * @throws IOException in case of I/O errors
+	 * @throws MissingContentException if the files reference content that is not held
+	 * by this codec
+	 */
+	public synchronized ClassLoaderFiles decode(InputStream inputStream)
+			throws IOException {
+		DataInputStream input = new DataInputStream(
+				new InflaterInputStream(inputStream));
+		int version = input.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported version " + version);
+		}
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		int folders = readLength(input, "folder count");
+		for (int i = 0; i < folders; i++) {
+			String folder = input.readUTF();
+			int size = readLength(input, "file count");
+			for (int j = 0; j < size; j++) {
+				String name = input.readUTF();
+				files.addFile(folder, name, decode(input, folder, name));
+			}
+		}
+		return files;
+	}
+
+	private ClassLoaderFile decode(DataInputStream input, String folder, String name)
+			throws IOException {
+		String key = getKey(folder, name);
+		Kind kind = readKind(input);
+		long lastModified = input.readLong();
+		if (kind == Kind.DELETED) {
+			remove(key);
+			return new ClassLoaderFile(kind, lastModified, null);
+		}
+		byte[] digest = new byte[DIGEST_LENGTH];
+		input.readFully(digest);
+		String hash = toHex(digest);
+		byte[] content;
+		byte encoding = input.readByte();
+		if (encoding == REFERENCE) {
+			content = this.contents.get(hash);
+		}
+		else if (encoding == DELTA) {
+			content = readDelta(input, this.contents.get(this.digests.get(key)));
+		}
+		else if (encoding == RAW) {
+			content = new byte[readLength(input, "content length")];
+			input.readFully(content);
+		}
+		else {
+			throw new IOException("Unknown encoding " + encoding);
+		}
+		if (content == null || !hash.equals(toHex(digest(content)))) {
+			throw new MissingContentException(folder + "/" + name);
+		}
+		put(key, hash, content);
+		return new ClassLoaderFile(kind, lastModified, content);
+	}
+
+	private byte[] readDelta(DataInputStream input, byte[] previous)
+			throws IOException {
+		int prefix = readLength(input, "delta prefix length");
+		int suffix = readLength(input, "delta suffix length");
+		byte[] middle = new byte[readLength(input, "delta content length")];
+		input.readFully(middle);
+		if (previous == null || (long) prefix + suffix > previous.length) {
+			return null;
+		}
+		byte[] content = new byte[prefix + middle.length + suffix];
+		System.arraycopy(previous, 0, content, 0, prefix);
+		System.arraycopy(middle, 0, content, prefix, middle.length);
+		System.arraycopy(previous, previous.length - suffix, content,
+				prefix + middle.length, suffix);
+		return content;
+	}
+
+	private Kind readKind(DataInputStream input) throws IOException {
+		int ordinal = input.readUnsignedByte();
+		Kind[] kinds = Kind.values();
+		if (ordinal >= kinds.length) {
+			throw new IOException("Unknown kind " + ordinal);
+		}
+		return kinds[ordinal];
+	}
+
+	private int readLength(DataInputStream input, String description)
+			throws IOException {
+		int length = input.readInt();
+		if (length < 0) {
+			throw new IOException("Invalid " + description + " " + length);
+		}
+		return length;
+	}
+
+	/**
+	 * Clear all state so that the next encoded files contain their complete content.
+	 */
+	public synchronized void clear() {
+		this.digests.clear();
+		this.contents.clear();
+	}
+
+	private void put(String key, String hash, byte[] content) {
+		remove(key);
+		this.digests.put(key, hash);
+		this.contents.put(hash, content);
+	}
+
+	private void remove(String key) {
+		String hash = this.digests.remove(key);
+		if (hash != null && !this.digests.containsValue(hash)) {
+			this.contents.remove(hash);
+		}
+	}
+
+	private String getKey(String folder, String name) {
+		return folder + "!/" + name;
+	}
+
+	private byte[] digest(byte[] content) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private String toHex(byte[] digest) {
+		StringBuilder hex = new StringBuilder(digest.length * 2);
+		for (byte b : digest) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+					.append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+	/**
+	 * Exception thrown when encoded files reference content that is not available.
+	 */
+	public static class MissingContentException extends IOException {
+
+		MissingContentException(String name) {
+			super("Content of '" + name + "' is not available");
+		}
+
+	}
+
+}
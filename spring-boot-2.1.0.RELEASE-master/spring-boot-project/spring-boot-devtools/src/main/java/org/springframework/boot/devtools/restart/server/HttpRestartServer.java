@@ -23,7 +23,10 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFilesCodec;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFilesCodec.MissingContentException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.util.Assert;
@@ -40,8 +43,13 @@ public class HttpRestartServer {
 
 	private static final Log logger = LogFactory.getLog(HttpRestartServer.class);
 
+	private static final MediaType ENCODED_CONTENT_TYPE = MediaType
+			.parseMediaType(ClassLoaderFilesCodec.CONTENT_TYPE);
+
 	private final RestartServer server;
 
+	private final ClassLoaderFilesCodec codec;
+
 	/**
 	 * Create a new {@link HttpRestartServer} instance.
 	 * @param sourceFolderUrlFilter the source filter used to link remote folder to the
@@ -50,6 +58,7 @@ public class HttpRestartServer {
 	public HttpRestartServer(SourceFolderUrlFilter sourceFolderUrlFilter) {
 		Assert.notNull(sourceFolderUrlFilter, "SourceFolderUrlFilter must not be null");
 		this.server = new RestartServer(sourceFolderUrlFilter);
+		this.codec = new ClassLoaderFilesCodec();
 	}
 
 	/**
@@ -57,8 +66,21 @@ public class HttpRestartServer {
 	 * @param restartServer the underlying restart server
 	 */
 	public HttpRestartServer(RestartServer restartServer) {
+		this(restartServer, new ClassLoaderFilesCodec());
+	}
+
+	/**
+	 * Create a new {@link HttpRestartServer} instance.
+	 * @param restartServer the underlying restart server
+	 * @param codec the codec used to decode {@link ClassLoaderFilesCodec#CONTENT_TYPE
+	 * encoded} files, which should be retained across restarts
+	 * @since 2.1.0
+	 */
+	public HttpRestartServer(RestartServer restartServer, ClassLoaderFilesCodec codec) {
 		Assert.notNull(restartServer, "RestartServer must not be null");
+		Assert.notNull(codec, "Codec must not be null");
 		this.server = restartServer;
+		this.codec = codec;
 	}
 
 	/**
@@ -71,17 +93,28 @@ public class HttpRestartServer {
 			throws IOException {
 		try {
 			Assert.state(request.getHeaders().getContentLength() > 0, "No content");
-			ObjectInputStream objectInputStream = new ObjectInputStream(
-					request.getBody());
-			ClassLoaderFiles files = (ClassLoaderFiles) objectInputStream.readObject();
-			objectInputStream.close();
+			ClassLoaderFiles files = readFiles(request);
 			this.server.updateAndRestart(files);
 			response.setStatusCode(HttpStatus.OK);
 		}
+		catch (MissingContentException ex) {
+			logger.debug("Requesting complete class files", ex);
+			response.setStatusCode(HttpStatus.CONFLICT);
+		}
 		catch (Exception ex) {
 			logger.warn("Unable to handler restart server HTTP request", ex);
 			response.setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
 		}
 	}
 
+	private ClassLoaderFiles readFiles(ServerHttpRequest request) throws Exception {
+		if (ENCODED_CONTENT_TYPE.equals(request.getHeaders().getContentType())) {
+			return this.codec.decode(request.getBody());
+		}
+		ObjectInputStream objectInputStream = new ObjectInputStream(request.getBody());
+		ClassLoaderFiles files = (ClassLoaderFiles) objectInputStream.readObject();
+		objectInputStream.close();
+		return files;
+	}
+
 }
@@ -25,9 +25,12 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
@@ -43,7 +46,11 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.Assert;
 
 /**
- * {@link TunnelConnection} implementation that uses HTTP to transfer data.
+ * {@link TunnelConnection} implementation that uses HTTP to transfer data. Whilst data is
+ * being received, up to {@link #setWindowSize(int) window size} polling requests are kept
+ * open so that the server can respond without waiting for a new request. Once the
+ * connection is idle, polls that time out are not replaced until a single one remains.
+ * Data written whilst a previous request is being sent is batched into a single request.
  *
  * @author Phillip Webb
  * @author Rob Winch
@@ -60,8 +67,12 @@ public class HttpTunnelConnection implements TunnelConnection {
 
 	private final ClientHttpRequestFactory requestFactory;
 
+	private static final int DEFAULT_WINDOW_SIZE = 3;
+
 	private final Executor executor;
 
+	private int windowSize = DEFAULT_WINDOW_SIZE;
+
 	/**
 	 * Create a new {@link HttpTunnelConnection} instance.
 	 * @param url the URL to connect to
@@ -92,6 +103,18 @@ public class HttpTunnelConnection implements TunnelConnection {
 				: Executors.newCachedThreadPool(new TunnelThreadFactory());
 	}
 
+	/**
+	 * Set the maximum number of polling requests that are kept open whilst data is being
+	 * received. Should be less than the number of connections that the server is willing
+	 * to hold so that requests carrying data can also be held.
+	 * @param windowSize the window size
+	 * @since 2.1.0
+	 */
+	public void setWindowSize(int windowSize) {
+		Assert.isTrue(windowSize > 0, "WindowSize must be a positive value");
+		this.windowSize = windowSize;
+	}
+
 	@Override
 	public TunnelChannel open(WritableByteChannel incomingChannel, Closeable closeable)
 			throws Exception {
@@ -118,10 +141,14 @@ public class HttpTunnelConnection implements TunnelConnection {
 
 		private AtomicLong requestSeq = new AtomicLong();
 
+		private final AtomicInteger openPolls = new AtomicInteger();
+
+		private final Deque<ByteBuffer> pendingData = new ArrayDeque<>();
+
 		public TunnelChannel(WritableByteChannel incomingChannel, Closeable closeable) {
 			this.forwarder = new HttpTunnelPayloadForwarder(incomingChannel);
 			this.closeable = closeable;
-			openNewConnection(null);
+			openNewConnection(false);
 		}
 
 		@Override
@@ -141,19 +168,34 @@ public class HttpTunnelConnection implements TunnelConnection {
 		public int write(ByteBuffer src) throws IOException {
 			int size = src.remaining();
 			if (size > 0) {
-				openNewConnection(
-						new HttpTunnelPayload(this.requestSeq.incrementAndGet(), src));
+				ByteBuffer data = ByteBuffer.allocate(size);
+				data.put(src).flip();
+				synchronized (this.pendingData) {
+					this.pendingData.addLast(data);
+				}
+				openNewConnection(true);
 			}
 			return size;
 		}
 
-		private void openNewConnection(HttpTunnelPayload payload) {
+		private void openNewConnection(boolean sendPendingData) {
+			if (!sendPendingData) {
+				this.openPolls.incrementAndGet();
+			}
 			HttpTunnelConnection.this.executor.execute(new Runnable() {
 
 				@Override
 				public void run() {
 					try {
-						sendAndReceive(payload);
+						if (sendPendingData) {
+							HttpTunnelPayload payload = getPendingPayload();
+							if (payload != null) {
+								sendAndReceive(payload);
+							}
+						}
+						else {
+							sendAndReceive(null);
+						}
 					}
 					catch (IOException ex) {
 						if (ex instanceof ConnectException) {
@@ -179,13 +221,48 @@ public class HttpTunnelConnection implements TunnelConnection {
 			});
 		}
 
+		/**
+		 * Return a payload containing all pending data or {@code null} if the data has
+		 * already been sent by an earlier request.
+		 * @return the payload or {@code null}
+		 */
+		private HttpTunnelPayload getPendingPayload() {
+			synchronized (this.pendingData) {
+				if (this.pendingData.isEmpty()) {
+					return null;
+				}
+				ByteBuffer data = this.pendingData.pollFirst();
+				if (!this.pendingData.isEmpty()) {
+					int size = data.remaining();
+					for (ByteBuffer pending : this.pendingData) {
+						size += pending.remaining();
+					}
+					ByteBuffer batch = ByteBuffer.allocate(size).put(data);
+					while (!this.pendingData.isEmpty()) {
+						batch.put(this.pendingData.pollFirst());
+					}
+					data = (ByteBuffer) batch.flip();
+				}
+				return new HttpTunnelPayload(this.requestSeq.incrementAndGet(), data);
+			}
+		}
+
 		private void sendAndReceive(HttpTunnelPayload payload) throws IOException {
 			ClientHttpRequest request = createRequest(payload != null);
 			if (payload != null) {
 				payload.logIncoming();
 				payload.assignTo(request);
 			}
-			handleResponse(request.execute());
+			ClientHttpResponse response;
+			try {
+				response = request.execute();
+			}
+			finally {
+				if (payload == null) {
+					this.openPolls.decrementAndGet();
+				}
+			}
+			handleResponse(response);
 		}
 
 		private void handleResponse(ClientHttpResponse response) throws IOException {
@@ -193,14 +270,25 @@ public class HttpTunnelConnection implements TunnelConnection {
 				close();
 				return;
 			}
+			boolean receivedData = false;
 			if (response.getStatusCode() == HttpStatus.OK) {
 				HttpTunnelPayload payload = HttpTunnelPayload.get(response);
 				if (payload != null) {
 					this.forwarder.forward(payload);
+					receivedData = true;
+				}
+			}
+			if (receivedData) {
+				openNewConnection(false);
+				if (this.openPolls.get() < HttpTunnelConnection.this.windowSize) {
+					// Widen the window so that further data isn't delayed by a round trip
+					openNewConnection(false);
 				}
 			}
-			if (response.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
-				openNewConnection(null);
+			else if (response.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS
+					&& this.openPolls.get() == 0) {
+				// Idle, shrink the window back to a single poll
+				openNewConnection(false);
 			}
 		}
 
@@ -136,7 +136,23 @@ public class HttpTunnelPayload {
 	 */
 	public static ByteBuffer getPayloadData(ReadableByteChannel channel)
 			throws IOException {
-		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		return getPayloadData(channel, allocatePayloadBuffer());
+	}
+
+	/**
+	 * Return the payload data for the given source {@link ReadableByteChannel} or null if
+	 * the channel timed out whilst reading. Data is read into the given buffer, which
+	 * must not be reused until the returned data has been written.
+	 * @param channel the source channel
+	 * @param buffer the buffer to read into
+	 * @return payload data or {@code null}
+	 * @throws IOException in case of I/O errors
+	 * @since 2.1.0
+	 * @see #allocatePayloadBuffer()
+	 */
+	public static ByteBuffer getPayloadData(ReadableByteChannel channel,
+			ByteBuffer buffer) throws IOException {
+		buffer.clear();
 		try {
 			int amountRead = channel.read(buffer);
 			Assert.state(amountRead != -1, "Target server connection closed");
@@ -148,6 +164,16 @@ public class HttpTunnelPayload {
 		}
 	}
 
+	/**
+	 * Allocate a buffer suitable for use with
+	 * {@link #getPayloadData(ReadableByteChannel, ByteBuffer)}.
+	 * @return a new buffer
+	 * @since 2.1.0
+	 */
+	public static ByteBuffer allocatePayloadBuffer() {
+		return ByteBuffer.allocate(BUFFER_SIZE);
+	}
+
 	/**
 	 * Log incoming payload information at trace level to aid diagnostics.
 	 */
@@ -63,7 +63,9 @@ import org.springframework.util.Assert;
  * </pre>
  *
  * Each incoming request is held open to be used to carry the next available response. The
- * server will hold at most two connections open at any given time.
+ * server will hold at most {@link #setMaxHttpConnections(int) four} connections open at
+ * any given time, allowing a client to keep several requests open so that consecutive
+ * responses don't each have to wait for a new request.
  * <p>
  * Requests should be made using HTTP GET or POST (depending if there is a payload), with
  * any payload contained in the body. The following response codes can be returned from
@@ -112,6 +114,8 @@ public class HttpTunnelServer {
 
 	private static final long DEFAULT_DISCONNECT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
 
+	private static final int DEFAULT_MAX_HTTP_CONNECTIONS = 4;
+
 	private static final MediaType DISCONNECT_MEDIA_TYPE = new MediaType("application",
 			"x-disconnect");
 
@@ -123,6 +127,8 @@ public class HttpTunnelServer {
 
 	private long disconnectTimeout = DEFAULT_DISCONNECT_TIMEOUT;
 
+	private int maxHttpConnections = DEFAULT_MAX_HTTP_CONNECTIONS;
+
 	private volatile ServerThread serverThread;
 
 	/**
@@ -204,6 +210,18 @@ public class HttpTunnelServer {
 		this.disconnectTimeout = disconnectTimeout;
 	}
 
+	/**
+	 * Set the maximum number of HTTP connections to hold open. When exceeded, the oldest
+	 * connection is dropped.
+	 * @param maxHttpConnections the maximum number of connections
+	 * @since 2.1.0
+	 */
+	public void setMaxHttpConnections(int maxHttpConnections) {
+		Assert.isTrue(maxHttpConnections > 0,
+				"MaxHttpConnections must be a positive value");
+		this.maxHttpConnections = maxHttpConnections;
+	}
+
 	/**
 	 * The main server thread used to transfer tunnel traffic.
 	 */
@@ -215,6 +233,8 @@ public class HttpTunnelServer {
 
 		private final HttpTunnelPayloadForwarder payloadForwarder;
 
+		private final ByteBuffer buffer = HttpTunnelPayload.allocatePayloadBuffer();
+
 		private boolean closed;
 
 		private AtomicLong responseSeq = new AtomicLong();
@@ -224,7 +244,8 @@ public class HttpTunnelServer {
 		public ServerThread(ByteChannel targetServer) {
 			Assert.notNull(targetServer, "TargetServer must not be null");
 			this.targetServer = targetServer;
-			this.httpConnections = new ArrayDeque<>(2);
+			this.httpConnections = new ArrayDeque<>(
+					HttpTunnelServer.this.maxHttpConnections);
 			this.payloadForwarder = new HttpTunnelPayloadForwarder(targetServer);
 		}
 
@@ -249,7 +270,9 @@ public class HttpTunnelServer {
 		private void readAndForwardTargetServerData() throws IOException {
 			while (this.targetServer.isOpen()) {
 				closeStaleHttpConnections();
-				ByteBuffer data = HttpTunnelPayload.getPayloadData(this.targetServer);
+				// Payloads are written before the next read so the buffer can be reused
+				ByteBuffer data = HttpTunnelPayload.getPayloadData(this.targetServer,
+						this.buffer);
 				synchronized (this.httpConnections) {
 					if (data != null) {
 						HttpTunnelPayload payload = new HttpTunnelPayload(
@@ -335,7 +358,8 @@ public class HttpTunnelServer {
 				httpConnection.respond(HttpStatus.GONE);
 			}
 			synchronized (this.httpConnections) {
-				while (this.httpConnections.size() > 1) {
+				while (this.httpConnections
+						.size() >= HttpTunnelServer.this.maxHttpConnections) {
 					this.httpConnections.removeFirst()
 							.respond(HttpStatus.TOO_MANY_REQUESTS);
 				}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.autoconfigure;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.devtools.filewatch.ChangedFile;
+import org.springframework.boot.devtools.filewatch.ChangedFile.Type;
+import org.springframework.boot.devtools.filewatch.ChangedFiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassPathChangeReport}.
+ *
+ * @author agent
+ */
+public class ClassPathChangeReportTests {
+
+	private static final File FOLDER = new File("target/classes");
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	@Test
+	public void resourceChange() {
+		ClassPathChangeReport report = ClassPathChangeReport
+				.get(changeSet("application.properties"), this.beanFactory);
+		assertThat(report.getChangedClasses()).isEmpty();
+		assertThat(report.hasChangedResources()).isTrue();
+		assertThat(report.toString()).isEqualTo("1 changed file");
+	}
+
+	@Test
+	public void classChangeIsMappedToBeansAndDependents() {
+		this.beanFactory.registerBeanDefinition("example",
+				new RootBeanDefinition(ExampleService.class));
+		this.beanFactory.registerBeanDefinition("other",
+				new RootBeanDefinition(Object.class));
+		this.beanFactory.registerDependentBean("example", "client");
+		this.beanFactory.registerDependentBean("client", "controller");
+		String className = ExampleService.class.getName().replace('.', '/');
+		ClassPathChangeReport report = ClassPathChangeReport.get(
+				changeSet(className + ".class", "static/index.html"), this.beanFactory);
+		assertThat(report.getChangedClasses())
+				.containsExactly(ExampleService.class.getName());
+		assertThat(report.hasChangedResources()).isTrue();
+		assertThat(report.getChangedBeans()).containsExactly("example");
+		assertThat(report.getDependentBeans()).containsExactly("client", "controller");
+		assertThat(report.toString()).isEqualTo(
+				"2 changed files (1 class used by 1 bean with 2 dependents)");
+	}
+
+	@Test
+	public void configurationClassChangeIncludesBeanMethods() {
+		this.beanFactory.registerBeanDefinition("config",
+				new RootBeanDefinition(ExampleConfiguration.class));
+		RootBeanDefinition beanMethod = new RootBeanDefinition();
+		beanMethod.setFactoryBeanName("config");
+		beanMethod.setFactoryMethodName("example");
+		this.beanFactory.registerBeanDefinition("example", beanMethod);
+		String className = ExampleConfiguration.class.getName().replace('.', '/');
+		ClassPathChangeReport report = ClassPathChangeReport
+				.get(changeSet(className + ".class"), this.beanFactory);
+		assertThat(report.getChangedBeans()).containsExactly("config", "example");
+		assertThat(report.hasChangedResources()).isFalse();
+	}
+
+	private Set<ChangedFiles> changeSet(String... names) {
+		Set<ChangedFile> files = new LinkedHashSet<>();
+		for (String name : names) {
+			files.add(new ChangedFile(FOLDER, new File(FOLDER, name), Type.MODIFY));
+		}
+		return Collections.singleton(new ChangedFiles(FOLDER, files));
+	}
+
+	static class ExampleService {
+
+	}
+
+	static class ExampleConfiguration {
+
+	}
+
+}
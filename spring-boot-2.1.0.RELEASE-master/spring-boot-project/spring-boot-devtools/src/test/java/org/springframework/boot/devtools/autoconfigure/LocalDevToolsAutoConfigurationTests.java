@@ -31,6 +31,7 @@ import org.junit.Test;
 import org.thymeleaf.spring5.templateresolver.SpringResourceTemplateResolver;
 
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfiguration;
@@ -57,6 +58,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -187,6 +189,31 @@ public class LocalDevToolsAutoConfigurationTests {
 		verify(this.mockRestarter.getMock(), never()).restart();
 	}
 
+	@Test
+	public void unaffectedBeansAreNotRetainedByDefault() {
+		this.context = initializeAndRun(Config.class);
+		assertThat(this.context.getBeansOfType(
+				LocalDevToolsAutoConfiguration.RetainedBeansRegistrar.class)).isEmpty();
+		this.context.publishEvent(new ClassPathChangedEvent(this.context,
+				Collections.emptySet(), true));
+		verify(this.mockRestarter.getMock(), never()).getOrAddAttribute(
+				eq(RetainedBeans.ATTRIBUTE_NAME), any(ObjectFactory.class));
+	}
+
+	@Test
+	public void restartRetainsUnaffectedBeansWhenEnabled() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("spring.devtools.restart.retain-unaffected-beans", true);
+		this.context = initializeAndRun(Config.class, properties);
+		assertThat(this.context.getBeansOfType(
+				LocalDevToolsAutoConfiguration.RetainedBeansRegistrar.class)).hasSize(1);
+		this.context.publishEvent(new ClassPathChangedEvent(this.context,
+				Collections.emptySet(), true));
+		verify(this.mockRestarter.getMock()).getOrAddAttribute(
+				eq(RetainedBeans.ATTRIBUTE_NAME), any(ObjectFactory.class));
+		verify(this.mockRestarter.getMock()).restart(any(FailureHandler.class));
+	}
+
 	@Test
 	public void restartWatchingClassPath() {
 		this.context = initializeAndRun(Config.class);
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.autoconfigure;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.devtools.filewatch.ChangedFile;
+import org.springframework.boot.devtools.filewatch.ChangedFile.Type;
+import org.springframework.boot.devtools.filewatch.ChangedFiles;
+import org.springframework.boot.devtools.restart.classloader.RestartClassLoader;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RetainedBeans}.
+ *
+ * @author agent
+ */
+public class RetainedBeansTests {
+
+	private static final File FOLDER = new File("target/classes");
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	@Test
+	public void unaffectedBeanIsRetainedAndReused() {
+		this.beanFactory.registerBeanDefinition("service",
+				new RootBeanDefinition(ExampleService.class));
+		this.beanFactory.registerBeanDefinition("client", clientDefinition());
+		this.beanFactory.preInstantiateSingletons();
+		RetainedBeans retainedBeans = RetainedBeans.get(this.beanFactory,
+				classChange());
+		assertThat(retainedBeans.getBeanNames()).containsOnly("service", "client");
+		DefaultListableBeanFactory restarted = new DefaultListableBeanFactory();
+		restarted.registerBeanDefinition("service",
+				new RootBeanDefinition(ExampleService.class));
+		restarted.registerBeanDefinition("client", clientDefinition());
+		assertThat(retainedBeans.register(restarted)).containsOnly("service",
+				"client");
+		assertThat(restarted.getBean("service"))
+				.isSameAs(this.beanFactory.getBean("service"));
+		assertThat(restarted.getBean("client"))
+				.isSameAs(this.beanFactory.getBean("client"));
+		assertThat(restarted.getDependentBeans("service")).containsExactly("client");
+	}
+
+	@Test
+	public void beanMethodBeansAreRetainedAndReused() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				BeanMethodConfiguration.class);
+		try {
+			ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+			RetainedBeans retainedBeans = RetainedBeans.get(beanFactory,
+					classChange(beanFactory));
+			assertThat(retainedBeans.getBeanNames()).contains("service", "client")
+					.doesNotContain("closeableService", "beanMethodConfiguration");
+			Set<String> registered = new LinkedHashSet<>();
+			AnnotationConfigApplicationContext restarted = new AnnotationConfigApplicationContext();
+			restarted.register(BeanMethodConfiguration.class);
+			restarted.addBeanFactoryPostProcessor((restartedBeanFactory) -> registered
+					.addAll(retainedBeans.register(restartedBeanFactory)));
+			restarted.refresh();
+			try {
+				assertThat(registered).contains("service", "client");
+				assertThat(restarted.getBean("service"))
+						.isSameAs(context.getBean("service"));
+				assertThat(restarted.getBean("client"))
+						.isSameAs(context.getBean("client"));
+				assertThat(restarted.getBean("closeableService"))
+						.isNotSameAs(context.getBean("closeableService"));
+			}
+			finally {
+				restarted.close();
+			}
+		}
+		finally {
+			context.close();
+		}
+	}
+
+	@Test
+	public void nothingIsRetainedWhenResourceHasChanged() {
+		this.beanFactory.registerBeanDefinition("service",
+				new RootBeanDefinition(ExampleService.class));
+		this.beanFactory.preInstantiateSingletons();
+		ClassPathChangeReport report = ClassPathChangeReport.get(
+				changeSet("application.properties"), this.beanFactory);
+		assertThat(RetainedBeans.get(this.beanFactory, report).getBeanNames())
+				.isEmpty();
+	}
+
+	@Test
+	public void beanLoadedByRestartClassLoaderIsNotRetained() throws Exception {
+		URL url = ExampleService.class.getProtectionDomain().getCodeSource()
+				.getLocation();
+		try (RestartClassLoader classLoader = new RestartClassLoader(
+				getClass().getClassLoader(), new URL[] { url })) {
+			Class<?> reloadable = classLoader.loadClass(ExampleService.class.getName());
+			assertThat(reloadable).isNotEqualTo(ExampleService.class);
+			this.beanFactory.registerBeanDefinition("service",
+					new RootBeanDefinition(reloadable));
+			this.beanFactory.preInstantiateSingletons();
+			assertThat(RetainedBeans.get(this.beanFactory, classChange())
+					.getBeanNames()).isEmpty();
+		}
+	}
+
+	@Test
+	public void beanThatRequiresDestructionIsNotRetained() {
+		this.beanFactory.registerBeanDefinition("service",
+				new RootBeanDefinition(DisposableService.class));
+		this.beanFactory.preInstantiateSingletons();
+		assertThat(RetainedBeans.get(this.beanFactory, classChange()).getBeanNames())
+				.isEmpty();
+	}
+
+	@Test
+	public void beanThatDependsOnBeanThatIsNotRetainedIsNotRetained() {
+		this.beanFactory.registerBeanDefinition("service",
+				new RootBeanDefinition(DisposableService.class));
+		this.beanFactory.registerBeanDefinition("client", clientDefinition());
+		this.beanFactory.preInstantiateSingletons();
+		assertThat(RetainedBeans.get(this.beanFactory, classChange()).getBeanNames())
+				.isEmpty();
+	}
+
+	@Test
+	public void beanThatReferencesBeanThatIsNotRetainedIsNotRetained() {
+		DisposableService service = new DisposableService();
+		this.beanFactory.registerSingleton("service", service);
+		RootBeanDefinition holder = new RootBeanDefinition(ExampleHolder.class);
+		holder.getConstructorArgumentValues().addGenericArgumentValue(
+				Collections.singletonList(service));
+		this.beanFactory.registerBeanDefinition("holder", holder);
+		this.beanFactory.preInstantiateSingletons();
+		assertThat(this.beanFactory.getDependenciesForBean("holder")).isEmpty();
+		assertThat(RetainedBeans.get(this.beanFactory, classChange()).getBeanNames())
+				.isEmpty();
+	}
+
+	@Test
+	public void beanThatReferencesBeanFactoryIsNotRetained() {
+		RootBeanDefinition holder = new RootBeanDefinition(ExampleHolder.class);
+		holder.getConstructorArgumentValues()
+				.addGenericArgumentValue(this.beanFactory);
+		this.beanFactory.registerBeanDefinition("holder", holder);
+		this.beanFactory.preInstantiateSingletons();
+		assertThat(RetainedBeans.get(this.beanFactory, classChange()).getBeanNames())
+				.isEmpty();
+	}
+
+	@Test
+	public void beanWhoseDefinitionHasChangedIsNotReused() {
+		this.beanFactory.registerBeanDefinition("service",
+				new RootBeanDefinition(ExampleService.class));
+		this.beanFactory.preInstantiateSingletons();
+		RetainedBeans retainedBeans = RetainedBeans.get(this.beanFactory,
+				classChange());
+		DefaultListableBeanFactory restarted = new DefaultListableBeanFactory();
+		restarted.registerBeanDefinition("service",
+				new RootBeanDefinition(ExampleHolder.class));
+		assertThat(retainedBeans.register(restarted)).isEmpty();
+		assertThat(restarted.containsSingleton("service")).isFalse();
+	}
+
+	private RootBeanDefinition clientDefinition() {
+		RootBeanDefinition definition = new RootBeanDefinition(ExampleClient.class);
+		definition.getConstructorArgumentValues()
+				.addGenericArgumentValue(new RuntimeBeanReference("service"));
+		return definition;
+	}
+
+	private ClassPathChangeReport classChange() {
+		return classChange(this.beanFactory);
+	}
+
+	private ClassPathChangeReport classChange(
+			ConfigurableListableBeanFactory beanFactory) {
+		return ClassPathChangeReport.get(changeSet("com/example/Changed.class"),
+				beanFactory);
+	}
+
+	private Set<ChangedFiles> changeSet(String name) {
+		ChangedFile file = new ChangedFile(FOLDER, new File(FOLDER, name),
+				Type.MODIFY);
+		return Collections.singleton(
+				new ChangedFiles(FOLDER, Collections.singleton(file)));
+	}
+
+	static class ExampleService {
+
+	}
+
+	static class ExampleClient {
+
+		private final Object service;
+
+		ExampleClient(Object service) {
+			this.service = service;
+		}
+
+	}
+
+	static class ExampleHolder {
+
+		private final Object value;
+
+		ExampleHolder(Object value) {
+			this.value = value;
+		}
+
+	}
+
+	static class CloseableService {
+
+		public void close() {
+		}
+
+	}
+
+	@Configuration
+	static class BeanMethodConfiguration {
+
+		@Bean
+		public ExampleService service() {
+			return new ExampleService();
+		}
+
+		@Bean
+		public ExampleClient client(ExampleService service) {
+			return new ExampleClient(service);
+		}
+
+		@Bean
+		public CloseableService closeableService() {
+			return new CloseableService();
+		}
+
+	}
+
+	static class DisposableService implements DisposableBean {
+
+		@Override
+		public void destroy() {
+		}
+
+	}
+
+}
@@ -277,6 +277,66 @@ public class FileSystemWatcherTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	public void addNestedFileWithWatchService() throws Exception {
+		File folder = startWithNewFolderUsingWatchService();
+		File nested = new File(new File(folder, "sub"), "nested");
+		File file = touch(new File(nested, "text.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		ChangedFile expected = new ChangedFile(folder, file, Type.ADD);
+		assertThat(changedFiles.getFiles()).containsExactly(expected);
+	}
+
+	@Test
+	public void modifyAndDeleteWithWatchService() throws Exception {
+		File folder = this.temp.newFolder();
+		File modify = touch(new File(folder, "modify.txt"));
+		File delete = touch(new File(new File(folder, "sub"), "delete.txt"));
+		setupWatcher(200, 50);
+		this.watcher.setUseWatchService(true);
+		this.watcher.addSourceFolder(folder);
+		this.watcher.start();
+		FileCopyUtils.copy("abc".getBytes(), modify);
+		delete.delete();
+		delete.getParentFile().delete();
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		Set<ChangedFile> expected = new HashSet<>();
+		expected.add(new ChangedFile(folder, modify, Type.MODIFY));
+		expected.add(new ChangedFile(folder, delete, Type.DELETE));
+		assertThat(changedFiles.getFiles()).isEqualTo(expected);
+	}
+
+	@Test
+	public void withTriggerFilterAndWatchService() throws Exception {
+		File folder = this.temp.newFolder();
+		File file = touch(new File(folder, "file.txt"));
+		File trigger = touch(new File(folder, "trigger.txt"));
+		setupWatcher(200, 50);
+		this.watcher.setUseWatchService(true);
+		this.watcher.addSourceFolder(folder);
+		this.watcher.setTriggerFilter(
+				(candidate) -> candidate.getName().equals("trigger.txt"));
+		this.watcher.start();
+		FileCopyUtils.copy("abc".getBytes(), file);
+		Thread.sleep(500);
+		assertThat(this.changes).isEmpty();
+		FileCopyUtils.copy("abc".getBytes(), trigger);
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		assertThat(changedFiles.getFiles())
+				.containsExactly(new ChangedFile(folder, file, Type.MODIFY));
+	}
+
+	@Test
+	public void cannotUseWatchServiceOnStartedListener() {
+		this.watcher.start();
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.watcher.setUseWatchService(true))
+				.withMessageContaining("FileSystemWatcher already started");
+	}
+
 	private void setupWatcher(long pollingInterval, long quietPeriod) {
 		this.watcher = new FileSystemWatcher(false, Duration.ofMillis(pollingInterval),
 				Duration.ofMillis(quietPeriod));
@@ -291,6 +351,12 @@ public class FileSystemWatcherTests {
 		return folder;
 	}
 
+	private File startWithNewFolderUsingWatchService() throws IOException {
+		setupWatcher(200, 50);
+		this.watcher.setUseWatchService(true);
+		return startWithNewFolder();
+	}
+
 	private ChangedFiles getSingleChangedFiles() {
 		Set<ChangedFiles> singleChange = getSingleOnChange();
 		assertThat(singleChange.size()).isEqualTo(1);
@@ -18,6 +18,7 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -139,6 +140,42 @@ public class FolderSnapshotTests {
 		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
 	}
 
+	@Test
+	public void getUpdatedSnapshotWhenAFileIsAddedAndDeletedAndChanged()
+			throws Exception {
+		File folder1 = new File(this.folder, "folder1");
+		File file1 = new File(folder1, "file1");
+		File file2 = new File(folder1, "file2");
+		File newFile = new File(new File(folder1, "sub"), "newfile");
+		FileCopyUtils.copy("updatedcontent".getBytes(), file1);
+		file2.delete();
+		newFile.getParentFile().mkdirs();
+		newFile.createNewFile();
+		FolderSnapshot updatedSnapshot = this.initialSnapshot
+				.getUpdatedSnapshot(Collections.singleton(folder1));
+		assertThat(updatedSnapshot).isEqualTo(new FolderSnapshot(this.folder));
+		ChangedFiles changedFiles = this.initialSnapshot.getChangedFiles(updatedSnapshot,
+				null);
+		assertThat(getChangedFile(changedFiles, file1).getType()).isEqualTo(Type.MODIFY);
+		assertThat(getChangedFile(changedFiles, file2).getType()).isEqualTo(Type.DELETE);
+		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
+	}
+
+	@Test
+	public void getUpdatedSnapshotOnlyRescansChangedFiles() throws Exception {
+		File folder1 = new File(this.folder, "folder1");
+		File file1 = new File(folder1, "file1");
+		File file2 = new File(folder1, "file2");
+		FileCopyUtils.copy("updatedcontent".getBytes(), file1);
+		FileCopyUtils.copy("updatedcontent".getBytes(), file2);
+		FolderSnapshot updatedSnapshot = this.initialSnapshot
+				.getUpdatedSnapshot(Collections.singleton(file1));
+		ChangedFiles changedFiles = this.initialSnapshot.getChangedFiles(updatedSnapshot,
+				null);
+		assertThat(changedFiles.getFiles()).containsExactly(
+				new ChangedFile(this.folder, file1, Type.MODIFY));
+	}
+
 	private ChangedFile getChangedFile(ChangedFiles changedFiles, File file) {
 		for (ChangedFile changedFile : changedFiles) {
 			if (changedFile.getFile().equals(file)) {
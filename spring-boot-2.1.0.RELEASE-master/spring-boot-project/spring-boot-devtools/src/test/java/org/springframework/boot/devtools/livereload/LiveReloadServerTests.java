@@ -90,6 +90,18 @@ public class LiveReloadServerTests {
 		assertThat(handler.getMessages().get(1)).contains("command\":\"reload\"");
 	}
 
+	@Test
+	public void triggerReloadInQuickSuccessionIsCoalesced() throws Exception {
+		LiveReloadWebSocketHandler handler = connect();
+		this.server.triggerReload();
+		this.server.triggerReload();
+		this.server.triggerReload();
+		Thread.sleep(400);
+		this.server.stop();
+		assertThat(handler.getMessages()).hasSize(2);
+		assertThat(handler.getMessages().get(1)).contains("command\":\"reload\"");
+	}
+
 	@Test
 	public void pingPong() throws Exception {
 		LiveReloadWebSocketHandler handler = connect();
@@ -19,11 +19,11 @@ package org.springframework.boot.devtools.remote.client;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.net.ConnectException;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Before;
@@ -38,9 +38,11 @@ import org.springframework.boot.devtools.filewatch.ChangedFiles;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFilesCodec;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles.SourceFolder;
 import org.springframework.boot.devtools.test.MockClientHttpRequestFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.http.client.MockClientHttpRequest;
 import org.springframework.util.FileCopyUtils;
 
@@ -122,9 +124,40 @@ public class ClassPathChangeUploaderTests {
 				this.requestFactory.getExecutedRequests().get(1));
 	}
 
+	@Test
+	public void unchangedContentIsNotSentAgain() throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		List<MockClientHttpRequest> requests = this.requestFactory.getExecutedRequests();
+		assertThat(requests).hasSize(2);
+		assertThat(requests.get(1).getBodyAsBytes().length)
+				.isLessThan(requests.get(0).getBodyAsBytes().length);
+	}
+
+	@Test
+	public void sendsCompleteContentWhenServerIsMissingContent() throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.requestFactory.willRespond(HttpStatus.CONFLICT);
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		List<MockClientHttpRequest> requests = this.requestFactory.getExecutedRequests();
+		assertThat(requests).hasSize(3);
+		verifyUploadRequest(sourceFolder, requests.get(2));
+	}
+
 	private void verifyUploadRequest(File sourceFolder, MockClientHttpRequest request)
-			throws IOException, ClassNotFoundException {
-		ClassLoaderFiles classLoaderFiles = deserialize(request.getBodyAsBytes());
+			throws IOException {
+		assertThat(request.getHeaders().getContentType()).isEqualTo(
+				MediaType.parseMediaType(ClassLoaderFilesCodec.CONTENT_TYPE));
+		ClassLoaderFiles classLoaderFiles = new ClassLoaderFilesCodec()
+				.decode(new ByteArrayInputStream(request.getBodyAsBytes()));
 		Collection<SourceFolder> sourceFolders = classLoaderFiles.getSourceFolders();
 		assertThat(sourceFolders.size()).isEqualTo(1);
 		SourceFolder classSourceFolder = sourceFolders.iterator().next();
@@ -163,11 +196,4 @@ public class ClassPathChangeUploaderTests {
 		return file;
 	}
 
-	private ClassLoaderFiles deserialize(byte[] bytes)
-			throws IOException, ClassNotFoundException {
-		ObjectInputStream objectInputStream = new ObjectInputStream(
-				new ByteArrayInputStream(bytes));
-		return (ClassLoaderFiles) objectInputStream.readObject();
-	}
-
 }
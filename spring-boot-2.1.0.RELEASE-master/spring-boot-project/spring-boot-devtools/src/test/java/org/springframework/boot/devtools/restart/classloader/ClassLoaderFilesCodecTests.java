@@ -0,0 +1,190 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart.classloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.Test;
+
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFilesCodec.MissingContentException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link ClassLoaderFilesCodec}.
+ *
+ * @author agent
+ */
+public class ClassLoaderFilesCodecTests {
+
+	private final ClassLoaderFilesCodec sender = new ClassLoaderFilesCodec();
+
+	private final ClassLoaderFilesCodec receiver = new ClassLoaderFilesCodec();
+
+	@Test
+	public void encodeAndDecode() throws Exception {
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("folder", "a", new ClassLoaderFile(Kind.ADDED, 1, content(1)));
+		files.addFile("folder", "b", new ClassLoaderFile(Kind.DELETED, 2, null));
+		ClassLoaderFiles decoded = send(files);
+		assertThat(decoded.getFile("a").getKind()).isEqualTo(Kind.ADDED);
+		assertThat(decoded.getFile("a").getLastModified()).isEqualTo(1);
+		assertThat(decoded.getFile("a").getContents()).isEqualTo(content(1));
+		assertThat(decoded.getFile("b").getKind()).isEqualTo(Kind.DELETED);
+		assertThat(decoded.getFile("b").getContents()).isNull();
+	}
+
+	@Test
+	public void duplicateContentIsSentOnce() throws Exception {
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("folder", "a", new ClassLoaderFile(Kind.ADDED, content(1)));
+		byte[] single = this.sender.encode(files);
+		this.sender.clear();
+		files.addFile("folder", "b", new ClassLoaderFile(Kind.ADDED, content(1)));
+		byte[] duplicate = this.sender.encode(files);
+		assertThat(duplicate.length).isLessThan(single.length + 100);
+		ClassLoaderFiles decoded = this.receiver
+				.decode(new ByteArrayInputStream(duplicate));
+		assertThat(decoded.getFile("b").getContents()).isEqualTo(content(1));
+	}
+
+	@Test
+	public void modifiedContentIsSentAsDelta() throws Exception {
+		send(file(Kind.ADDED, content(1)));
+		byte[] encoded = this.sender.encode(file(Kind.MODIFIED, content(2)));
+		assertThat(encoded.length).isLessThan(200);
+		ClassLoaderFiles decoded = this.receiver
+				.decode(new ByteArrayInputStream(encoded));
+		assertThat(decoded.getFile("a").getContents()).isEqualTo(content(2));
+	}
+
+	@Test
+	public void unchangedContentIsSentAsReference() throws Exception {
+		send(file(Kind.ADDED, content(1)));
+		send(file(Kind.MODIFIED, content(2)));
+		byte[] encoded = this.sender.encode(file(Kind.MODIFIED, content(2)));
+		assertThat(encoded.length).isLessThan(100);
+		ClassLoaderFiles decoded = this.receiver
+				.decode(new ByteArrayInputStream(encoded));
+		assertThat(decoded.getFile("a").getContents()).isEqualTo(content(2));
+	}
+
+	@Test
+	public void decodeWhenContentIsMissingThrowsException() throws Exception {
+		send(file(Kind.ADDED, content(1)));
+		byte[] encoded = this.sender.encode(file(Kind.MODIFIED, content(2)));
+		assertThatExceptionOfType(MissingContentException.class)
+				.isThrownBy(() -> new ClassLoaderFilesCodec()
+						.decode(new ByteArrayInputStream(encoded)))
+				.withMessageContaining("folder/a");
+	}
+
+	@Test
+	public void encodeAfterClearSendsCompleteContent() throws Exception {
+		send(file(Kind.ADDED, content(1)));
+		this.sender.clear();
+		byte[] encoded = this.sender.encode(file(Kind.MODIFIED, content(2)));
+		ClassLoaderFiles decoded = new ClassLoaderFilesCodec()
+				.decode(new ByteArrayInputStream(encoded));
+		assertThat(decoded.getFile("a").getContents()).isEqualTo(content(2));
+	}
+
+	@Test
+	public void decodeWhenKindIsUnknownThrowsException() throws Exception {
+		byte[] encoded = encodeFile((output) -> output.writeByte(Kind.values().length));
+		assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> this.receiver.decode(new ByteArrayInputStream(encoded)))
+				.withMessage("Unknown kind " + Kind.values().length);
+	}
+
+	@Test
+	public void decodeWhenContentLengthIsNegativeThrowsException() throws Exception {
+		byte[] encoded = encodeFile((output) -> {
+			output.writeByte(Kind.ADDED.ordinal());
+			output.writeLong(0);
+			output.write(new byte[32]);
+			output.writeByte('R');
+			output.writeInt(-1);
+		});
+		assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> this.receiver.decode(new ByteArrayInputStream(encoded)))
+				.withMessage("Invalid content length -1");
+	}
+
+	@Test
+	public void decodeWhenDeltaLengthIsNegativeThrowsException() throws Exception {
+		send(file(Kind.ADDED, content(1)));
+		byte[] encoded = encodeFile((output) -> {
+			output.writeByte(Kind.MODIFIED.ordinal());
+			output.writeLong(0);
+			output.write(new byte[32]);
+			output.writeByte('D');
+			output.writeInt(Integer.MAX_VALUE);
+			output.writeInt(-Integer.MAX_VALUE);
+			output.writeInt(0);
+		});
+		assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> this.receiver.decode(new ByteArrayInputStream(encoded)))
+				.withMessage("Invalid delta suffix length " + -Integer.MAX_VALUE);
+	}
+
+	private byte[] encodeFile(FileWriter writer) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(
+				new DeflaterOutputStream(bytes))) {
+			output.writeInt(1);
+			output.writeInt(1);
+			output.writeUTF("folder");
+			output.writeInt(1);
+			output.writeUTF("a");
+			writer.write(output);
+		}
+		return bytes.toByteArray();
+	}
+
+	private ClassLoaderFiles send(ClassLoaderFiles files) throws IOException {
+		return this.receiver.decode(new ByteArrayInputStream(this.sender.encode(files)));
+	}
+
+	private ClassLoaderFiles file(Kind kind, byte[] content) {
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("folder", "a", new ClassLoaderFile(kind, content));
+		return files;
+	}
+
+	private byte[] content(int version) {
+		byte[] content = new byte[4096];
+		new Random(0).nextBytes(content);
+		content[2048] = (byte) version;
+		return content;
+	}
+
+	@FunctionalInterface
+	private interface FileWriter {
+
+		void write(DataOutputStream output) throws IOException;
+
+	}
+
+}
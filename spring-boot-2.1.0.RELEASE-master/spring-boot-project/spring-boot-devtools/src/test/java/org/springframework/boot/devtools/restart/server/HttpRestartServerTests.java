@@ -30,6 +30,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFilesCodec;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -90,6 +91,38 @@ public class HttpRestartServerTests {
 		assertThat(response.getStatus()).isEqualTo(200);
 	}
 
+	@Test
+	public void sendEncodedClassLoaderFiles() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("name", new ClassLoaderFile(Kind.ADDED, new byte[0]));
+		request.setContentType(ClassLoaderFilesCodec.CONTENT_TYPE);
+		request.setContent(new ClassLoaderFilesCodec().encode(files));
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		verify(this.delegate).updateAndRestart(this.filesCaptor.capture());
+		assertThat(this.filesCaptor.getValue().getFile("name")).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void sendEncodedClassLoaderFilesWithMissingContent() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ClassLoaderFilesCodec codec = new ClassLoaderFilesCodec();
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("name", new ClassLoaderFile(Kind.ADDED, new byte[] { 1, 2 }));
+		codec.encode(files);
+		files.addFile("name", new ClassLoaderFile(Kind.MODIFIED, new byte[] { 1, 3 }));
+		request.setContentType(ClassLoaderFilesCodec.CONTENT_TYPE);
+		request.setContent(codec.encode(files));
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		verifyZeroInteractions(this.delegate);
+		assertThat(response.getStatus()).isEqualTo(409);
+	}
+
 	@Test
 	public void sendNoContent() throws Exception {
 		MockHttpServletRequest request = new MockHttpServletRequest();
@@ -23,7 +23,11 @@ import java.net.ConnectException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,7 +38,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.boot.devtools.test.MockClientHttpRequestFactory;
 import org.springframework.boot.devtools.tunnel.client.HttpTunnelConnection.TunnelChannel;
 import org.springframework.boot.test.rule.OutputCapture;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -143,6 +149,73 @@ public class HttpTunnelConnectionTests {
 		assertThat(this.requestFactory.getExecutedRequests().size()).isGreaterThan(10);
 	}
 
+	@Test
+	public void windowIsWidenedWhilstDataIsReceived() throws Exception {
+		this.requestFactory.willRespond("a", "b", "c");
+		DeferredExecutor executor = new DeferredExecutor();
+		HttpTunnelConnection connection = new HttpTunnelConnection(this.url,
+				this.requestFactory, executor);
+		connection.open(this.incomingChannel, this.closeable);
+		executor.runNext();
+		assertThat(this.incomingData.toString()).isEqualTo("a");
+		assertThat(executor.getPending()).isEqualTo(2);
+		executor.runNext();
+		executor.runNext();
+		assertThat(this.incomingData.toString()).isEqualTo("abc");
+		assertThat(executor.getPending()).isEqualTo(3);
+	}
+
+	@Test
+	public void windowIsShrunkWhenIdle() throws Exception {
+		this.requestFactory.willRespond("a", "b");
+		this.requestFactory.willRespond(HttpStatus.NO_CONTENT, HttpStatus.NO_CONTENT,
+				HttpStatus.NO_CONTENT);
+		DeferredExecutor executor = new DeferredExecutor();
+		HttpTunnelConnection connection = new HttpTunnelConnection(this.url,
+				this.requestFactory, executor);
+		connection.open(this.incomingChannel, this.closeable);
+		executor.runNext();
+		executor.runNext();
+		assertThat(this.incomingData.toString()).isEqualTo("ab");
+		assertThat(executor.getPending()).isEqualTo(3);
+		executor.runNext();
+		assertThat(executor.getPending()).isEqualTo(2);
+		executor.runNext();
+		assertThat(executor.getPending()).isEqualTo(1);
+		executor.runNext();
+		assertThat(executor.getPending()).isEqualTo(1);
+	}
+
+	@Test
+	public void windowSizeMustBePositive() {
+		HttpTunnelConnection connection = new HttpTunnelConnection(this.url,
+				this.requestFactory);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> connection.setWindowSize(0))
+				.withMessageContaining("WindowSize must be a positive value");
+	}
+
+	@Test
+	public void pendingWritesAreBatched() throws Exception {
+		this.requestFactory.willRespond(HttpStatus.NO_CONTENT, HttpStatus.NO_CONTENT);
+		DeferredExecutor executor = new DeferredExecutor();
+		HttpTunnelConnection connection = new HttpTunnelConnection(this.url,
+				this.requestFactory, executor);
+		TunnelChannel channel = connection.open(this.incomingChannel, this.closeable);
+		write(channel, "hello");
+		write(channel, " ");
+		write(channel, "world");
+		while (executor.getPending() > 0) {
+			executor.runNext();
+		}
+		List<MockClientHttpRequest> posts = this.requestFactory.getExecutedRequests()
+				.stream().filter((request) -> request.getMethod() == HttpMethod.POST)
+				.collect(Collectors.toList());
+		assertThat(posts).hasSize(1);
+		assertThat(posts.get(0).getBodyAsString()).isEqualTo("hello world");
+		assertThat(posts.get(0).getHeaders().getFirst("x-seq")).isEqualTo("1");
+	}
+
 	@Test
 	public void connectFailureLogsWarning() throws Exception {
 		this.requestFactory.willRespond(new ConnectException());
@@ -162,6 +235,25 @@ public class HttpTunnelConnectionTests {
 		return connection.open(this.incomingChannel, this.closeable);
 	}
 
+	private static class DeferredExecutor implements Executor {
+
+		private final Deque<Runnable> pending = new ArrayDeque<>();
+
+		@Override
+		public void execute(Runnable command) {
+			this.pending.add(command);
+		}
+
+		void runNext() {
+			this.pending.pollFirst().run();
+		}
+
+		int getPending() {
+			return this.pending.size();
+		}
+
+	}
+
 	private static class CurrentThreadExecutor implements Executor {
 
 		@Override
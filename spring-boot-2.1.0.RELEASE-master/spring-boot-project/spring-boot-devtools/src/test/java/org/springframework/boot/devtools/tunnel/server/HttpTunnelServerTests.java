@@ -199,6 +199,7 @@ public class HttpTunnelServerTests {
 
 	@Test
 	public void neverMoreThanTwoHttpConnections() throws Exception {
+		this.server.setMaxHttpConnections(2);
 		MockHttpConnection h1 = new MockHttpConnection();
 		this.server.handle(h1);
 		MockHttpConnection h2 = new MockHttpConnection("1", 2);
@@ -211,6 +212,38 @@ public class HttpTunnelServerTests {
 		this.server.getServerThread().join();
 	}
 
+	@Test
+	public void holdsFourHttpConnectionsByDefault() throws Exception {
+		MockHttpConnection h1 = new MockHttpConnection();
+		this.server.handle(h1);
+		MockHttpConnection h2 = new MockHttpConnection();
+		this.server.handle(h2);
+		MockHttpConnection h3 = new MockHttpConnection();
+		this.server.handle(h3);
+		MockHttpConnection h4 = new MockHttpConnection();
+		this.server.handle(h4);
+		MockHttpConnection h5 = new MockHttpConnection();
+		this.server.handle(h5);
+		h1.waitForResponse();
+		assertThat(h1.getServletResponse().getStatus()).isEqualTo(429);
+		this.serverChannel.send("a");
+		h2.verifyReceived("a", 1);
+		this.serverChannel.send("b");
+		h3.verifyReceived("b", 2);
+		this.serverChannel.send("c");
+		h4.verifyReceived("c", 3);
+		this.serverChannel.disconnect();
+		this.server.getServerThread().join();
+		assertThat(h5.getServletResponse().getStatus()).isEqualTo(410);
+	}
+
+	@Test
+	public void maxHttpConnectionsMustBePositive() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> this.server.setMaxHttpConnections(0))
+				.withMessageContaining("MaxHttpConnections must be a positive value");
+	}
+
 	@Test
 	public void requestReceivedOutOfOrder() throws Exception {
 		MockHttpConnection h1 = new MockHttpConnection();
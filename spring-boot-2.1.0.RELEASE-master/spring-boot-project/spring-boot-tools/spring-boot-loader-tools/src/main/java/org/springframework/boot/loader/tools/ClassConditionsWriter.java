@@ -0,0 +1,200 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves the {@code @ConditionalOnClass} conditions of auto-configuration candidates
+ * against the packaged class path and writes the outcomes, along with a fingerprint of
+ * the class path, so that they do not have to be evaluated at runtime. The format is
+ * read by
+ * {@code org.springframework.boot.autoconfigure.condition.PrecomputedClassConditions}
+ * and must be kept in sync with it. Candidates without {@code ConditionalOnClass} metadata
+ * are not written and are evaluated as usual at runtime.
+ *
+ * @see Repackager#setPrecomputeClassConditions(boolean)
+ * @author agent
+ */
+class ClassConditionsWriter {
+
+	static final String ENTRY_NAME = "META-INF/spring-autoconfigure-class-conditions.properties";
+
+	private static final String FACTORIES = "META-INF/spring.factories";
+
+	private static final String METADATA = "META-INF/spring-autoconfigure-metadata.properties";
+
+	private static final String ENABLE_AUTO_CONFIGURATION = "org.springframework.boot.autoconfigure.EnableAutoConfiguration";
+
+	private static final String CONDITIONAL_ON_CLASS = ".ConditionalOnClass";
+
+	private static final String CLASS_EXTENSION = ".class";
+
+	private final Set<String> classPathEntries = new TreeSet<>();
+
+	private final Set<String> classEntryNames = new HashSet<>();
+
+	private final Set<String> candidates = new LinkedHashSet<>();
+
+	private final Properties metadata = new Properties();
+
+	private final ClassLoader platformClassLoader = ClassLoader.getSystemClassLoader()
+			.getParent();
+
+	/**
+	 * Add the application classes held in the source archive.
+	 * @param sourceJar the source archive
+	 * @param classPathEntry the class path entry the classes are packaged in, for example
+	 * {@code BOOT-INF/classes}
+	 * @param prefix the prefix of the classes in the source archive
+	 * @throws IOException if the archive cannot be read
+	 */
+	void addClasses(JarFile sourceJar, String classPathEntry, String prefix)
+			throws IOException {
+		this.classPathEntries.add(classPathEntry);
+		add(sourceJar, prefix);
+	}
+
+	/**
+	 * Add a nested library.
+	 * @param entryName the name of the entry that holds the library
+	 * @param file the library file
+	 * @throws IOException if the library cannot be read
+	 */
+	void addLibrary(String entryName, File file) throws IOException {
+		this.classPathEntries.add(entryName);
+		try (JarFile jarFile = new JarFile(file)) {
+			add(jarFile, "");
+		}
+	}
+
+	private void add(JarFile jarFile, String prefix) throws IOException {
+		Enumeration<JarEntry> entries = jarFile.entries();
+		while (entries.hasMoreElements()) {
+			String name = entries.nextElement().getName();
+			if (name.startsWith(prefix) && name.endsWith(CLASS_EXTENSION)) {
+				this.classEntryNames.add(name.substring(prefix.length()));
+			}
+		}
+		Properties factories = load(jarFile, prefix + FACTORIES);
+		this.candidates.addAll(StringUtils.commaDelimitedListToSet(
+				factories.getProperty(ENABLE_AUTO_CONFIGURATION)));
+		this.metadata.putAll(load(jarFile, prefix + METADATA));
+	}
+
+	private Properties load(JarFile jarFile, String name) throws IOException {
+		Properties properties = new Properties();
+		JarEntry entry = jarFile.getJarEntry(name);
+		if (entry != null) {
+			try (InputStream inputStream = jarFile.getInputStream(entry)) {
+				properties.load(inputStream);
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Write the outcomes to the given {@link LoaderClassesWriter}.
+	 * @param writer the destination writer
+	 * @param location the location of the application classes, for example
+	 * {@code BOOT-INF/classes/}
+	 * @throws IOException if the outcomes cannot be written
+	 */
+	void writeTo(LoaderClassesWriter writer, String location) throws IOException {
+		StringBuilder content = new StringBuilder();
+		content.append("fingerprint=").append(getFingerprint()).append("\n");
+		for (String candidate : this.candidates) {
+			String required = this.metadata.getProperty(candidate.trim()
+					+ CONDITIONAL_ON_CLASS);
+			if (required != null) {
+				List<String> missing = new ArrayList<>();
+				for (String className : StringUtils
+						.commaDelimitedListToStringArray(required)) {
+					if (!isPresent(className.trim())) {
+						missing.add(className.trim());
+					}
+				}
+				content.append(candidate.trim()).append("=")
+						.append(StringUtils.collectionToCommaDelimitedString(missing))
+						.append("\n");
+			}
+		}
+		writer.writeEntry(location + ENTRY_NAME, new ByteArrayInputStream(
+				content.toString().getBytes(StandardCharsets.ISO_8859_1)));
+	}
+
+	private boolean isPresent(String className) {
+		String name = className;
+		while (true) {
+			String path = name.replace('.', '/') + CLASS_EXTENSION;
+			if (this.classEntryNames.contains(path)
+					|| this.platformClassLoader.getResource(path) != null) {
+				return true;
+			}
+			// Allow for nested classes referenced using their canonical name
+			int lastDot = name.lastIndexOf('.');
+			if (lastDot == -1) {
+				return false;
+			}
+			name = name.substring(0, lastDot) + "$" + name.substring(lastDot + 1);
+		}
+	}
+
+	/**
+	 * Calculate the fingerprint of the class path. Must produce the same result as
+	 * {@code PrecomputedClassConditions} does for the matching runtime class path.
+	 * @return the fingerprint
+	 */
+	private String getFingerprint() {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			for (String entry : this.classPathEntries) {
+				digest.update(entry.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			digest.update(System.getProperty("java.specification.version")
+					.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest.digest()) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Writes an index of the entries of nested jars so that the launcher can open them
+ * without parsing their central directory. The format is read by
+ * {@code org.springframework.boot.loader.jar.NestedJarIndex} and must be kept in sync
+ * with it. Libraries that cannot be indexed (for example zip64 archives or archives with
+ * prefix bytes) are skipped and parsed as usual at runtime.
+ *
+ * @see Repackager#setIndexNestedJars(boolean)
+ * @author agent
+ */
+class NestedJarIndexWriter {
+
+	static final String ENTRY_NAME = "META-INF/nested-jars.idx";
+
+	private static final int SIGNATURE = 0x4e4a4958;
+
+	private static final int VERSION = 1;
+
+	private static final int END_RECORD_SIGNATURE = 0x06054b50;
+
+	private static final int END_RECORD_MINIMUM_SIZE = 22;
+
+	private static final int MAXIMUM_COMMENT_LENGTH = 0xFFFF;
+
+	private static final int FILE_HEADER_SIGNATURE = 0x02014b50;
+
+	private static final int FILE_HEADER_BASE_SIZE = 46;
+
+	private static final int[] INITIAL_BYTE_BITMASK = { 0x7F, 0x1F, 0x0F, 0x07 };
+
+	private static final int SUBSEQUENT_BYTE_BITMASK = 0x3F;
+
+	private static final byte[] META_INF = "META-INF/"
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] SIGNATURE_FILE_EXTENSION = ".SF"
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final int BUFFER_SIZE = 32 * 1024;
+
+	private final Map<String, IndexedJar> jars = new LinkedHashMap<>();
+
+	/**
+	 * Add a nested jar to the index.
+	 * @param entryName the name of the entry that holds the nested jar
+	 * @param file the nested jar file
+	 * @throws IOException if the file cannot be read
+	 */
+	void add(String entryName, File file) throws IOException {
+		IndexedJar indexedJar = IndexedJar.load(file);
+		if (indexedJar != null) {
+			this.jars.put(entryName, indexedJar);
+		}
+	}
+
+	/**
+	 * Write the index to the given {@link LoaderClassesWriter}.
+	 * @param writer the destination writer
+	 * @throws IOException if the index cannot be written
+	 */
+	void writeTo(LoaderClassesWriter writer) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeInt(SIGNATURE);
+			output.writeInt(VERSION);
+			output.writeInt(this.jars.size());
+			for (Map.Entry<String, IndexedJar> entry : this.jars.entrySet()) {
+				output.writeUTF(entry.getKey());
+				entry.getValue().write(output);
+			}
+		}
+		writer.writeEntry(ENTRY_NAME, new ByteArrayInputStream(bytes.toByteArray()));
+	}
+
+	private static long littleEndianValue(byte[] bytes, int offset, int length) {
+		long value = 0;
+		for (int i = length - 1; i >= 0; i--) {
+			value = ((value << 8) | (bytes[offset + i] & 0xFF));
+		}
+		return value;
+	}
+
+	/**
+	 * Calculate the hash code of a UTF-8 encoded name, consistent with the loader's
+	 * {@code AsciiBytes}.
+	 * @param bytes the source bytes
+	 * @param offset the offset of the name
+	 * @param length the length of the name
+	 * @return the hash code
+	 */
+	private static int hashCode(byte[] bytes, int offset, int length) {
+		int hash = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int b = bytes[i];
+			int remainingUtfBytes = getNumberOfUtfBytes(b) - 1;
+			b &= INITIAL_BYTE_BITMASK[remainingUtfBytes];
+			for (int j = 0; j < remainingUtfBytes; j++) {
+				b = (b << 6) + (bytes[++i] & SUBSEQUENT_BYTE_BITMASK);
+			}
+			if (b <= 0xFFFF) {
+				hash = 31 * hash + b;
+			}
+			else {
+				hash = 31 * hash + ((b >> 0xA) + 0xD7C0);
+				hash = 31 * hash + ((b & 0x3FF) + 0xDC00);
+			}
+		}
+		return hash;
+	}
+
+	private static int getNumberOfUtfBytes(int b) {
+		if ((b & 0x80) == 0) {
+			return 1;
+		}
+		int numberOfUtfBytes = 0;
+		while ((b & 0x80) != 0) {
+			b <<= 1;
+			numberOfUtfBytes++;
+		}
+		return numberOfUtfBytes;
+	}
+
+	private static boolean regionMatches(byte[] bytes, int offset, byte[] expected) {
+		if (offset < 0 || offset + expected.length > bytes.length) {
+			return false;
+		}
+		for (int i = 0; i < expected.length; i++) {
+			if (bytes[offset + i] != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Index details of a single nested jar.
+	 */
+	private static final class IndexedJar {
+
+		private final long size;
+
+		private final long crc;
+
+		private final long centralDirectoryOffset;
+
+		private final long centralDirectorySize;
+
+		private final boolean signed;
+
+		private final int[] hashCodes;
+
+		private final int[] centralDirectoryOffsets;
+
+		private final int[] positions;
+
+		private IndexedJar(long size, long crc, long centralDirectoryOffset,
+				byte[] centralDirectory, int numberOfRecords) {
+			this.size = size;
+			this.crc = crc;
+			this.centralDirectoryOffset = centralDirectoryOffset;
+			this.centralDirectorySize = centralDirectory.length;
+			int[] hashCodes = new int[numberOfRecords];
+			int[] offsets = new int[numberOfRecords];
+			boolean signed = false;
+			int dataOffset = 0;
+			for (int i = 0; i < numberOfRecords; i++) {
+				if (littleEndianValue(centralDirectory, dataOffset,
+						4) != FILE_HEADER_SIGNATURE) {
+					throw new IllegalStateException("Invalid central directory");
+				}
+				int nameLength = (int) littleEndianValue(centralDirectory,
+						dataOffset + 28, 2);
+				int extraLength = (int) littleEndianValue(centralDirectory,
+						dataOffset + 30, 2);
+				int commentLength = (int) littleEndianValue(centralDirectory,
+						dataOffset + 32, 2);
+				int nameOffset = dataOffset + FILE_HEADER_BASE_SIZE;
+				hashCodes[i] = NestedJarIndexWriter.hashCode(centralDirectory,
+						nameOffset, nameLength);
+				offsets[i] = dataOffset;
+				signed = signed || (regionMatches(centralDirectory, nameOffset, META_INF)
+						&& regionMatches(centralDirectory, nameOffset + nameLength
+								- SIGNATURE_FILE_EXTENSION.length,
+								SIGNATURE_FILE_EXTENSION));
+				dataOffset = nameOffset + nameLength + extraLength + commentLength;
+			}
+			Integer[] order = new Integer[numberOfRecords];
+			for (int i = 0; i < numberOfRecords; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, Comparator.comparingInt((index) -> hashCodes[index]));
+			this.hashCodes = new int[numberOfRecords];
+			this.centralDirectoryOffsets = new int[numberOfRecords];
+			this.positions = new int[numberOfRecords];
+			for (int i = 0; i < numberOfRecords; i++) {
+				this.hashCodes[i] = hashCodes[order[i]];
+				this.centralDirectoryOffsets[i] = offsets[order[i]];
+				this.positions[order[i]] = i;
+			}
+			this.signed = signed;
+		}
+
+		private void write(DataOutputStream output) throws IOException {
+			output.writeLong(this.size);
+			output.writeLong(this.crc);
+			output.writeLong(this.centralDirectoryOffset);
+			output.writeLong(this.centralDirectorySize);
+			output.writeBoolean(this.signed);
+			output.writeInt(this.hashCodes.length);
+			writeInts(output, this.hashCodes);
+			writeInts(output, this.centralDirectoryOffsets);
+			writeInts(output, this.positions);
+		}
+
+		private void writeInts(DataOutputStream output, int[] values)
+				throws IOException {
+			for (int value : values) {
+				output.writeInt(value);
+			}
+		}
+
+		private static IndexedJar load(File file) throws IOException {
+			try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+				long length = randomAccessFile.length();
+				int blockSize = (int) Math.min(length,
+						END_RECORD_MINIMUM_SIZE + MAXIMUM_COMMENT_LENGTH);
+				byte[] block = new byte[blockSize];
+				randomAccessFile.seek(length - blockSize);
+				randomAccessFile.readFully(block);
+				int endRecord = findEndRecord(block);
+				if (endRecord == -1) {
+					return null;
+				}
+				long numberOfRecords = littleEndianValue(block, endRecord + 10, 2);
+				long centralDirectorySize = littleEndianValue(block, endRecord + 12, 4);
+				long centralDirectoryOffset = littleEndianValue(block, endRecord + 16,
+						4);
+				long endRecordOffset = length - blockSize + endRecord;
+				if (numberOfRecords == 0xFFFF || centralDirectoryOffset
+						+ centralDirectorySize != endRecordOffset) {
+					return null;
+				}
+				byte[] centralDirectory = new byte[(int) centralDirectorySize];
+				randomAccessFile.seek(centralDirectoryOffset);
+				randomAccessFile.readFully(centralDirectory);
+				return new IndexedJar(length, crc(file), centralDirectoryOffset,
+						centralDirectory, (int) numberOfRecords);
+			}
+		}
+
+		private static int findEndRecord(byte[] block) {
+			for (int offset = block.length - END_RECORD_MINIMUM_SIZE; offset >= 0;
+					offset--) {
+				if (littleEndianValue(block, offset, 4) == END_RECORD_SIGNATURE
+						&& offset + END_RECORD_MINIMUM_SIZE
+								+ littleEndianValue(block, offset + 20, 2) == block.length) {
+					return offset;
+				}
+			}
+			return -1;
+		}
+
+		private static long crc(File file) throws IOException {
+			CRC32 crc = new CRC32();
+			try (InputStream inputStream = new FileInputStream(file)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int bytesRead;
+				while ((bytesRead = inputStream.read(buffer)) != -1) {
+					crc.update(buffer, 0, bytesRead);
+				}
+			}
+			return crc.getValue();
+		}
+
+	}
+
+}
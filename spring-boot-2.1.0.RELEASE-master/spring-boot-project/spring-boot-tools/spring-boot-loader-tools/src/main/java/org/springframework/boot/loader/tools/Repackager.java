@@ -69,6 +69,10 @@ public class Repackager {
 
 	private boolean backupSource = true;
 
+	private boolean indexNestedJars;
+
+	private boolean precomputeClassConditions;
+
 	private final File source;
 
 	private Layout layout;
@@ -119,6 +123,27 @@ public class Repackager {
 		this.backupSource = backupSource;
 	}
 
+	/**
+	 * Sets if an index of the entries of nested jars should be written so that the
+	 * launcher can open them without parsing their central directory.
+	 * @param indexNestedJars if nested jars should be indexed
+	 * @since 2.1.0
+	 */
+	public void setIndexNestedJars(boolean indexNestedJars) {
+		this.indexNestedJars = indexNestedJars;
+	}
+
+	/**
+	 * Sets if the {@code @ConditionalOnClass} conditions of auto-configuration candidates
+	 * should be resolved against the packaged libraries so that they do not have to be
+	 * evaluated when the application starts.
+	 * @param precomputeClassConditions if class conditions should be precomputed
+	 * @since 2.1.0
+	 */
+	public void setPrecomputeClassConditions(boolean precomputeClassConditions) {
+		this.precomputeClassConditions = precomputeClassConditions;
+	}
+
 	/**
 	 * Sets the layout to use for the jar. Defaults to {@link Layouts#forFile(File)}.
 	 * @param layout the layout
@@ -246,9 +271,31 @@ public class Repackager {
 				writer.writeEntries(sourceJar, writeableLibraries);
 			}
 			writeableLibraries.write(writer);
+			if (this.precomputeClassConditions) {
+				writeClassConditions(sourceJar, writer, writeableLibraries);
+			}
 		}
 	}
 
+	private void writeClassConditions(JarFile sourceJar, JarWriter writer,
+			WritableLibraries libraries) throws IOException {
+		String location = (this.layout instanceof RepackagingLayout)
+				? ((RepackagingLayout) this.layout).getRepackagedClassesLocation()
+				: this.layout.getClassesLocation();
+		if (!StringUtils.hasLength(location)) {
+			return;
+		}
+		ClassConditionsWriter classConditions = new ClassConditionsWriter();
+		classConditions.addClasses(sourceJar,
+				location.substring(0, location.length() - 1),
+				(this.layout instanceof RepackagingLayout) ? ""
+						: this.layout.getClassesLocation());
+		for (Entry<String, Library> entry : libraries.libraryEntryNames.entrySet()) {
+			classConditions.addLibrary(entry.getKey(), entry.getValue().getFile());
+		}
+		classConditions.writeTo(writer, location);
+	}
+
 	private void writeLoaderClasses(JarWriter writer) throws IOException {
 		if (this.layout instanceof CustomLoaderLayout) {
 			((CustomLoaderLayout) this.layout).writeLoadedClasses(writer);
@@ -453,10 +500,18 @@ public class Repackager {
 		}
 
 		private void write(JarWriter writer) throws IOException {
+			NestedJarIndexWriter index = Repackager.this.indexNestedJars
+					? new NestedJarIndexWriter() : null;
 			for (Entry<String, Library> entry : this.libraryEntryNames.entrySet()) {
 				writer.writeNestedLibrary(
 						entry.getKey().substring(0, entry.getKey().lastIndexOf('/') + 1),
 						entry.getValue());
+				if (index != null) {
+					index.add(entry.getKey(), entry.getValue().getFile());
+				}
+			}
+			if (index != null) {
+				index.writeTo(writer);
 			}
 		}
 
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Precompresses static resources so that they can be served without being compressed on
+ * each request. A gzip compressed sibling with a {@code .gz} extension is written next to
+ * each resource that benefits from compression. Such siblings are picked up by Spring's
+ * {@code EncodedResourceResolver} when {@code spring.resources.chain.compressed} is
+ * enabled. Siblings that are no longer needed, for example because their resource has
+ * been deleted, are deleted.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class StaticResourceCompressor {
+
+	/**
+	 * The default locations of static resources, relative to the root directory.
+	 */
+	public static final List<String> DEFAULT_LOCATIONS = Collections.unmodifiableList(
+			Arrays.asList("META-INF/resources", "resources", "static", "public"));
+
+	/**
+	 * The default extensions of the files that are compressed.
+	 */
+	public static final List<String> DEFAULT_EXTENSIONS = Collections
+			.unmodifiableList(Arrays.asList("html", "htm", "css", "js", "mjs", "json",
+					"map", "svg", "txt", "xml", "csv", "ttf", "otf", "eot", "wasm"));
+
+	private static final String GZIP_EXTENSION = ".gz";
+
+	private final File root;
+
+	private List<String> locations = DEFAULT_LOCATIONS;
+
+	private Set<String> extensions = new LinkedHashSet<>(DEFAULT_EXTENSIONS);
+
+	private long minimumSize = 1024;
+
+	/**
+	 * Create a new {@link StaticResourceCompressor} instance.
+	 * @param root the root directory, typically the output directory of the classes
+	 */
+	public StaticResourceCompressor(File root) {
+		if (root == null) {
+			throw new IllegalArgumentException("Root must not be null");
+		}
+		this.root = root;
+	}
+
+	/**
+	 * Set the locations of static resources, relative to the root directory.
+	 * @param locations the locations
+	 */
+	public void setLocations(List<String> locations) {
+		if (locations == null) {
+			throw new IllegalArgumentException("Locations must not be null");
+		}
+		this.locations = locations;
+	}
+
+	/**
+	 * Set the extensions of the files to compress.
+	 * @param extensions the extensions, without a leading dot
+	 */
+	public void setExtensions(List<String> extensions) {
+		if (extensions == null) {
+			throw new IllegalArgumentException("Extensions must not be null");
+		}
+		this.extensions = new LinkedHashSet<>();
+		for (String extension : extensions) {
+			this.extensions.add(extension.toLowerCase(Locale.ENGLISH));
+		}
+	}
+
+	/**
+	 * Set the minimum size, in bytes, of the files to compress. Smaller files gain too
+	 * little to be worth an extra lookup when they are served.
+	 * @param minimumSize the minimum size
+	 */
+	public void setMinimumSize(long minimumSize) {
+		this.minimumSize = minimumSize;
+	}
+
+	/**
+	 * Compress the static resources, skipping those whose compressed sibling is up to
+	 * date. A sibling is only kept if it is smaller than the resource. Siblings of
+	 * resources that no longer exist or that are now smaller than the minimum size are
+	 * deleted.
+	 * @return the number of resources that have a compressed sibling
+	 * @throws IOException if a resource cannot be compressed
+	 */
+	public int compress() throws IOException {
+		int compressed = 0;
+		for (String location : this.locations) {
+			File directory = new File(this.root, location);
+			if (directory.isDirectory()) {
+				compressed += compressDirectory(directory);
+			}
+		}
+		return compressed;
+	}
+
+	private int compressDirectory(File directory) throws IOException {
+		int compressed = 0;
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return 0;
+		}
+		for (File file : files) {
+			if (file.isDirectory()) {
+				compressed += compressDirectory(file);
+			}
+			else if (isOrphanedSibling(file)) {
+				Files.delete(file.toPath());
+			}
+			else if (hasCompressibleExtension(file.getName())) {
+				if (file.length() < this.minimumSize) {
+					Files.deleteIfExists(getSibling(file).toPath());
+				}
+				else if (compressFile(file)) {
+					compressed++;
+				}
+			}
+		}
+		return compressed;
+	}
+
+	private boolean isOrphanedSibling(File file) {
+		String name = file.getName();
+		if (!name.endsWith(GZIP_EXTENSION)) {
+			return false;
+		}
+		String resourceName = name.substring(0,
+				name.length() - GZIP_EXTENSION.length());
+		return hasCompressibleExtension(resourceName)
+				&& !new File(file.getParentFile(), resourceName).exists();
+	}
+
+	private boolean hasCompressibleExtension(String name) {
+		int extensionIndex = name.lastIndexOf('.');
+		return extensionIndex != -1 && this.extensions.contains(
+				name.substring(extensionIndex + 1).toLowerCase(Locale.ENGLISH));
+	}
+
+	private File getSibling(File file) {
+		return new File(file.getParentFile(), file.getName() + GZIP_EXTENSION);
+	}
+
+	private boolean compressFile(File file) throws IOException {
+		File target = getSibling(file);
+		if (target.isFile() && target.lastModified() == file.lastModified()) {
+			return true;
+		}
+		byte[] content = Files.readAllBytes(file.toPath());
+		byte[] compressed = gzip(content);
+		if (compressed.length >= content.length) {
+			Files.deleteIfExists(target.toPath());
+			return false;
+		}
+		try (OutputStream outputStream = new FileOutputStream(target)) {
+			outputStream.write(compressed);
+		}
+		target.setLastModified(file.lastModified());
+		return true;
+	}
+
+	private byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 2);
+		try (GZIPOutputStream outputStream = new BestCompressionGZIPOutputStream(bytes)) {
+			outputStream.write(content);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * {@link GZIPOutputStream} that favors size over speed as compression only happens
+	 * once.
+	 */
+	private static class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+
+		BestCompressionGZIPOutputStream(OutputStream outputStream) throws IOException {
+			super(outputStream);
+			this.def.setLevel(Deflater.BEST_COMPRESSION);
+		}
+
+	}
+
+}
@@ -20,12 +20,15 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Properties;
 import java.util.Random;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
@@ -316,6 +319,70 @@ public class RepackagerTests {
 		assertThat(entry.getComment().length()).isEqualTo(47);
 	}
 
+	@Test
+	public void nestedJarsAreNotIndexedByDefault() throws Exception {
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		File file = this.testJarFile.getFile();
+		Repackager repackager = new Repackager(file);
+		repackager.repackage((callback) -> callback
+				.library(new Library(createLibrary(), LibraryScope.COMPILE)));
+		assertThat(hasEntry(file, NestedJarIndexWriter.ENTRY_NAME)).isFalse();
+	}
+
+	@Test
+	public void indexedNestedJarsCanBeRead() throws Exception {
+		File libJarFile = createLibrary();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		File file = this.testJarFile.getFile();
+		Repackager repackager = new Repackager(file);
+		repackager.setIndexNestedJars(true);
+		repackager.repackage((callback) -> callback
+				.library(new Library(libJarFile, LibraryScope.COMPILE)));
+		assertThat(hasEntry(file, NestedJarIndexWriter.ENTRY_NAME)).isTrue();
+		try (org.springframework.boot.loader.jar.JarFile jarFile = openWithLoader(file)) {
+			JarFile nested = jarFile.getNestedJarFile(
+					jarFile.getEntry("BOOT-INF/lib/" + libJarFile.getName()));
+			List<String> entryNames = getEntryNames(libJarFile);
+			assertThat(nested.size()).isEqualTo(entryNames.size());
+			assertThat(nested.getEntry("com/example/library/Library.class"))
+					.isNotNull();
+			assertThat(nested.getEntry("com/example/library/Missing.class")).isNull();
+			assertThat(Collections.list(nested.entries()).stream()
+					.map(JarEntry::getName)).containsExactlyElementsOf(entryNames);
+		}
+	}
+
+	@Test
+	public void classConditionsArePrecomputed() throws Exception {
+		TestJarFile libJar = new TestJarFile(this.temporaryFolder);
+		libJar.addClass("com/example/library/Library.class",
+				ClassWithoutMainMethod.class);
+		libJar.addFile("META-INF/spring.factories", createFile(
+				"org.springframework.boot.autoconfigure.EnableAutoConfiguration="
+						+ "com.example.Present,com.example.Missing,com.example.Plain"));
+		libJar.addFile("META-INF/spring-autoconfigure-metadata.properties",
+				createFile("com.example.Present.ConditionalOnClass="
+						+ "com.example.library.Library,java.io.InputStream\n"
+						+ "com.example.Missing.ConditionalOnClass="
+						+ "com.example.library.Library,com.example.DoesNotExist"));
+		File libJarFile = libJar.getFile();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		File file = this.testJarFile.getFile();
+		Repackager repackager = new Repackager(file);
+		repackager.setPrecomputeClassConditions(true);
+		repackager.repackage((callback) -> callback
+				.library(new Library(libJarFile, LibraryScope.COMPILE)));
+		Properties classConditions = new Properties();
+		try (JarFile jarFile = new JarFile(file)) {
+			classConditions.load(jarFile.getInputStream(jarFile
+					.getEntry("BOOT-INF/classes/" + ClassConditionsWriter.ENTRY_NAME)));
+		}
+		assertThat(classConditions).containsKey("fingerprint")
+				.containsEntry("com.example.Present", "")
+				.containsEntry("com.example.Missing", "com.example.DoesNotExist")
+				.doesNotContainKey("com.example.Plain");
+	}
+
 	@Test
 	public void duplicateLibraries() throws Exception {
 		TestJarFile libJar = new TestJarFile(this.temporaryFolder);
@@ -661,6 +728,12 @@ public class RepackagerTests {
 		repackager.repackage(dest, NO_LIBRARIES);
 	}
 
+	private File createFile(String content) throws IOException {
+		File file = this.temporaryFolder.newFile();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.ISO_8859_1));
+		return file;
+	}
+
 	private File createLibrary() throws IOException {
 		TestJarFile library = new TestJarFile(this.temporaryFolder);
 		library.addClass("com/example/library/Library.class",
@@ -668,6 +741,11 @@ public class RepackagerTests {
 		return library.getFile();
 	}
 
+	private org.springframework.boot.loader.jar.JarFile openWithLoader(File file)
+			throws IOException {
+		return new org.springframework.boot.loader.jar.JarFile(file);
+	}
+
 	private boolean hasLauncherClasses(File file) throws IOException {
 		return hasEntry(file, "org/springframework/boot/")
 				&& hasEntry(file, "org/springframework/boot/loader/JarLauncher.class");
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StaticResourceCompressor}.
+ *
+ * @author agent
+ */
+public class StaticResourceCompressorTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File root;
+
+	private StaticResourceCompressor compressor;
+
+	@Before
+	public void setup() throws IOException {
+		this.root = this.temporaryFolder.newFolder();
+		this.compressor = new StaticResourceCompressor(this.root);
+	}
+
+	@Test
+	public void compressesStaticResources() throws IOException {
+		File script = write("static/js/app.js", text(4096));
+		File page = write("public/index.html", text(2048));
+		assertThat(this.compressor.compress()).isEqualTo(2);
+		assertThat(gunzip(new File(script.getPath() + ".gz")))
+				.isEqualTo(Files.readAllBytes(script.toPath()));
+		assertThat(gunzip(new File(page.getPath() + ".gz")))
+				.isEqualTo(Files.readAllBytes(page.toPath()));
+	}
+
+	@Test
+	public void skipsResourcesOutsideOfLocations() throws IOException {
+		File template = write("templates/index.html", text(4096));
+		assertThat(this.compressor.compress()).isEqualTo(0);
+		assertThat(new File(template.getPath() + ".gz")).doesNotExist();
+	}
+
+	@Test
+	public void skipsSmallResources() throws IOException {
+		File script = write("static/small.js", text(100));
+		assertThat(this.compressor.compress()).isEqualTo(0);
+		assertThat(new File(script.getPath() + ".gz")).doesNotExist();
+	}
+
+	@Test
+	public void skipsResourcesWithOtherExtensions() throws IOException {
+		File image = write("static/image.png", text(4096));
+		assertThat(this.compressor.compress()).isEqualTo(0);
+		assertThat(new File(image.getPath() + ".gz")).doesNotExist();
+	}
+
+	@Test
+	public void skipsResourcesThatDoNotCompress() throws IOException {
+		byte[] content = new byte[4096];
+		new Random(0).nextBytes(content);
+		File script = write("static/random.js", content);
+		assertThat(this.compressor.compress()).isEqualTo(0);
+		assertThat(new File(script.getPath() + ".gz")).doesNotExist();
+	}
+
+	@Test
+	public void customLocationsAndExtensions() throws IOException {
+		File data = write("assets/data.csv", text(4096));
+		write("static/app.js", text(4096));
+		this.compressor.setLocations(Collections.singletonList("assets"));
+		this.compressor.setExtensions(Arrays.asList("CSV"));
+		assertThat(this.compressor.compress()).isEqualTo(1);
+		assertThat(new File(data.getPath() + ".gz")).exists();
+	}
+
+	@Test
+	public void upToDateResourcesAreNotCompressedAgain() throws IOException {
+		File script = write("static/app.js", text(4096));
+		this.compressor.compress();
+		File compressed = new File(script.getPath() + ".gz");
+		Files.write(compressed.toPath(), new byte[] { 1 });
+		compressed.setLastModified(script.lastModified());
+		assertThat(this.compressor.compress()).isEqualTo(1);
+		assertThat(compressed.length()).isEqualTo(1);
+		script.setLastModified(script.lastModified() - 10000);
+		assertThat(this.compressor.compress()).isEqualTo(1);
+		assertThat(gunzip(compressed)).isEqualTo(Files.readAllBytes(script.toPath()));
+	}
+
+	@Test
+	public void deletesSiblingsOfDeletedResources() throws IOException {
+		File script = write("static/app.js", text(4096));
+		File archive = write("static/archive.tar.gz", text(4096));
+		this.compressor.compress();
+		File compressed = new File(script.getPath() + ".gz");
+		assertThat(compressed).exists();
+		Files.delete(script.toPath());
+		assertThat(this.compressor.compress()).isEqualTo(0);
+		assertThat(compressed).doesNotExist();
+		assertThat(archive).exists();
+	}
+
+	@Test
+	public void deletesSiblingsOfResourcesThatBecameSmall() throws IOException {
+		File script = write("static/app.js", text(4096));
+		this.compressor.compress();
+		File compressed = new File(script.getPath() + ".gz");
+		assertThat(compressed).exists();
+		write("static/app.js", text(100));
+		assertThat(this.compressor.compress()).isEqualTo(0);
+		assertThat(compressed).doesNotExist();
+	}
+
+	private File write(String name, byte[] content) throws IOException {
+		File file = new File(this.root, name);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content);
+		return file;
+	}
+
+	private byte[] text(int length) {
+		StringBuilder text = new StringBuilder();
+		while (text.length() < length) {
+			text.append("function example() { return 'spring'; }\n");
+		}
+		return text.substring(0, length).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private byte[] gunzip(File file) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try (GZIPInputStream inputStream = new GZIPInputStream(
+				new FileInputStream(file))) {
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				content.write(buffer, 0, read);
+			}
+		}
+		return content.toByteArray();
+	}
+
+}
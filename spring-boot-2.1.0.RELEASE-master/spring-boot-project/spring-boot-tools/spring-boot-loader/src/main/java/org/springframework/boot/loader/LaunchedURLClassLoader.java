@@ -16,20 +16,36 @@
 
 package org.springframework.boot.loader;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.security.AccessController;
+import java.security.CodeSource;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
 import org.springframework.boot.loader.jar.Handler;
 
 /**
  * {@link ClassLoader} used by the {@link Launcher}.
+ * <p>
+ * When every URL is backed by a Spring Boot {@link org.springframework.boot.loader.jar.JarFile
+ * JarFile} the loader builds, on first use, an index of the directories that each jar
+ * contains. Classes are then read directly from the jars that own their package rather
+ * than by probing every URL in turn, and resource lookups for directories that no jar
+ * contains are answered without touching the jars at all.
  *
  * @author Phillip Webb
  * @author Dave Syer
@@ -37,10 +53,16 @@ import org.springframework.boot.loader.jar.Handler;
  */
 public class LaunchedURLClassLoader extends URLClassLoader {
 
+	private static final int BUFFER_SIZE = 4096;
+
 	static {
 		ClassLoader.registerAsParallelCapable();
 	}
 
+	private final Object classPathIndexMonitor = new Object();
+
+	private volatile ClassPathIndex classPathIndex;
+
 	/**
 	 * Create a new {@link LaunchedURLClassLoader} instance.
 	 * @param urls the URLs from which to load classes and resources
@@ -50,8 +72,19 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		super(urls, parent);
 	}
 
+	@Override
+	protected void addURL(URL url) {
+		synchronized (this.classPathIndexMonitor) {
+			super.addURL(url);
+			this.classPathIndex = null;
+		}
+	}
+
 	@Override
 	public URL findResource(String name) {
+		if (!getClassPathIndex().mayContain(name)) {
+			return null;
+		}
 		Handler.setUseFastConnectionExceptions(true);
 		try {
 			return super.findResource(name);
@@ -63,6 +96,9 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 
 	@Override
 	public Enumeration<URL> findResources(String name) throws IOException {
+		if (!getClassPathIndex().mayContain(name)) {
+			return Collections.emptyEnumeration();
+		}
 		Handler.setUseFastConnectionExceptions(true);
 		try {
 			return new UseFastConnectionExceptionsEnumeration(super.findResources(name));
@@ -97,6 +133,93 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		}
 	}
 
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		ClassPathIndex index = getClassPathIndex();
+		if (!index.isSupported()) {
+			return super.findClass(name);
+		}
+		String path = name.replace('.', '/').concat(".class");
+		for (IndexedJar candidate : index.getCandidates(path)) {
+			JarEntry entry = candidate.getJarFile().getJarEntry(path);
+			if (entry != null) {
+				try {
+					return defineClass(name, candidate, entry);
+				}
+				catch (IOException ex) {
+					throw new ClassNotFoundException(name, ex);
+				}
+			}
+		}
+		throw new ClassNotFoundException(name);
+	}
+
+	private Class<?> defineClass(String name, IndexedJar jar, JarEntry entry)
+			throws IOException {
+		byte[] bytes;
+		try (InputStream inputStream = jar.getJarFile().getInputStream(entry)) {
+			bytes = readAll(inputStream, entry.getSize());
+		}
+		int lastDot = name.lastIndexOf('.');
+		if (lastDot >= 0) {
+			String packageName = name.substring(0, lastDot);
+			Package pkg = getPackage(packageName);
+			if (pkg == null) {
+				try {
+					definePackage(packageName, getManifest(jar.getJarFile()),
+							jar.getUrl());
+				}
+				catch (IllegalArgumentException ex) {
+					// Tolerate race condition due to being parallel capable
+				}
+			}
+			else if (pkg.isSealed() && !pkg.isSealed(jar.getUrl())) {
+				throw new SecurityException(
+						"Sealing violation: package " + packageName + " is sealed");
+			}
+		}
+		CodeSource codeSource = new CodeSource(jar.getUrl(), entry.getCodeSigners());
+		return defineClass(name, bytes, 0, bytes.length, codeSource);
+	}
+
+	private byte[] readAll(InputStream inputStream, long size) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(
+				(size > 0 && size < Integer.MAX_VALUE) ? (int) size : BUFFER_SIZE);
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int bytesRead;
+		while ((bytesRead = inputStream.read(buffer)) != -1) {
+			outputStream.write(buffer, 0, bytesRead);
+		}
+		return outputStream.toByteArray();
+	}
+
+	private Manifest getManifest(JarFile jarFile) {
+		try {
+			return jarFile.getManifest();
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Return the {@link ClassPathIndex}, building it if necessary.
+	 * @return the class path index
+	 */
+	private ClassPathIndex getClassPathIndex() {
+		ClassPathIndex index = this.classPathIndex;
+		if (index == null) {
+			synchronized (this.classPathIndexMonitor) {
+				index = this.classPathIndex;
+				if (index == null) {
+					index = ClassPathIndex.build(getURLs());
+					this.classPathIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * Define a package before a {@code findClass} call is made. This is necessary to
 	 * ensure that the appropriate manifest for nested JARs is associated with the
@@ -131,6 +254,20 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 			AccessController.doPrivileged((PrivilegedExceptionAction<Object>) () -> {
 				String packageEntryName = packageName.replace('.', '/') + "/";
 				String classEntryName = className.replace('.', '/') + ".class";
+				ClassPathIndex index = getClassPathIndex();
+				if (index.isSupported()) {
+					for (IndexedJar candidate : index.getCandidates(classEntryName)) {
+						JarFile jarFile = candidate.getJarFile();
+						Manifest manifest = getManifest(jarFile);
+						if (jarFile.getEntry(classEntryName) != null
+								&& jarFile.getEntry(packageEntryName) != null
+								&& manifest != null) {
+							definePackage(packageName, manifest, candidate.getUrl());
+							return null;
+						}
+					}
+					return null;
+				}
 				for (URL url : getURLs()) {
 					try {
 						URLConnection connection = url.openConnection();
@@ -182,6 +319,121 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		}
 	}
 
+	/**
+	 * Index of the directories contained in each jar on the class path.
+	 */
+	private static final class ClassPathIndex {
+
+		private static final ClassPathIndex UNSUPPORTED = new ClassPathIndex(null);
+
+		private static final String NESTED_SEPARATOR = "!/";
+
+		private final Map<String, List<IndexedJar>> directories;
+
+		private ClassPathIndex(Map<String, List<IndexedJar>> directories) {
+			this.directories = directories;
+		}
+
+		boolean isSupported() {
+			return this.directories != null;
+		}
+
+		/**
+		 * Return if the resource with the given name may be contained in any jar.
+		 * @param name the resource name
+		 * @return {@code false} if the resource is known not to exist
+		 */
+		boolean mayContain(String name) {
+			if (!isSupported() || name.isEmpty() || name.contains(NESTED_SEPARATOR)) {
+				return true;
+			}
+			return this.directories.containsKey(getDirectory(name));
+		}
+
+		List<IndexedJar> getCandidates(String name) {
+			List<IndexedJar> candidates = this.directories.get(getDirectory(name));
+			return (candidates != null) ? candidates : Collections.emptyList();
+		}
+
+		static ClassPathIndex build(URL[] urls) {
+			Map<String, List<IndexedJar>> directories = new HashMap<>();
+			for (URL url : urls) {
+				IndexedJar jar = IndexedJar.get(url);
+				if (jar == null) {
+					return UNSUPPORTED;
+				}
+				Enumeration<JarEntry> entries = jar.getJarFile().entries();
+				while (entries.hasMoreElements()) {
+					String directory = getDirectory(entries.nextElement().getName());
+					while (add(directories, directory, jar) && !directory.isEmpty()) {
+						directory = getDirectory(directory);
+					}
+				}
+			}
+			return new ClassPathIndex(directories);
+		}
+
+		private static boolean add(Map<String, List<IndexedJar>> directories,
+				String directory, IndexedJar jar) {
+			List<IndexedJar> jars = directories.computeIfAbsent(directory,
+					(key) -> new ArrayList<>(1));
+			if (jars.isEmpty() || jars.get(jars.size() - 1) != jar) {
+				jars.add(jar);
+				return true;
+			}
+			return false;
+		}
+
+		private static String getDirectory(String name) {
+			int end = name.endsWith("/") ? name.length() - 1 : name.length();
+			return name.substring(0, name.lastIndexOf('/', end - 1) + 1);
+		}
+
+	}
+
+	/**
+	 * A jar from the class path along with the URL used to reference it.
+	 */
+	private static final class IndexedJar {
+
+		private final URL url;
+
+		private final JarFile jarFile;
+
+		private IndexedJar(URL url, JarFile jarFile) {
+			this.url = url;
+			this.jarFile = jarFile;
+		}
+
+		URL getUrl() {
+			return this.url;
+		}
+
+		JarFile getJarFile() {
+			return this.jarFile;
+		}
+
+		static IndexedJar get(URL url) {
+			if (!url.toString().endsWith(ClassPathIndex.NESTED_SEPARATOR)) {
+				return null;
+			}
+			try {
+				URLConnection connection = url.openConnection();
+				if (connection instanceof JarURLConnection) {
+					JarFile jarFile = ((JarURLConnection) connection).getJarFile();
+					if (jarFile instanceof org.springframework.boot.loader.jar.JarFile) {
+						return new IndexedJar(url, jarFile);
+					}
+				}
+			}
+			catch (IOException ex) {
+				// Ignore
+			}
+			return null;
+		}
+
+	}
+
 	private static class UseFastConnectionExceptionsEnumeration
 			implements Enumeration<URL> {
 
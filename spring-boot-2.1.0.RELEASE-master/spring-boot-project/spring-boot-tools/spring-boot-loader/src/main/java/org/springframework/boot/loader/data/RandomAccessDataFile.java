@@ -22,15 +22,27 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
 
 /**
- * {@link RandomAccessData} implementation backed by a {@link RandomAccessFile}.
+ * {@link RandomAccessData} implementation backed by a {@link RandomAccessFile}. When the
+ * {@code loader.mmap} system property is {@code true} the file is instead read through a
+ * read-only memory mapping so that concurrent reads neither lock nor seek.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
  */
 public class RandomAccessDataFile implements RandomAccessData {
 
+	/**
+	 * System property used to enable memory-mapped access.
+	 */
+	public static final String MMAP_PROPERTY = "loader.mmap";
+
 	private final FileAccess fileAccess;
 
 	private final long offset;
@@ -43,10 +55,23 @@ public class RandomAccessDataFile implements RandomAccessData {
 	 * @throws IllegalArgumentException if the file is null or does not exist
 	 */
 	public RandomAccessDataFile(File file) {
+		this(file, Boolean.getBoolean(MMAP_PROPERTY));
+	}
+
+	/**
+	 * Create a new {@link RandomAccessDataFile} backed by the specified file.
+	 * @param file the underlying file
+	 * @param memoryMapped if the file should be read through a memory mapping. Files
+	 * that are too large to be mapped are always read using a {@link RandomAccessFile}.
+	 * @throws IllegalArgumentException if the file is null or does not exist
+	 * @since 2.1.0
+	 */
+	public RandomAccessDataFile(File file, boolean memoryMapped) {
 		if (file == null) {
 			throw new IllegalArgumentException("File must not be null");
 		}
-		this.fileAccess = new FileAccess(file);
+		this.fileAccess = new FileAccess(file,
+				memoryMapped && file.length() <= Integer.MAX_VALUE);
 		this.offset = 0L;
 		this.length = file.length();
 	}
@@ -209,15 +234,31 @@ public class RandomAccessDataFile implements RandomAccessData {
 
 		private final File file;
 
+		private final boolean memoryMapped;
+
 		private RandomAccessFile randomAccessFile;
 
-		private FileAccess(File file) {
+		private volatile ByteBuffer mappedBuffer;
+
+		private FileAccess(File file, boolean memoryMapped) {
 			this.file = file;
+			this.memoryMapped = memoryMapped;
 			openIfNecessary();
 		}
 
 		private int read(byte[] bytes, long position, int offset, int length)
 				throws IOException {
+			ByteBuffer mappedBuffer = getMappedBuffer();
+			if (mappedBuffer != null) {
+				if (position >= mappedBuffer.capacity()) {
+					return -1;
+				}
+				int read = (int) Math.min(length, mappedBuffer.capacity() - position);
+				ByteBuffer buffer = mappedBuffer.duplicate();
+				((Buffer) buffer).position((int) position);
+				buffer.get(bytes, offset, read);
+				return read;
+			}
 			synchronized (this.monitor) {
 				openIfNecessary();
 				this.randomAccessFile.seek(position);
@@ -225,8 +266,27 @@ public class RandomAccessDataFile implements RandomAccessData {
 			}
 		}
 
+		private ByteBuffer getMappedBuffer() {
+			if (!this.memoryMapped) {
+				return null;
+			}
+			ByteBuffer mappedBuffer = this.mappedBuffer;
+			if (mappedBuffer == null) {
+				synchronized (this.monitor) {
+					openIfNecessary();
+					mappedBuffer = this.mappedBuffer;
+				}
+			}
+			return mappedBuffer;
+		}
+
 		private void openIfNecessary() {
-			if (this.randomAccessFile == null) {
+			if (this.memoryMapped) {
+				if (this.mappedBuffer == null) {
+					this.mappedBuffer = map();
+				}
+			}
+			else if (this.randomAccessFile == null) {
 				try {
 					this.randomAccessFile = new RandomAccessFile(this.file, "r");
 				}
@@ -237,8 +297,21 @@ public class RandomAccessDataFile implements RandomAccessData {
 			}
 		}
 
+		private ByteBuffer map() {
+			try (FileChannel channel = FileChannel.open(this.file.toPath(),
+					StandardOpenOption.READ)) {
+				return channel.map(MapMode.READ_ONLY, 0, channel.size());
+			}
+			catch (IOException ex) {
+				throw new IllegalArgumentException(String.format("File %s must exist",
+						this.file.getAbsolutePath()), ex);
+			}
+		}
+
 		private void close() throws IOException {
 			synchronized (this.monitor) {
+				// The mapping itself is released once the buffer is garbage collected
+				this.mappedBuffer = null;
 				if (this.randomAccessFile != null) {
 					this.randomAccessFile.close();
 					this.randomAccessFile = null;
@@ -247,6 +320,13 @@ public class RandomAccessDataFile implements RandomAccessData {
 		}
 
 		private int readByte(long position) throws IOException {
+			ByteBuffer mappedBuffer = getMappedBuffer();
+			if (mappedBuffer != null) {
+				if (position >= mappedBuffer.capacity()) {
+					return -1;
+				}
+				return mappedBuffer.get((int) position) & 0xFF;
+			}
 			synchronized (this.monitor) {
 				openIfNecessary();
 				this.randomAccessFile.seek(position);
@@ -42,6 +42,8 @@ import org.springframework.boot.loader.data.RandomAccessDataFile;
  * on any directory entry.</li>
  * <li>A nested {@link JarFile} can be {@link #getNestedJarFile(ZipEntry) obtained} for
  * embedded JAR files (as long as their entry is not compressed).</li>
+ * <li>Embedded JAR files that are covered by a build-time index are opened without
+ * parsing their central directory.</li>
  * </ul>
  *
  * @author Phillip Webb
@@ -79,6 +81,8 @@ public class JarFile extends java.util.jar.JarFile {
 
 	private boolean signed;
 
+	private NestedJarIndex nestedJarIndex;
+
 	/**
 	 * Create a new {@link JarFile} backed by the specified file.
 	 * @param file the root jar file
@@ -108,19 +112,28 @@ public class JarFile extends java.util.jar.JarFile {
 	 */
 	private JarFile(RandomAccessDataFile rootFile, String pathFromRoot,
 			RandomAccessData data, JarFileType type) throws IOException {
-		this(rootFile, pathFromRoot, data, null, type, null);
+		this(rootFile, pathFromRoot, data, null, type, null, null);
 	}
 
 	private JarFile(RandomAccessDataFile rootFile, String pathFromRoot,
 			RandomAccessData data, JarEntryFilter filter, JarFileType type,
-			Supplier<Manifest> manifestSupplier) throws IOException {
+			Supplier<Manifest> manifestSupplier, NestedJarIndex.IndexedJar indexedJar)
+			throws IOException {
 		super(rootFile.getFile());
 		this.rootFile = rootFile;
 		this.pathFromRoot = pathFromRoot;
-		CentralDirectoryParser parser = new CentralDirectoryParser();
-		this.entries = parser.addVisitor(new JarFileEntries(this, filter));
-		parser.addVisitor(centralDirectoryVisitor());
-		this.data = parser.parse(data, filter == null);
+		if (indexedJar != null) {
+			this.entries = new JarFileEntries(this, filter);
+			this.entries.load(indexedJar, data);
+			this.signed = indexedJar.isSigned();
+			this.data = data;
+		}
+		else {
+			CentralDirectoryParser parser = new CentralDirectoryParser();
+			this.entries = parser.addVisitor(new JarFileEntries(this, filter));
+			parser.addVisitor(centralDirectoryVisitor());
+			this.data = parser.parse(data, filter == null);
+		}
 		this.type = type;
 		this.manifestSupplier = (manifestSupplier != null) ? manifestSupplier : () -> {
 			try (InputStream inputStream = getInputStream(MANIFEST_NAME)) {
@@ -275,7 +288,8 @@ public class JarFile extends java.util.jar.JarFile {
 		return new JarFile(this.rootFile,
 				this.pathFromRoot + "!/"
 						+ entry.getName().substring(0, name.length() - 1),
-				this.data, filter, JarFileType.NESTED_DIRECTORY, this.manifestSupplier);
+				this.data, filter, JarFileType.NESTED_DIRECTORY, this.manifestSupplier,
+				null);
 	}
 
 	private JarFile createJarFileFromFileEntry(JarEntry entry) throws IOException {
@@ -287,7 +301,16 @@ public class JarFile extends java.util.jar.JarFile {
 		}
 		RandomAccessData entryData = this.entries.getEntryData(entry.getName());
 		return new JarFile(this.rootFile, this.pathFromRoot + "!/" + entry.getName(),
-				entryData, JarFileType.NESTED_JAR);
+				entryData, null, JarFileType.NESTED_JAR, null,
+				getNestedJarIndex().get(entry));
+	}
+
+	private NestedJarIndex getNestedJarIndex() throws IOException {
+		if (this.nestedJarIndex == null) {
+			this.nestedJarIndex = (this.type != JarFileType.DIRECT) ? NestedJarIndex.NONE
+					: NestedJarIndex.load(getInputStream(NestedJarIndex.ENTRY_NAME));
+		}
+		return this.nestedJarIndex;
 	}
 
 	@Override
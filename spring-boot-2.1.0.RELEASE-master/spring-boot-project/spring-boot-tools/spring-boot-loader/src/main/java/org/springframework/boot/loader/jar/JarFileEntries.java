@@ -120,6 +120,22 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 		}
 	}
 
+	/**
+	 * Load entries from a pre-built {@link NestedJarIndex.IndexedJar} rather than by
+	 * visiting the central directory.
+	 * @param indexedJar the indexed jar
+	 * @param data the data of the jar
+	 */
+	void load(NestedJarIndex.IndexedJar indexedJar, RandomAccessData data) {
+		this.centralDirectoryData = data.getSubsection(
+				indexedJar.getCentralDirectoryOffset(),
+				indexedJar.getCentralDirectorySize());
+		this.size = indexedJar.getSize();
+		this.hashCodes = indexedJar.getHashCodes();
+		this.centralDirectoryOffsets = indexedJar.getCentralDirectoryOffsets();
+		this.positions = indexedJar.getPositions();
+	}
+
 	int getSize() {
 		return this.size;
 	}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.jar;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-built index of the entries of the jars nested in a {@link JarFile}, written at
+ * build time by {@code Repackager}. For each nested jar the index holds the same
+ * hash-ordered arrays that {@link JarFileEntries} would otherwise have to build by
+ * parsing the jar's central directory, allowing that parsing to be skipped entirely.
+ * <p>
+ * An indexed jar is only used when the CRC and size recorded in the index match those
+ * of the nested entry, so an archive whose nested jars have been modified after
+ * packaging falls back to regular parsing.
+ *
+ * @see JarFileEntries
+ * @author agent
+ */
+final class NestedJarIndex {
+
+	/**
+	 * The name of the entry that holds the index.
+	 */
+	static final String ENTRY_NAME = "META-INF/nested-jars.idx";
+
+	private static final int SIGNATURE = 0x4e4a4958;
+
+	private static final int VERSION = 1;
+
+	static final NestedJarIndex NONE = new NestedJarIndex(Collections.emptyMap());
+
+	private final Map<String, IndexedJar> jars;
+
+	private NestedJarIndex(Map<String, IndexedJar> jars) {
+		this.jars = jars;
+	}
+
+	/**
+	 * Return the {@link IndexedJar} for the given nested entry or {@code null} if the
+	 * entry is not indexed or the index is out of date.
+	 * @param entry the nested jar entry
+	 * @return the indexed jar or {@code null}
+	 */
+	IndexedJar get(JarEntry entry) {
+		IndexedJar indexedJar = this.jars.get(entry.getName());
+		if (indexedJar != null && indexedJar.size == entry.getSize()
+				&& indexedJar.crc == entry.getCrc()) {
+			return indexedJar;
+		}
+		return null;
+	}
+
+	/**
+	 * Load the index from the given stream.
+	 * @param inputStream the source stream or {@code null}
+	 * @return the loaded index, or {@link #NONE} if the stream is {@code null} or in an
+	 * unsupported format
+	 * @throws IOException on read error
+	 */
+	static NestedJarIndex load(InputStream inputStream) throws IOException {
+		if (inputStream == null) {
+			return NONE;
+		}
+		try (DataInputStream input = new DataInputStream(
+				new BufferedInputStream(inputStream))) {
+			if (input.readInt() != SIGNATURE || input.readInt() != VERSION) {
+				return NONE;
+			}
+			int count = input.readInt();
+			Map<String, IndexedJar> jars = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String name = input.readUTF();
+				jars.put(name, new IndexedJar(input));
+			}
+			return new NestedJarIndex(jars);
+		}
+	}
+
+	/**
+	 * The indexed entries of a single nested jar.
+	 */
+	static final class IndexedJar {
+
+		private final long size;
+
+		private final long crc;
+
+		private final long centralDirectoryOffset;
+
+		private final long centralDirectorySize;
+
+		private final boolean signed;
+
+		private final int[] hashCodes;
+
+		private final int[] centralDirectoryOffsets;
+
+		private final int[] positions;
+
+		private IndexedJar(DataInputStream input) throws IOException {
+			this.size = input.readLong();
+			this.crc = input.readLong();
+			this.centralDirectoryOffset = input.readLong();
+			this.centralDirectorySize = input.readLong();
+			this.signed = input.readBoolean();
+			int entries = input.readInt();
+			this.hashCodes = readInts(input, entries);
+			this.centralDirectoryOffsets = readInts(input, entries);
+			this.positions = readInts(input, entries);
+		}
+
+		private int[] readInts(DataInputStream input, int length) throws IOException {
+			int[] values = new int[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = input.readInt();
+			}
+			return values;
+		}
+
+		long getCentralDirectoryOffset() {
+			return this.centralDirectoryOffset;
+		}
+
+		long getCentralDirectorySize() {
+			return this.centralDirectorySize;
+		}
+
+		boolean isSigned() {
+			return this.signed;
+		}
+
+		int getSize() {
+			return this.hashCodes.length;
+		}
+
+		int[] getHashCodes() {
+			return this.hashCodes;
+		}
+
+		int[] getCentralDirectoryOffsets() {
+			return this.centralDirectoryOffsets;
+		}
+
+		int[] getPositions() {
+			return this.positions;
+		}
+
+	}
+
+}
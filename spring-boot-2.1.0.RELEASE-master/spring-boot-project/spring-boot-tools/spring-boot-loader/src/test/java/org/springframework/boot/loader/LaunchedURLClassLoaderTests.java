@@ -16,8 +16,19 @@
 
 package org.springframework.boot.loader;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -26,6 +37,7 @@ import org.junit.rules.TemporaryFolder;
 import org.springframework.boot.loader.jar.JarFile;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link LaunchedURLClassLoader}.
@@ -105,4 +117,136 @@ public class LaunchedURLClassLoaderTests {
 		}
 	}
 
+	@Test
+	public void resolveFromIndexedNested() throws Exception {
+		File file = this.temporaryFolder.newFile();
+		TestJarCreator.createTestJar(file);
+		JarFile jarFile = new JarFile(file);
+		URL nested = jarFile.getNestedJarFile(jarFile.getEntry("nested.jar")).getUrl();
+		URL url = jarFile.getUrl();
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { url, nested }, null);
+		assertThat(loader.getResource("d/9.dat")).isNotNull();
+		assertThat(loader.getResource("3.dat").toString()).isEqualTo(nested + "3.dat");
+		assertThat(Collections.list(loader.getResources("META-INF/MANIFEST.MF")))
+				.hasSize(2);
+	}
+
+	@Test
+	public void resolveMissingDirectoryFromIndexedNested() throws Exception {
+		File file = this.temporaryFolder.newFile();
+		TestJarCreator.createTestJar(file);
+		JarFile jarFile = new JarFile(file);
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { jarFile.getUrl() }, null);
+		assertThat(loader.getResource("missing/1.dat")).isNull();
+		assertThat(loader.getResources("missing/1.dat").hasMoreElements()).isFalse();
+	}
+
+	@Test
+	public void loadClassFromIndexedNested() throws Exception {
+		JarFile jarFile = new JarFile(createJarWithNestedLibraries());
+		URL library = jarFile.getNestedJarFile(jarFile.getEntry("library.jar")).getUrl();
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { jarFile.getUrl(), library }, null);
+		Class<?> type = loader.loadClass("example.Example");
+		assertThat(type.getClassLoader()).isSameAs(loader);
+		assertThat(type.getProtectionDomain().getCodeSource().getLocation())
+				.isEqualTo(library);
+		Package pkg = type.getPackage();
+		assertThat(pkg.getImplementationTitle()).isEqualTo("example");
+		assertThat(pkg.getImplementationVersion()).isEqualTo("1.0");
+		assertThat(pkg.isSealed()).isTrue();
+		assertThat(pkg.isSealed(library)).isTrue();
+	}
+
+	@Test
+	public void loadClassFromIndexedNestedWhenPackageIsSealedByAnotherJar()
+			throws Exception {
+		JarFile jarFile = new JarFile(createJarWithNestedLibraries());
+		URL library = jarFile.getNestedJarFile(jarFile.getEntry("library.jar")).getUrl();
+		URL other = jarFile.getNestedJarFile(jarFile.getEntry("other.jar")).getUrl();
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { library, other }, null);
+		assertThat(loader.loadClass("example.Example").getPackage().isSealed())
+				.isTrue();
+		assertThatExceptionOfType(SecurityException.class)
+				.isThrownBy(() -> loader.loadClass("example.Other"))
+				.withMessageContaining("example");
+	}
+
+	private File createJarWithNestedLibraries() throws IOException {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_TITLE,
+				"example");
+		manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_VERSION,
+				"1.0");
+		manifest.getMainAttributes().put(Attributes.Name.SEALED, "true");
+		File file = this.temporaryFolder.newFile();
+		try (JarOutputStream jarOutputStream = new JarOutputStream(
+				new FileOutputStream(file))) {
+			writeNestedEntry(jarOutputStream, "library.jar",
+					createLibrary(manifest, "example/Example"));
+			writeNestedEntry(jarOutputStream, "other.jar",
+					createLibrary(null, "example/Other"));
+		}
+		return file;
+	}
+
+	private void writeNestedEntry(JarOutputStream jarOutputStream, String name,
+			byte[] data) throws IOException {
+		JarEntry entry = new JarEntry(name);
+		entry.setSize(data.length);
+		entry.setCompressedSize(data.length);
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		entry.setCrc(crc.getValue());
+		entry.setMethod(ZipEntry.STORED);
+		jarOutputStream.putNextEntry(entry);
+		jarOutputStream.write(data);
+		jarOutputStream.closeEntry();
+	}
+
+	private byte[] createLibrary(Manifest manifest, String className)
+			throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JarOutputStream jarOutputStream = (manifest != null)
+				? new JarOutputStream(bytes, manifest) : new JarOutputStream(bytes)) {
+			jarOutputStream.putNextEntry(new JarEntry("example/"));
+			jarOutputStream.closeEntry();
+			jarOutputStream.putNextEntry(new JarEntry(className + ".class"));
+			jarOutputStream.write(createClass(className));
+			jarOutputStream.closeEntry();
+		}
+		return bytes.toByteArray();
+	}
+
+	private byte[] createClass(String className) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			// Minimal public class that extends Object and declares no members
+			output.writeInt(0xCAFEBABE);
+			output.writeShort(0);
+			output.writeShort(50);
+			output.writeShort(5);
+			output.writeByte(7);
+			output.writeShort(2);
+			output.writeByte(1);
+			output.writeUTF(className);
+			output.writeByte(7);
+			output.writeShort(4);
+			output.writeByte(1);
+			output.writeUTF("java/lang/Object");
+			output.writeShort(0x0021);
+			output.writeShort(1);
+			output.writeShort(3);
+			output.writeShort(0);
+			output.writeShort(0);
+			output.writeShort(0);
+			output.writeShort(0);
+		}
+		return bytes.toByteArray();
+	}
+
 }
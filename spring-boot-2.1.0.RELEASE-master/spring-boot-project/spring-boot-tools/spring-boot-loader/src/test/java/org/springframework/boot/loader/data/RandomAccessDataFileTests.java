@@ -306,4 +306,49 @@ public class RandomAccessDataFileTests {
 		}
 	}
 
+	@Test
+	public void memoryMappedReadWithOffsetAndLength() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		try {
+			assertThat(file.read(2, 3)).isEqualTo(new byte[] { 2, 3, 4 });
+			assertThat(file.getSubsection(250, 6).read())
+					.isEqualTo(new byte[] { (byte) 250, (byte) 251, (byte) 252,
+							(byte) 253, (byte) 254, (byte) 255 });
+		}
+		finally {
+			file.close();
+		}
+	}
+
+	@Test
+	public void memoryMappedInputStreamRead() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		try (InputStream inputStream = file.getInputStream()) {
+			for (int i = 0; i <= 255; i++) {
+				assertThat(inputStream.read()).isEqualTo(i);
+			}
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+		finally {
+			file.close();
+		}
+	}
+
+	@Test
+	public void memoryMappedReadAfterClose() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		file.close();
+		assertThat(file.read()).isEqualTo(BYTES);
+		file.close();
+	}
+
+	@Test
+	public void memoryMappedFileExists() {
+		File file = new File("/does/not/exist");
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new RandomAccessDataFile(file, true))
+				.withMessageContaining(
+						String.format("File %s must exist", file.getAbsolutePath()));
+	}
+
 }
@@ -16,19 +16,29 @@
 
 package org.springframework.boot.loader.jar;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FilePermission;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -38,6 +48,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import org.springframework.boot.loader.TestJarCreator;
+import org.springframework.boot.loader.data.RandomAccessData;
 import org.springframework.boot.loader.data.RandomAccessDataFile;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StreamUtils;
@@ -499,4 +510,181 @@ public class JarFileTests {
 		}
 	}
 
+	@Test
+	public void getNestedJarFileUsesNestedJarIndex() throws Exception {
+		File file = createJarWithNestedJarIndex(0, 0);
+		try (JarFile jarFile = new JarFile(file)) {
+			JarFile nested = jarFile.getNestedJarFile(jarFile.getEntry("nested.jar"));
+			// The index claims that the jar is signed, which it is not
+			assertThat(nested.isSigned()).isTrue();
+			assertNestedJarContent(nested);
+		}
+	}
+
+	@Test
+	public void getNestedJarFileWhenNestedJarIndexSizeDoesNotMatch() throws Exception {
+		File file = createJarWithNestedJarIndex(1, 0);
+		try (JarFile jarFile = new JarFile(file)) {
+			JarFile nested = jarFile.getNestedJarFile(jarFile.getEntry("nested.jar"));
+			assertThat(nested.isSigned()).isFalse();
+			assertNestedJarContent(nested);
+		}
+	}
+
+	@Test
+	public void getNestedJarFileWhenNestedJarIndexCrcDoesNotMatch() throws Exception {
+		File file = createJarWithNestedJarIndex(0, 1);
+		try (JarFile jarFile = new JarFile(file)) {
+			JarFile nested = jarFile.getNestedJarFile(jarFile.getEntry("nested.jar"));
+			assertThat(nested.isSigned()).isFalse();
+			assertNestedJarContent(nested);
+		}
+	}
+
+	@Test
+	public void readFromMemoryMappedFile() throws Exception {
+		try (JarFile jarFile = new JarFile(
+				new RandomAccessDataFile(this.rootJarFile, true))) {
+			assertThat(jarFile.getManifest().getMainAttributes().getValue("Built-By"))
+					.isEqualTo("j1");
+			try (InputStream inputStream = jarFile
+					.getInputStream(jarFile.getEntry("special/\u00EB.dat"))) {
+				assertThat(inputStream.read()).isEqualTo(0xEB);
+				assertThat(inputStream.read()).isEqualTo(-1);
+			}
+			assertNestedJarContent(
+					jarFile.getNestedJarFile(jarFile.getEntry("nested.jar")));
+		}
+	}
+
+	private void assertNestedJarContent(JarFile nested) throws Exception {
+		assertThat(Collections.list(nested.entries()).stream()
+				.map(JarEntry::getName)).containsExactly("META-INF/",
+						"META-INF/MANIFEST.MF", "3.dat", "4.dat", "\u00E4.dat");
+		assertThat(nested.getEntry("missing.dat")).isNull();
+		assertThat(nested.getManifest().getMainAttributes().getValue("Built-By"))
+				.isEqualTo("j2");
+		try (InputStream inputStream = nested
+				.getInputStream(nested.getEntry("\u00E4.dat"))) {
+			assertThat(inputStream.read()).isEqualTo(0xE4);
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+	}
+
+	private File createJarWithNestedJarIndex(long sizeDelta, long crcDelta)
+			throws Exception {
+		byte[] nestedJarData;
+		try (ZipFile zipFile = new ZipFile(this.rootJarFile)) {
+			nestedJarData = StreamUtils.copyToByteArray(
+					zipFile.getInputStream(zipFile.getEntry("nested.jar")));
+		}
+		CRC32 crc = new CRC32();
+		crc.update(nestedJarData);
+		File nestedJarFile = this.temporaryFolder.newFile();
+		FileCopyUtils.copy(nestedJarData, nestedJarFile);
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(index)) {
+			// Same format as written by the Repackager
+			output.writeInt(0x4e4a4958);
+			output.writeInt(1);
+			output.writeInt(1);
+			output.writeUTF("nested.jar");
+			output.writeLong(nestedJarData.length + sizeDelta);
+			output.writeLong(crc.getValue() + crcDelta);
+			RandomAccessDataFile data = new RandomAccessDataFile(nestedJarFile);
+			try {
+				CentralDirectoryParser parser = new CentralDirectoryParser();
+				parser.addVisitor(new IndexWritingVisitor(output, data.getSize()));
+				parser.parse(data, false);
+			}
+			finally {
+				data.close();
+			}
+		}
+		File file = this.temporaryFolder.newFile();
+		try (JarOutputStream jarOutputStream = new JarOutputStream(
+				new FileOutputStream(file))) {
+			JarEntry nestedEntry = new JarEntry("nested.jar");
+			nestedEntry.setSize(nestedJarData.length);
+			nestedEntry.setCompressedSize(nestedJarData.length);
+			nestedEntry.setCrc(crc.getValue());
+			nestedEntry.setMethod(ZipEntry.STORED);
+			jarOutputStream.putNextEntry(nestedEntry);
+			jarOutputStream.write(nestedJarData);
+			jarOutputStream.closeEntry();
+			jarOutputStream.putNextEntry(new JarEntry(NestedJarIndex.ENTRY_NAME));
+			jarOutputStream.write(index.toByteArray());
+			jarOutputStream.closeEntry();
+		}
+		return file;
+	}
+
+	/**
+	 * {@link CentralDirectoryVisitor} that writes the index entry of a jar that has no
+	 * comment.
+	 */
+	private static class IndexWritingVisitor implements CentralDirectoryVisitor {
+
+		private final DataOutputStream output;
+
+		private final long size;
+
+		private final List<Integer> hashCodes = new ArrayList<>();
+
+		private final List<Integer> centralDirectoryOffsets = new ArrayList<>();
+
+		private long centralDirectorySize;
+
+		IndexWritingVisitor(DataOutputStream output, long size) {
+			this.output = output;
+			this.size = size;
+		}
+
+		@Override
+		public void visitStart(CentralDirectoryEndRecord endRecord,
+				RandomAccessData centralDirectoryData) {
+			this.centralDirectorySize = centralDirectoryData.getSize();
+		}
+
+		@Override
+		public void visitFileHeader(CentralDirectoryFileHeader fileHeader,
+				int dataOffset) {
+			this.hashCodes.add(fileHeader.getName().hashCode());
+			this.centralDirectoryOffsets.add(dataOffset);
+		}
+
+		@Override
+		public void visitEnd() {
+			int size = this.hashCodes.size();
+			Integer[] order = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, Comparator.comparing(this.hashCodes::get));
+			int[] positions = new int[size];
+			for (int i = 0; i < size; i++) {
+				positions[order[i]] = i;
+			}
+			try {
+				this.output.writeLong(this.size - 22 - this.centralDirectorySize);
+				this.output.writeLong(this.centralDirectorySize);
+				this.output.writeBoolean(true);
+				this.output.writeInt(size);
+				for (Integer index : order) {
+					this.output.writeInt(this.hashCodes.get(index));
+				}
+				for (Integer index : order) {
+					this.output.writeInt(this.centralDirectoryOffsets.get(index));
+				}
+				for (int position : positions) {
+					this.output.writeInt(position);
+				}
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,38 @@
+var messages = {
+	greeting: 'Hello, welcome to the sample application that is used to verify compression',
+	farewell: 'Goodbye, thank you for visiting the sample application, see you again soon',
+	error: 'Something went wrong while loading the sample application, please try again',
+	loading: 'Please wait while the sample application is loading its static resources',
+	empty: 'There is nothing to show yet, the sample application has no content to show'
+};
+
+function message(key) {
+	return messages[key] || messages.error;
+}
+
+function show(key) {
+	var element = document.getElementById('message');
+	if (element) {
+		element.textContent = message(key);
+	}
+}
+
+function greet() {
+	show('greeting');
+}
+
+function leave() {
+	show('farewell');
+}
+
+document.addEventListener('DOMContentLoaded', greet);
+window.addEventListener('beforeunload', leave);
+window.addEventListener('error', function () {
+	show('error');
+});
+window.addEventListener('offline', function () {
+	show('empty');
+});
+window.addEventListener('online', function () {
+	show('loading');
+});
@@ -0,0 +1,8 @@
+import static org.junit.Assert.assertFalse
+import static org.junit.Assert.assertTrue
+
+def compressed = new File(basedir, "target/classes/static/app.js.gz")
+assertTrue 'Compressed resource should have been generated', compressed.exists()
+assertTrue compressed.length() < new File(basedir, "target/classes/static/app.js").length()
+assertFalse 'Small resource should not have been compressed',
+		new File(basedir, "target/classes/static/small.css.gz").exists()
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
+/**
+ * Precompress static resources so that they can be served without being compressed on
+ * each request. A {@code .gz} sibling is generated for each static resource that
+ * benefits from compression.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+@Mojo(name = "compress-resources", defaultPhase = LifecyclePhase.PREPARE_PACKAGE, threadSafe = true)
+public class CompressResourcesMojo extends AbstractMojo {
+
+	@Component
+	private BuildContext buildContext;
+
+	/**
+	 * Directory containing the classes and resource files that should be packaged.
+	 */
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	/**
+	 * Locations of the static resources to compress, relative to the classes directory.
+	 * Defaults to the locations that are served by Spring Boot.
+	 */
+	@Parameter
+	private List<String> locations;
+
+	/**
+	 * Extensions of the static resources to compress. Defaults to text based formats.
+	 */
+	@Parameter
+	private List<String> extensions;
+
+	/**
+	 * Minimum size, in bytes, of the static resources to compress.
+	 */
+	@Parameter(defaultValue = "1024")
+	private long minimumSize;
+
+	/**
+	 * Skip the execution.
+	 */
+	@Parameter(property = "spring-boot.compress-resources.skip", defaultValue = "false")
+	private boolean skip;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		if (this.skip) {
+			getLog().debug("skipping resources compression as per configuration.");
+			return;
+		}
+		StaticResourceCompressor compressor = new StaticResourceCompressor(
+				this.classesDirectory);
+		if (this.locations != null) {
+			compressor.setLocations(this.locations);
+		}
+		if (this.extensions != null) {
+			compressor.setExtensions(this.extensions);
+		}
+		compressor.setMinimumSize(this.minimumSize);
+		try {
+			int compressed = compressor.compress();
+			getLog().info("Compressed " + compressed + " static resource"
+					+ ((compressed != 1) ? "s" : ""));
+			this.buildContext.refresh(this.classesDirectory);
+		}
+		catch (IOException ex) {
+			throw new MojoExecutionException(ex.getMessage(), ex);
+		}
+	}
+
+}
@@ -200,6 +200,22 @@ public class RepackageMojo extends AbstractDependencyFilterMojo {
 	@Parameter(defaultValue = "false")
 	public boolean includeSystemScope;
 
+	/**
+	 * Write an index of the entries of nested jars so that the launcher can open them
+	 * without parsing their central directory.
+	 * @since 2.1.0
+	 */
+	@Parameter(property = "spring-boot.repackage.indexNestedJars", defaultValue = "false")
+	private boolean indexNestedJars;
+
+	/**
+	 * Resolve the class conditions of auto-configuration candidates against the
+	 * packaged libraries so that they do not have to be evaluated at startup.
+	 * @since 2.1.0
+	 */
+	@Parameter(property = "spring-boot.repackage.precomputeClassConditions", defaultValue = "false")
+	private boolean precomputeClassConditions;
+
 	@Override
 	public void execute() throws MojoExecutionException, MojoFailureException {
 		if (this.project.getPackaging().equals("pom")) {
@@ -270,6 +286,8 @@ public class RepackageMojo extends AbstractDependencyFilterMojo {
 		repackager.addMainClassTimeoutWarningListener(
 				new LoggingMainClassTimeoutWarningListener());
 		repackager.setMainClass(this.mainClass);
+		repackager.setIndexNestedJars(this.indexNestedJars);
+		repackager.setPrecomputeClassConditions(this.precomputeClassConditions);
 		if (this.layout != null) {
 			getLog().info("Layout: " + this.layout);
 			repackager.setLayout(this.layout.layout());
@@ -325,6 +325,8 @@ public class ConfigFileApplicationListener implements EnvironmentPostProcessor,
 
 		private Map<DocumentsCacheKey, List<Document>> loadDocumentsCache = new HashMap<>();
 
+		private Set<String> missingLocations = new HashSet<>();
+
 		Loader(ConfigurableEnvironment environment, ResourceLoader resourceLoader) {
 			this.environment = environment;
 			this.placeholdersResolver = new PropertySourcesPlaceholdersResolver(this.environment);
@@ -558,12 +560,17 @@ public class ConfigFileApplicationListener implements EnvironmentPostProcessor,
 		private void load(PropertySourceLoader loader, String location, Profile profile, DocumentFilter filter,
 				DocumentConsumer consumer) {
 			try {
+				// The same locations are probed for each profile and document filter
+				if (this.missingLocations.contains(location)) {
+					return;
+				}
 				//根据参数配置文件路径获取配置文件对应的Resource资源对象
 		  		//classpath开头的环境变量配置返回的是ClassPathResource对象
 		  		//file开头的环境变量配置路径返回的是FileSystemResource对象
 				Resource resource = this.resourceLoader.getResource(location);
 				   //如果配置文件资源不存在，则继续循环
 				if (resource == null || !resource.exists()) {
+					this.missingLocations.add(location);
 					if (this.logger.isTraceEnabled()) {
 						StringBuilder description = getDescription("Skipped missing config ", location, resource,
 								profile);
@@ -33,9 +33,14 @@ import org.springframework.boot.context.properties.source.ConfigurationPropertyS
 import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
- * {@link BeanBinder} for mutable Java Beans.
+ * {@link BeanBinder} for mutable Java Beans. Introspected bean metadata, including the
+ * resolved type and annotations of each property, is cached per bean type so that
+ * repeated binds of the same type do not introspect it again.
  *
  * @author Phillip Webb
  * @author Madhura Bhave
@@ -100,7 +105,7 @@ class JavaBeanBinder implements BeanBinder {
 	 */
 	private static class Bean<T> {
 
-		private static Bean<?> cached;
+		private static final Map<BeanKey, Bean<?>> cache = new ConcurrentReferenceHashMap<>();
 
 		private final Class<?> type;
 
@@ -199,12 +204,10 @@ class JavaBeanBinder implements BeanBinder {
 			if (instance == null && !isInstantiable(type)) {
 				return null;
 			}
-			Bean<?> bean = Bean.cached;
-			if (bean == null || !type.equals(bean.getType())) {
-				bean = new Bean<>(bindable.getType(), type);
-				cached = bean;
-			}
-			return (Bean<T>) bean;
+			ResolvableType resolvableType = bindable.getType();
+			Class<?> beanType = type;
+			return (Bean<T>) cache.computeIfAbsent(new BeanKey(resolvableType, beanType),
+					(key) -> new Bean<>(resolvableType, beanType));
 		}
 
 		private static boolean isInstantiable(Class<?> type) {
@@ -222,6 +225,41 @@ class JavaBeanBinder implements BeanBinder {
 
 	}
 
+	/**
+	 * Key used to cache {@link Bean} instances.
+	 */
+	private static final class BeanKey {
+
+		private final ResolvableType resolvableType;
+
+		private final Class<?> type;
+
+		BeanKey(ResolvableType resolvableType, Class<?> type) {
+			this.resolvableType = resolvableType;
+			this.type = type;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			BeanKey other = (BeanKey) obj;
+			return this.type.equals(other.type)
+					&& ObjectUtils.nullSafeEquals(this.resolvableType, other.resolvableType);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.type.hashCode()
+					+ ObjectUtils.nullSafeHashCode(this.resolvableType);
+		}
+
+	}
+
 	private static class BeanSupplier<T> implements Supplier<T> {
 
 		private final Supplier<T> factory;
@@ -257,6 +295,10 @@ class JavaBeanBinder implements BeanBinder {
 
 		private Field field;
 
+		private volatile ResolvableType type;
+
+		private volatile Annotation[] annotations;
+
 		BeanProperty(String name, ResolvableType declaringClassType) {
 			this.name = BeanPropertyName.toDashedForm(name);
 			this.declaringClassType = declaringClassType;
@@ -264,12 +306,14 @@ class JavaBeanBinder implements BeanBinder {
 
 		public void addGetter(Method getter) {
 			if (this.getter == null) {
+				ReflectionUtils.makeAccessible(getter);
 				this.getter = getter;
 			}
 		}
 
 		public void addSetter(Method setter) {
 			if (this.setter == null) {
+				ReflectionUtils.makeAccessible(setter);
 				this.setter = setter;
 			}
 		}
@@ -285,6 +329,15 @@ class JavaBeanBinder implements BeanBinder {
 		}
 
 		public ResolvableType getType() {
+			ResolvableType type = this.type;
+			if (type == null) {
+				type = resolveType();
+				this.type = type;
+			}
+			return type;
+		}
+
+		private ResolvableType resolveType() {
 			if (this.setter != null) {
 				MethodParameter methodParameter = new MethodParameter(this.setter, 0);
 				return ResolvableType.forMethodParameter(methodParameter,
@@ -296,8 +349,17 @@ class JavaBeanBinder implements BeanBinder {
 		}
 
 		public Annotation[] getAnnotations() {
+			Annotation[] annotations = this.annotations;
+			if (annotations == null && this.field != null) {
+				annotations = resolveAnnotations();
+				this.annotations = annotations;
+			}
+			return annotations;
+		}
+
+		private Annotation[] resolveAnnotations() {
 			try {
-				return (this.field != null) ? this.field.getDeclaredAnnotations() : null;
+				return this.field.getDeclaredAnnotations();
 			}
 			catch (Exception ex) {
 				return null;
@@ -310,7 +372,6 @@ class JavaBeanBinder implements BeanBinder {
 			}
 			return () -> {
 				try {
-					this.getter.setAccessible(true);
 					return this.getter.invoke(instance.get());
 				}
 				catch (Exception ex) {
@@ -326,7 +387,6 @@ class JavaBeanBinder implements BeanBinder {
 
 		public void setValue(Supplier<?> instance, Object value) {
 			try {
-				this.setter.setAccessible(true);
 				this.setter.invoke(instance.get(), value);
 			}
 			catch (Exception ex) {
@@ -17,13 +17,17 @@
 package org.springframework.boot.context.properties.source;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName.Form;
 import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.PropertySource;
@@ -36,6 +40,11 @@ import org.springframework.util.ObjectUtils;
  * In order to use this adapter the underlying {@link PropertySource} must be fully
  * enumerable. A security restricted {@link SystemEnvironmentPropertySource} cannot be
  * adapted.
+ * <p>
+ * Mapped names are held in an index keyed by their uniform elements so that lookups and
+ * {@link #containsDescendantOf(ConfigurationPropertyName)} checks only visit the
+ * elements of the requested name rather than every mapped name. When the underlying
+ * source changes, mappings of unchanged property names are reused.
  *
  * @author Phillip Webb
  * @author Madhura Bhave
@@ -72,7 +81,11 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 		ConfigurationProperty configurationProperty = super.getConfigurationProperty(
 				name);
 		if (configurationProperty == null) {
-			configurationProperty = find(getPropertyMappings(getCache()), name);
+			Cache cache = getCache();
+			PropertyMapping[] mappings = (cache != null)
+					? getMappingIndex(cache).getMappings(name)
+					: getPropertyMappings(null);
+			configurationProperty = find(mappings, name);
 		}
 		return configurationProperty;
 	}
@@ -90,7 +103,12 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 	@Override
 	public ConfigurationPropertyState containsDescendantOf(
 			ConfigurationPropertyName name) {
-		return ConfigurationPropertyState.search(this, name::isAncestorOf);
+		Cache cache = getCache();
+		if (cache == null) {
+			return ConfigurationPropertyState.search(this, name::isAncestorOf);
+		}
+		return getMappingIndex(cache).containsDescendantOf(name)
+				? ConfigurationPropertyState.PRESENT : ConfigurationPropertyState.ABSENT;
 	}
 
 	private List<ConfigurationPropertyName> getConfigurationPropertyNames() {
@@ -117,19 +135,34 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 			return result;
 		}
 		String[] names = getPropertySource().getPropertyNames();
+		Map<String, PropertyMapping[]> previous = (cache != null)
+				? cache.getPreviousMappings() : null;
+		Map<String, PropertyMapping[]> mappingsByName = new HashMap<>(names.length);
 		List<PropertyMapping> mappings = new ArrayList<>(names.length * 2);
 		for (String name : names) {
-			for (PropertyMapping mapping : getMapper().map(name)) {
-				mappings.add(mapping);
+			PropertyMapping[] mapped = (previous != null) ? previous.get(name) : null;
+			if (mapped == null) {
+				mapped = getMapper().map(name);
 			}
+			mappingsByName.put(name, mapped);
+			Collections.addAll(mappings, mapped);
 		}
 		result = mappings.toArray(new PropertyMapping[0]);
 		if (cache != null) {
-			cache.setMappings(result);
+			cache.setMappings(result, mappingsByName);
 		}
 		return result;
 	}
 
+	private MappingIndex getMappingIndex(Cache cache) {
+		MappingIndex index = cache.getIndex();
+		if (index == null) {
+			index = new MappingIndex(getPropertyMappings(cache));
+			cache.setIndex(index);
+		}
+		return index;
+	}
+
 	private Cache getCache() {
 		CacheKey cacheKey = CacheKey.get(getPropertySource());
 		if (cacheKey == null) {
@@ -138,7 +171,9 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 		if (ObjectUtils.nullSafeEquals(cacheKey, this.cacheKey)) {
 			return this.cache;
 		}
-		this.cache = new Cache();
+		Cache previous = this.cache;
+		this.cache = new Cache(
+				(previous != null) ? previous.getMappingsByPropertyName() : null);
 		this.cacheKey = cacheKey.copy();
 		return this.cache;
 	}
@@ -154,6 +189,16 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 
 		private PropertyMapping[] mappings;
 
+		private Map<String, PropertyMapping[]> mappingsByPropertyName;
+
+		private Map<String, PropertyMapping[]> previousMappings;
+
+		private MappingIndex index;
+
+		Cache(Map<String, PropertyMapping[]> previousMappings) {
+			this.previousMappings = previousMappings;
+		}
+
 		public List<ConfigurationPropertyName> getNames() {
 			return this.names;
 		}
@@ -166,8 +211,94 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 			return this.mappings;
 		}
 
-		public void setMappings(PropertyMapping[] mappings) {
+		public void setMappings(PropertyMapping[] mappings,
+				Map<String, PropertyMapping[]> mappingsByPropertyName) {
 			this.mappings = mappings;
+			this.mappingsByPropertyName = mappingsByPropertyName;
+			this.previousMappings = null;
+		}
+
+		public Map<String, PropertyMapping[]> getMappingsByPropertyName() {
+			return this.mappingsByPropertyName;
+		}
+
+		public Map<String, PropertyMapping[]> getPreviousMappings() {
+			return this.previousMappings;
+		}
+
+		public MappingIndex getIndex() {
+			return this.index;
+		}
+
+		public void setIndex(MappingIndex index) {
+			this.index = index;
+		}
+
+	}
+
+	/**
+	 * Index of {@link PropertyMapping PropertyMappings} organized as a tree of the
+	 * {@link Form#UNIFORM uniform} elements of their {@link ConfigurationPropertyName}.
+	 */
+	private static final class MappingIndex {
+
+		private static final PropertyMapping[] NONE = {};
+
+		private final Node root = new Node();
+
+		MappingIndex(PropertyMapping[] mappings) {
+			for (PropertyMapping mapping : mappings) {
+				ConfigurationPropertyName name = mapping.getConfigurationPropertyName();
+				Node node = this.root;
+				for (int i = 0; i < name.getNumberOfElements(); i++) {
+					node = node.getOrCreateChild(name.getElement(i, Form.UNIFORM));
+				}
+				node.addMapping(mapping);
+			}
+		}
+
+		PropertyMapping[] getMappings(ConfigurationPropertyName name) {
+			Node node = find(name);
+			return (node != null) ? node.mappings : NONE;
+		}
+
+		boolean containsDescendantOf(ConfigurationPropertyName name) {
+			Node node = find(name);
+			return node != null && node.children != null;
+		}
+
+		private Node find(ConfigurationPropertyName name) {
+			Node node = this.root;
+			for (int i = 0; i < name.getNumberOfElements() && node != null; i++) {
+				node = node.getChild(name.getElement(i, Form.UNIFORM));
+			}
+			return node;
+		}
+
+		private static final class Node {
+
+			private Map<String, Node> children;
+
+			private PropertyMapping[] mappings = NONE;
+
+			Node getChild(String element) {
+				return (this.children != null) ? this.children.get(element) : null;
+			}
+
+			Node getOrCreateChild(String element) {
+				if (this.children == null) {
+					this.children = new HashMap<>(4);
+				}
+				return this.children.computeIfAbsent(element, (key) -> new Node());
+			}
+
+			void addMapping(PropertyMapping mapping) {
+				PropertyMapping[] mappings = Arrays.copyOf(this.mappings,
+						this.mappings.length + 1);
+				mappings[this.mappings.length] = mapping;
+				this.mappings = mappings;
+			}
+
 		}
 
 	}
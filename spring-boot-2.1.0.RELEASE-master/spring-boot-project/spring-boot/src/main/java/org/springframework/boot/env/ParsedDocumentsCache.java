@@ -0,0 +1,390 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.SpringBootVersion;
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.OriginTrackedValue;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.boot.origin.TextResourceOrigin.Location;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Cache of the documents parsed from a property source resource. Resources are keyed by
+ * a hash of their content. Entries are held in memory, so that restarts within the same
+ * JVM do not parse unchanged files again, and are also written to the directory
+ * specified by the {@value #DIRECTORY_PROPERTY} system property when it is set. Cached
+ * entries do not reference the resource that they were parsed from, origins are
+ * recreated against the resource being loaded.
+ * <p>
+ * Entries hold the parsed values, including any passwords or other secrets, in plain
+ * text. Where supported, the on-disk cache directory and its files are created so that
+ * they are only readable by their owner. An existing directory is used as-is.
+ *
+ * @author agent
+ */
+final class ParsedDocumentsCache {
+
+	/**
+	 * The name of the system property that can be used to specify the directory of the
+	 * on-disk cache.
+	 */
+	static final String DIRECTORY_PROPERTY = "spring.config.cache-directory";
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final boolean POSIX = FileSystems.getDefault()
+			.supportedFileAttributeViews().contains("posix");
+
+	private static final Map<String, byte[]> entries = new ConcurrentReferenceHashMap<>();
+
+	private ParsedDocumentsCache() {
+	}
+
+	/**
+	 * Return the documents of the given resource, either from the cache or by using the
+	 * given loader.
+	 * @param type the type of the documents, used to distinguish the loaders that parse
+	 * the same content
+	 * @param resource the resource being loaded
+	 * @param loader the loader used to parse the resource on a cache miss
+	 * @return the documents
+	 * @throws IOException on read error
+	 */
+	static List<Map<String, Object>> get(String type, Resource resource,
+			DocumentsLoader loader) throws IOException {
+		String key = getKey(type, resource);
+		if (key == null) {
+			return loader.load();
+		}
+		byte[] cached = entries.get(key);
+		if (cached == null) {
+			cached = readFromDisk(key);
+		}
+		List<Map<String, Object>> documents = (cached != null)
+				? decode(cached, resource) : null;
+		if (documents != null) {
+			entries.put(key, cached);
+			return documents;
+		}
+		documents = loader.load();
+		byte[] encoded = encode(documents);
+		if (encoded != null) {
+			entries.put(key, encoded);
+			writeToDisk(key, encoded);
+		}
+		return documents;
+	}
+
+	static void clear() {
+		entries.clear();
+	}
+
+	private static String getKey(String type, Resource resource) {
+		if (resource.isOpen()) {
+			// The content can only be read once
+			return null;
+		}
+		try {
+			try (InputStream inputStream = resource.getInputStream()) {
+				return getKey(type, StreamUtils.copyToByteArray(inputStream));
+			}
+		}
+		catch (IOException | NoSuchAlgorithmException ex) {
+			return null;
+		}
+	}
+
+	private static String getKey(String type, byte[] content)
+			throws NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(content);
+		StringBuilder key = new StringBuilder(type).append('-');
+		for (byte b : digest.digest()) {
+			key.append(String.format("%02x", b));
+		}
+		return key.toString();
+	}
+
+	private static File getDirectory() {
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+		return (directory != null) ? new File(directory) : null;
+	}
+
+	private static byte[] readFromDisk(String key) {
+		File directory = getDirectory();
+		File file = (directory != null) ? new File(directory, key) : null;
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try {
+			return Files.readAllBytes(file.toPath());
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	private static void writeToDisk(String key, byte[] encoded) {
+		File directory = getDirectory();
+		if (directory == null) {
+			return;
+		}
+		try {
+			Path path = directory.toPath();
+			if (!Files.isDirectory(path)) {
+				Files.createDirectories(path, permissions("rwx------"));
+			}
+			Path temp = Files.createTempFile(path, key, ".tmp",
+					permissions("rw-------"));
+			Files.write(temp, encoded);
+			Files.move(temp, path.resolve(key), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			// The cache is best effort
+		}
+	}
+
+	private static FileAttribute<?>[] permissions(String permissions) {
+		if (!POSIX) {
+			return new FileAttribute<?>[0];
+		}
+		return new FileAttribute<?>[] { PosixFilePermissions
+				.asFileAttribute(PosixFilePermissions.fromString(permissions)) };
+	}
+
+	private static byte[] encode(List<Map<String, Object>> documents) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			output.writeInt(FORMAT_VERSION);
+			writeString(output, SpringBootVersion.getVersion());
+			output.writeInt(documents.size());
+			for (Map<String, Object> document : documents) {
+				output.writeInt(document.size());
+				for (Map.Entry<String, Object> entry : document.entrySet()) {
+					writeString(output, entry.getKey());
+					writeEntryValue(output, entry.getValue());
+				}
+			}
+			output.flush();
+			return bytes.toByteArray();
+		}
+		catch (UnsupportedValueException | IOException ex) {
+			return null;
+		}
+	}
+
+	private static void writeEntryValue(DataOutputStream output, Object value)
+			throws IOException {
+		if (!(value instanceof OriginTrackedValue)) {
+			output.writeByte('P');
+			writeValue(output, value);
+			return;
+		}
+		OriginTrackedValue trackedValue = (OriginTrackedValue) value;
+		Origin origin = trackedValue.getOrigin();
+		Location location = (origin instanceof TextResourceOrigin)
+				? ((TextResourceOrigin) origin).getLocation() : null;
+		if (origin != null && !(origin instanceof TextResourceOrigin)) {
+			throw new UnsupportedValueException();
+		}
+		if (origin == null) {
+			output.writeByte('T');
+		}
+		else if (location == null) {
+			output.writeByte('R');
+		}
+		else {
+			output.writeByte('L');
+			output.writeInt(location.getLine());
+			output.writeInt(location.getColumn());
+		}
+		writeValue(output, trackedValue.getValue());
+	}
+
+	private static void writeValue(DataOutputStream output, Object value)
+			throws IOException {
+		if (value == null) {
+			output.writeByte('N');
+		}
+		else if (value instanceof String) {
+			output.writeByte('S');
+			writeString(output, (String) value);
+		}
+		else if (value instanceof Boolean) {
+			output.writeByte('Z');
+			output.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Integer) {
+			output.writeByte('I');
+			output.writeInt((Integer) value);
+		}
+		else if (value instanceof Long) {
+			output.writeByte('J');
+			output.writeLong((Long) value);
+		}
+		else if (value instanceof Double) {
+			output.writeByte('D');
+			output.writeDouble((Double) value);
+		}
+		else if (value instanceof Float) {
+			output.writeByte('F');
+			output.writeFloat((Float) value);
+		}
+		else if (value instanceof BigInteger) {
+			output.writeByte('B');
+			writeString(output, value.toString());
+		}
+		else if (value instanceof BigDecimal) {
+			output.writeByte('M');
+			writeString(output, value.toString());
+		}
+		else {
+			throw new UnsupportedValueException();
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value)
+			throws IOException {
+		byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static List<Map<String, Object>> decode(byte[] encoded, Resource resource) {
+		try {
+			DataInputStream input = new DataInputStream(
+					new ByteArrayInputStream(encoded));
+			if (input.readInt() != FORMAT_VERSION || !readString(input)
+					.equals(String.valueOf(SpringBootVersion.getVersion()))) {
+				return null;
+			}
+			int size = input.readInt();
+			List<Map<String, Object>> documents = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				int entries = input.readInt();
+				Map<String, Object> document = new LinkedHashMap<>();
+				for (int j = 0; j < entries; j++) {
+					String key = readString(input);
+					document.put(key, readEntryValue(input, resource));
+				}
+				documents.add(document);
+			}
+			return documents;
+		}
+		catch (IOException | RuntimeException ex) {
+			// Corrupt or incompatible entry
+			return null;
+		}
+	}
+
+	private static Object readEntryValue(DataInputStream input, Resource resource)
+			throws IOException {
+		byte kind = input.readByte();
+		switch (kind) {
+		case 'P':
+			return readValue(input);
+		case 'T':
+			return OriginTrackedValue.of(readValue(input));
+		case 'R':
+			return OriginTrackedValue.of(readValue(input),
+					new TextResourceOrigin(resource, null));
+		case 'L':
+			Location location = new Location(input.readInt(), input.readInt());
+			return OriginTrackedValue.of(readValue(input),
+					new TextResourceOrigin(resource, location));
+		default:
+			throw new IllegalStateException("Unknown entry kind " + kind);
+		}
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		byte type = input.readByte();
+		switch (type) {
+		case 'N':
+			return null;
+		case 'S':
+			return readString(input);
+		case 'Z':
+			return input.readBoolean();
+		case 'I':
+			return input.readInt();
+		case 'J':
+			return input.readLong();
+		case 'D':
+			return input.readDouble();
+		case 'F':
+			return input.readFloat();
+		case 'B':
+			return new BigInteger(readString(input));
+		case 'M':
+			return new BigDecimal(readString(input));
+		default:
+			throw new IllegalStateException("Unknown value type " + type);
+		}
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Loads the documents of a resource.
+	 */
+	@FunctionalInterface
+	interface DocumentsLoader {
+
+		List<Map<String, Object>> load() throws IOException;
+
+	}
+
+	/**
+	 * Thrown when documents contain a value that cannot be cached.
+	 */
+	private static class UnsupportedValueException extends RuntimeException {
+
+	}
+
+}
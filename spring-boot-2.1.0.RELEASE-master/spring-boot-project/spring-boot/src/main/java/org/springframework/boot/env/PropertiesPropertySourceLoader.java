@@ -58,7 +58,10 @@ public class PropertiesPropertySourceLoader implements PropertySourceLoader {
 		if (filename != null && filename.endsWith(XML_FILE_EXTENSION)) {
 			return (Map) PropertiesLoaderUtils.loadProperties(resource);
 		}
-		return new OriginTrackedPropertiesLoader(resource).load();
+		List<Map<String, Object>> loaded = ParsedDocumentsCache.get("properties",
+				resource, () -> (List) Collections.singletonList(
+						new OriginTrackedPropertiesLoader(resource).load()));
+		return loaded.get(0);
 	}
 
 }
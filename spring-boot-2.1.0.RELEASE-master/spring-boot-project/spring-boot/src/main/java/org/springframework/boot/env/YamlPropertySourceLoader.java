@@ -47,7 +47,8 @@ public class YamlPropertySourceLoader implements PropertySourceLoader {
 			throw new IllegalStateException("Attempted to load " + name
 					+ " but snakeyaml was not found on the classpath");
 		}
-		List<Map<String, Object>> loaded = new OriginTrackedYamlLoader(resource).load();
+		List<Map<String, Object>> loaded = ParsedDocumentsCache.get("yaml", resource,
+				() -> new OriginTrackedYamlLoader(resource).load());
 		if (loaded.isEmpty()) {
 			return Collections.emptyList();
 		}
@@ -16,18 +16,19 @@
 
 package org.springframework.boot.json;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.util.StringUtils;
-
 /**
- * Really basic JSON parser for when you have nothing else available. Comes with some
- * limitations with respect to the JSON specification (e.g. only supports String values),
- * so users will probably prefer to have a library handle things instead (Jackson or Snake
- * YAML are supported).
+ * Really basic JSON parser for when you have nothing else available. Parses the source in
+ * a single pass without creating intermediate strings. Unquoted values that are not
+ * numbers, booleans or {@code null} are leniently returned as strings. Users will
+ * probably prefer to have a library handle things instead (Jackson or Snake YAML are
+ * supported).
  *
  * @author Dave Syer
  * @author Jean de Klerk
@@ -47,113 +48,327 @@ public class BasicJsonParser extends AbstractJsonParser {
 		return parseList(json, this::parseListInternal);
 	}
 
+	/**
+	 * Parse the JSON read from the specified reader into a Map. The reader is not closed.
+	 * @param reader the reader of the JSON to parse
+	 * @return the parsed JSON as a map
+	 * @throws JsonParseException if the JSON cannot be parsed
+	 * @since 2.1.0
+	 */
+	public Map<String, Object> parseMap(Reader reader) throws JsonParseException {
+		return new Parser(reader).parseRoot('{', Parser::parseMap);
+	}
+
+	/**
+	 * Parse the JSON read from the specified reader into a List. The reader is not
+	 * closed.
+	 * @param reader the reader of the JSON to parse
+	 * @return the parsed JSON as a list
+	 * @throws JsonParseException if the JSON cannot be parsed
+	 * @since 2.1.0
+	 */
+	public List<Object> parseList(Reader reader) throws JsonParseException {
+		return new Parser(reader).parseRoot('[', Parser::parseList);
+	}
+
+	private Map<String, Object> parseMapInternal(String json) {
+		return new Parser(json).parseRoot('{', Parser::parseMap);
+	}
+
 	private List<Object> parseListInternal(String json) {
-		List<Object> list = new ArrayList<>();
-		json = trimLeadingCharacter(trimTrailingCharacter(json, ']'), '[');
-		for (String value : tokenize(json)) {
-			list.add(parseInternal(value));
-		}
-		return list;
+		return new Parser(json).parseRoot('[', Parser::parseList);
 	}
 
-	private Object parseInternal(String json) {
-		if (json.startsWith("[")) {
-			return parseListInternal(json);
-		}
-		if (json.startsWith("{")) {
-			return parseMapInternal(json);
+	/**
+	 * Single-pass recursive descent parser reading from a character buffer that is
+	 * refilled from a {@link Reader} when one is available.
+	 */
+	private static final class Parser {
+
+		private static final int BUFFER_SIZE = 8192;
+
+		private static final int EOF = -1;
+
+		private final Reader reader;
+
+		private final StringBuilder builder = new StringBuilder();
+
+		private char[] buffer;
+
+		private int position;
+
+		private int limit;
+
+		private long offset;
+
+		Parser(String json) {
+			this.reader = null;
+			this.buffer = json.toCharArray();
+			this.limit = this.buffer.length;
 		}
-		if (json.startsWith("\"")) {
-			return trimTrailingCharacter(trimLeadingCharacter(json, '"'), '"');
+
+		Parser(Reader reader) {
+			this.reader = reader;
+			this.buffer = new char[BUFFER_SIZE];
 		}
-		try {
-			return Long.valueOf(json);
+
+		<T> T parseRoot(char expected, ValueParser<T> parser) {
+			try {
+				if (skipWhitespace() != expected) {
+					throw new JsonParseException();
+				}
+				this.position++;
+				T result = parser.parse(this);
+				if (skipWhitespace() != EOF) {
+					throw unexpected();
+				}
+				return result;
+			}
+			catch (IOException ex) {
+				throw new JsonParseException(ex);
+			}
 		}
-		catch (NumberFormatException ex) {
-			// ignore
+
+		Map<String, Object> parseMap() throws IOException {
+			Map<String, Object> map = new LinkedHashMap<>();
+			int current = skipWhitespace();
+			if (current == '}') {
+				this.position++;
+				return map;
+			}
+			while (true) {
+				String key = parseKey();
+				if (skipWhitespace() != ':') {
+					throw unexpected();
+				}
+				this.position++;
+				map.put(key, parseValue());
+				current = skipWhitespace();
+				this.position++;
+				if (current == '}') {
+					return map;
+				}
+				if (current != ',') {
+					throw unexpected();
+				}
+				skipWhitespace();
+			}
 		}
-		try {
-			return Double.valueOf(json);
+
+		List<Object> parseList() throws IOException {
+			List<Object> list = new ArrayList<>();
+			int current = skipWhitespace();
+			if (current == ']') {
+				this.position++;
+				return list;
+			}
+			while (true) {
+				list.add(parseValue());
+				current = skipWhitespace();
+				this.position++;
+				if (current == ']') {
+					return list;
+				}
+				if (current != ',') {
+					throw unexpected();
+				}
+			}
 		}
-		catch (NumberFormatException ex) {
-			// ignore
+
+		private String parseKey() throws IOException {
+			if (peek() == '"') {
+				this.position++;
+				return parseString();
+			}
+			return parseUnquoted().trim();
 		}
-		return json;
-	}
 
-	private static String trimTrailingCharacter(String string, char c) {
-		if (!string.isEmpty() && string.charAt(string.length() - 1) == c) {
-			return string.substring(0, string.length() - 1);
+		private Object parseValue() throws IOException {
+			int current = skipWhitespace();
+			switch (current) {
+			case '{':
+				this.position++;
+				return parseMap();
+			case '[':
+				this.position++;
+				return parseList();
+			case '"':
+				this.position++;
+				return parseString();
+			case EOF:
+				throw unexpected();
+			default:
+				return parseLiteral(parseUnquoted().trim());
+			}
 		}
-		return string;
-	}
 
-	private static String trimLeadingCharacter(String string, char c) {
-		if (!string.isEmpty() && string.charAt(0) == c) {
-			return string.substring(1);
+		private Object parseLiteral(String value) {
+			if (value.isEmpty()) {
+				throw unexpected();
+			}
+			if ("true".equals(value)) {
+				return Boolean.TRUE;
+			}
+			if ("false".equals(value)) {
+				return Boolean.FALSE;
+			}
+			if ("null".equals(value)) {
+				return null;
+			}
+			char first = value.charAt(0);
+			if (first == '-' || (first >= '0' && first <= '9')) {
+				try {
+					if (!isDecimal(value)) {
+						return Long.valueOf(value);
+					}
+				}
+				catch (NumberFormatException ex) {
+					// ignore
+				}
+				try {
+					return Double.valueOf(value);
+				}
+				catch (NumberFormatException ex) {
+					// ignore
+				}
+			}
+			return value;
 		}
-		return string;
-	}
 
-	private Map<String, Object> parseMapInternal(String json) {
-		Map<String, Object> map = new LinkedHashMap<>();
-		json = trimLeadingCharacter(trimTrailingCharacter(json, '}'), '{');
-		for (String pair : tokenize(json)) {
-			String[] values = StringUtils.trimArrayElements(StringUtils.split(pair, ":"));
-			String key = trimLeadingCharacter(trimTrailingCharacter(values[0], '"'), '"');
-			Object value = parseInternal(values[1]);
-			map.put(key, value);
-		}
-		return map;
-	}
+		private boolean isDecimal(String value) {
+			for (int i = 0; i < value.length(); i++) {
+				char current = value.charAt(i);
+				if (current == '.' || current == 'e' || current == 'E') {
+					return true;
+				}
+			}
+			return false;
+		}
 
-	private List<String> tokenize(String json) {
-		List<String> list = new ArrayList<>();
-		int index = 0;
-		int inObject = 0;
-		int inList = 0;
-		boolean inValue = false;
-		boolean inEscape = false;
-		StringBuilder build = new StringBuilder();
-		while (index < json.length()) {
-			char current = json.charAt(index);
-			if (inEscape) {
-				build.append(current);
-				index++;
-				inEscape = false;
-				continue;
-			}
-			if (current == '{') {
-				inObject++;
+		private String parseString() throws IOException {
+			StringBuilder builder = this.builder;
+			builder.setLength(0);
+			while (true) {
+				if (this.position == this.limit && !fill()) {
+					throw unexpected();
+				}
+				int start = this.position;
+				while (this.position < this.limit) {
+					char current = this.buffer[this.position];
+					if (current == '"' || current == '\\') {
+						break;
+					}
+					this.position++;
+				}
+				builder.append(this.buffer, start, this.position - start);
+				if (this.position < this.limit) {
+					char current = this.buffer[this.position++];
+					if (current == '"') {
+						return builder.toString();
+					}
+					builder.append(parseEscape());
+				}
 			}
-			if (current == '}') {
-				inObject--;
+		}
+
+		private char parseEscape() throws IOException {
+			int escaped = read();
+			switch (escaped) {
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'u':
+				int value = 0;
+				for (int i = 0; i < 4; i++) {
+					int digit = Character.digit(read(), 16);
+					if (digit == -1) {
+						throw unexpected();
+					}
+					value = (value << 4) + digit;
+				}
+				return (char) value;
+			case EOF:
+				throw unexpected();
+			default:
+				return (char) escaped;
 			}
-			if (current == '[') {
-				inList++;
+		}
+
+		private String parseUnquoted() throws IOException {
+			StringBuilder builder = this.builder;
+			builder.setLength(0);
+			while (true) {
+				int current = peek();
+				if (current == EOF || current == ',' || current == ':' || current == '}'
+						|| current == ']' || current == '{' || current == '['
+						|| current == '"') {
+					return builder.toString();
+				}
+				builder.append((char) current);
+				this.position++;
 			}
-			if (current == ']') {
-				inList--;
+		}
+
+		private int skipWhitespace() throws IOException {
+			while (true) {
+				int current = peek();
+				if (current != ' ' && current != '\t' && current != '\n'
+						&& current != '\r') {
+					return current;
+				}
+				this.position++;
 			}
-			if (current == '"') {
-				inValue = !inValue;
+		}
+
+		private int peek() throws IOException {
+			if (this.position == this.limit && !fill()) {
+				return EOF;
 			}
-			if (current == ',' && inObject == 0 && inList == 0 && !inValue) {
-				list.add(build.toString());
-				build.setLength(0);
+			return this.buffer[this.position];
+		}
+
+		private int read() throws IOException {
+			int current = peek();
+			if (current != EOF) {
+				this.position++;
 			}
-			else if (current == '\\') {
-				inEscape = true;
+			return current;
+		}
+
+		private boolean fill() throws IOException {
+			if (this.reader == null) {
+				return false;
 			}
-			else {
-				build.append(current);
+			this.offset += this.limit;
+			this.position = 0;
+			this.limit = 0;
+			int read = this.reader.read(this.buffer);
+			if (read <= 0) {
+				return false;
 			}
-			index++;
+			this.limit = read;
+			return true;
 		}
-		if (build.length() > 0) {
-			list.add(build.toString());
+
+		private JsonParseException unexpected() {
+			return new JsonParseException(new IllegalStateException(
+					"Unexpected character at position " + (this.offset + this.position)));
 		}
-		return list;
+
+	}
+
+	@FunctionalInterface
+	private interface ValueParser<T> {
+
+		T parse(Parser parser) throws IOException;
+
 	}
 
 }
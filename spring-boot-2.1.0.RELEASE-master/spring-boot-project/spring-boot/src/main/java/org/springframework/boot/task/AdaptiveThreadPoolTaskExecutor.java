@@ -0,0 +1,258 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.task;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ThreadPoolTaskExecutor} that adapts its core pool size to the observed load.
+ * The time that each task spends waiting in the queue is recorded and, at most once per
+ * {@link #setAdjustmentInterval(Duration) adjustment interval}, as tasks are submitted or
+ * started, the core pool size is:
+ * <ul>
+ * <li>increased by one thread when the average wait time exceeds the
+ * {@link #setTargetWaitTime(Duration) target wait time}, unless the previous increase
+ * did not improve throughput, and never beyond the {@link #setMaxPoolSize(int) maximum
+ * pool size}. When no task has started during the interval, for example because every
+ * thread is blocked, the wait time of the oldest queued task is used instead</li>
+ * <li>decreased by one thread, down to the configured core pool size, when tasks wait
+ * for less than half the target wait time</li>
+ * </ul>
+ * As with a regular {@link ThreadPoolTaskExecutor}, threads are only added beyond the
+ * core pool size when the queue is full.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class AdaptiveThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+	private static final Duration DEFAULT_TARGET_WAIT_TIME = Duration.ofMillis(10);
+
+	private static final Duration DEFAULT_ADJUSTMENT_INTERVAL = Duration.ofSeconds(1);
+
+	private final LongAdder queueWaitCount = new LongAdder();
+
+	private final LongAdder queueWaitNanos = new LongAdder();
+
+	private final LongAdder rejectedCount = new LongAdder();
+
+	private final Object adjustmentMonitor = new Object();
+
+	private Duration targetWaitTime = DEFAULT_TARGET_WAIT_TIME;
+
+	private Duration adjustmentInterval = DEFAULT_ADJUSTMENT_INTERVAL;
+
+	private TaskDecorator taskDecorator;
+
+	private int initialCorePoolSize;
+
+	private volatile long nextAdjustmentTime;
+
+	private long lastAdjustmentTime;
+
+	private long lastQueueWaitCount;
+
+	private long lastQueueWaitNanos;
+
+	private double lastIncreaseThroughput = -1;
+
+	/**
+	 * Set the average time that tasks may wait in the queue before the core pool size is
+	 * increased. Defaults to 10 milliseconds.
+	 * @param targetWaitTime the target wait time
+	 */
+	public void setTargetWaitTime(Duration targetWaitTime) {
+		Assert.notNull(targetWaitTime, "TargetWaitTime must not be null");
+		this.targetWaitTime = targetWaitTime;
+	}
+
+	/**
+	 * Set the minimum amount of time between two adjustments of the core pool size.
+	 * Defaults to 1 second.
+	 * @param adjustmentInterval the adjustment interval
+	 */
+	public void setAdjustmentInterval(Duration adjustmentInterval) {
+		Assert.notNull(adjustmentInterval, "AdjustmentInterval must not be null");
+		this.adjustmentInterval = adjustmentInterval;
+	}
+
+	@Override
+	public void setTaskDecorator(TaskDecorator taskDecorator) {
+		this.taskDecorator = taskDecorator;
+	}
+
+	@Override
+	protected ExecutorService initializeExecutor(ThreadFactory threadFactory,
+			RejectedExecutionHandler rejectedExecutionHandler) {
+		this.initialCorePoolSize = getCorePoolSize();
+		this.lastAdjustmentTime = System.nanoTime();
+		this.nextAdjustmentTime = this.lastAdjustmentTime
+				+ this.adjustmentInterval.toNanos();
+		super.setTaskDecorator(this::decorate);
+		return super.initializeExecutor(threadFactory,
+				new CountingRejectedExecutionHandler(rejectedExecutionHandler));
+	}
+
+	private Runnable decorate(Runnable task) {
+		Runnable decorated = (this.taskDecorator != null)
+				? this.taskDecorator.decorate(task) : task;
+		long submitTime = System.nanoTime();
+		adjustCorePoolSizeIfNecessary(submitTime);
+		return new QueuedTask(decorated, submitTime);
+	}
+
+	private void taskStarted(long waitNanos) {
+		this.queueWaitCount.increment();
+		this.queueWaitNanos.add(waitNanos);
+		adjustCorePoolSizeIfNecessary(System.nanoTime());
+	}
+
+	private void adjustCorePoolSizeIfNecessary(long now) {
+		if (now - this.nextAdjustmentTime >= 0) {
+			synchronized (this.adjustmentMonitor) {
+				if (now - this.nextAdjustmentTime >= 0) {
+					this.nextAdjustmentTime = now + this.adjustmentInterval.toNanos();
+					adjustCorePoolSize(now);
+				}
+			}
+		}
+	}
+
+	private void adjustCorePoolSize(long now) {
+		long count = this.queueWaitCount.sum();
+		long nanos = this.queueWaitNanos.sum();
+		long intervalCount = count - this.lastQueueWaitCount;
+		long intervalNanos = nanos - this.lastQueueWaitNanos;
+		double throughput = (double) intervalCount / (now - this.lastAdjustmentTime);
+		this.lastQueueWaitCount = count;
+		this.lastQueueWaitNanos = nanos;
+		this.lastAdjustmentTime = now;
+		long targetWaitNanos = this.targetWaitTime.toNanos();
+		int corePoolSize = getCorePoolSize();
+		if (intervalCount == 0) {
+			// Nothing started, grow if the queue is stalled
+			if (getOldestQueuedWaitNanos(now) > targetWaitNanos
+					&& corePoolSize < getMaxPoolSize()) {
+				setCorePoolSize(corePoolSize + 1);
+			}
+			return;
+		}
+		long averageWaitNanos = intervalNanos / intervalCount;
+		if (averageWaitNanos > targetWaitNanos && corePoolSize < getMaxPoolSize()
+				&& throughput > this.lastIncreaseThroughput) {
+			setCorePoolSize(corePoolSize + 1);
+			this.lastIncreaseThroughput = throughput;
+			return;
+		}
+		// Allow further increases once the previous one has been evaluated
+		this.lastIncreaseThroughput = -1;
+		if (averageWaitNanos < targetWaitNanos / 2
+				&& corePoolSize > this.initialCorePoolSize) {
+			setCorePoolSize(corePoolSize - 1);
+		}
+	}
+
+	private long getOldestQueuedWaitNanos(long now) {
+		Runnable oldest = getThreadPoolExecutor().getQueue().peek();
+		return (oldest instanceof QueuedTask)
+				? now - ((QueuedTask) oldest).submitTime : 0;
+	}
+
+	/**
+	 * Return the number of tasks that are waiting in the queue.
+	 * @return the queue size
+	 */
+	public int getQueueSize() {
+		return getThreadPoolExecutor().getQueue().size();
+	}
+
+	/**
+	 * Return the number of tasks that have been taken from the queue for execution.
+	 * @return the number of started tasks
+	 */
+	public long getQueueWaitCount() {
+		return this.queueWaitCount.sum();
+	}
+
+	/**
+	 * Return the total time that started tasks have spent waiting in the queue.
+	 * @return the total wait time
+	 */
+	public Duration getTotalQueueWaitTime() {
+		return Duration.ofNanos(this.queueWaitNanos.sum());
+	}
+
+	/**
+	 * Return the number of tasks that have been rejected, either because the executor
+	 * was shut down or because both the queue and the pool were full.
+	 * @return the number of rejected tasks
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount.sum();
+	}
+
+	/**
+	 * A submitted task that records how long it waited before it started.
+	 */
+	private final class QueuedTask implements Runnable {
+
+		private final Runnable task;
+
+		private final long submitTime;
+
+		QueuedTask(Runnable task, long submitTime) {
+			this.task = task;
+			this.submitTime = submitTime;
+		}
+
+		@Override
+		public void run() {
+			taskStarted(System.nanoTime() - this.submitTime);
+			this.task.run();
+		}
+
+	}
+
+	/**
+	 * {@link RejectedExecutionHandler} that counts rejected tasks.
+	 */
+	private class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+		private final RejectedExecutionHandler delegate;
+
+		CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+			AdaptiveThreadPoolTaskExecutor.this.rejectedCount.increment();
+			this.delegate.rejectedExecution(task, executor);
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionHandler;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.properties.PropertyMapper;
@@ -58,6 +59,8 @@ public class TaskExecutorBuilder {
 
 	private final TaskDecorator taskDecorator;
 
+	private final RejectedExecutionHandler rejectedExecutionHandler;
+
 	private final Set<TaskExecutorCustomizer> customizers;
 
 	public TaskExecutorBuilder() {
@@ -68,12 +71,14 @@ public class TaskExecutorBuilder {
 		this.keepAlive = null;
 		this.threadNamePrefix = null;
 		this.taskDecorator = null;
+		this.rejectedExecutionHandler = null;
 		this.customizers = null;
 	}
 
 	private TaskExecutorBuilder(Integer queueCapacity, Integer corePoolSize,
 			Integer maxPoolSize, Boolean allowCoreThreadTimeOut, Duration keepAlive,
 			String threadNamePrefix, TaskDecorator taskDecorator,
+			RejectedExecutionHandler rejectedExecutionHandler,
 			Set<TaskExecutorCustomizer> customizers) {
 		this.queueCapacity = queueCapacity;
 		this.corePoolSize = corePoolSize;
@@ -82,6 +87,7 @@ public class TaskExecutorBuilder {
 		this.keepAlive = keepAlive;
 		this.threadNamePrefix = threadNamePrefix;
 		this.taskDecorator = taskDecorator;
+		this.rejectedExecutionHandler = rejectedExecutionHandler;
 		this.customizers = customizers;
 	}
 
@@ -94,7 +100,7 @@ public class TaskExecutorBuilder {
 	public TaskExecutorBuilder queueCapacity(int queueCapacity) {
 		return new TaskExecutorBuilder(queueCapacity, this.corePoolSize, this.maxPoolSize,
 				this.allowCoreThreadTimeOut, this.keepAlive, this.threadNamePrefix,
-				this.taskDecorator, this.customizers);
+				this.taskDecorator, this.rejectedExecutionHandler, this.customizers);
 	}
 
 	/**
@@ -109,7 +115,7 @@ public class TaskExecutorBuilder {
 	public TaskExecutorBuilder corePoolSize(int corePoolSize) {
 		return new TaskExecutorBuilder(this.queueCapacity, corePoolSize, this.maxPoolSize,
 				this.allowCoreThreadTimeOut, this.keepAlive, this.threadNamePrefix,
-				this.taskDecorator, this.customizers);
+				this.taskDecorator, this.rejectedExecutionHandler, this.customizers);
 	}
 
 	/**
@@ -124,7 +130,7 @@ public class TaskExecutorBuilder {
 	public TaskExecutorBuilder maxPoolSize(int maxPoolSize) {
 		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize, maxPoolSize,
 				this.allowCoreThreadTimeOut, this.keepAlive, this.threadNamePrefix,
-				this.taskDecorator, this.customizers);
+				this.taskDecorator, this.rejectedExecutionHandler, this.customizers);
 	}
 
 	/**
@@ -136,7 +142,8 @@ public class TaskExecutorBuilder {
 	public TaskExecutorBuilder allowCoreThreadTimeOut(boolean allowCoreThreadTimeOut) {
 		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize,
 				this.maxPoolSize, allowCoreThreadTimeOut, this.keepAlive,
-				this.threadNamePrefix, this.taskDecorator, this.customizers);
+				this.threadNamePrefix, this.taskDecorator, this.rejectedExecutionHandler,
+				this.customizers);
 	}
 
 	/**
@@ -147,7 +154,8 @@ public class TaskExecutorBuilder {
 	public TaskExecutorBuilder keepAlive(Duration keepAlive) {
 		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize,
 				this.maxPoolSize, this.allowCoreThreadTimeOut, keepAlive,
-				this.threadNamePrefix, this.taskDecorator, this.customizers);
+				this.threadNamePrefix, this.taskDecorator, this.rejectedExecutionHandler,
+				this.customizers);
 	}
 
 	/**
@@ -158,7 +166,8 @@ public class TaskExecutorBuilder {
 	public TaskExecutorBuilder threadNamePrefix(String threadNamePrefix) {
 		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize,
 				this.maxPoolSize, this.allowCoreThreadTimeOut, this.keepAlive,
-				threadNamePrefix, this.taskDecorator, this.customizers);
+				threadNamePrefix, this.taskDecorator, this.rejectedExecutionHandler,
+				this.customizers);
 	}
 
 	/**
@@ -169,7 +178,25 @@ public class TaskExecutorBuilder {
 	public TaskExecutorBuilder taskDecorator(TaskDecorator taskDecorator) {
 		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize,
 				this.maxPoolSize, this.allowCoreThreadTimeOut, this.keepAlive,
-				this.threadNamePrefix, taskDecorator, this.customizers);
+				this.threadNamePrefix, taskDecorator, this.rejectedExecutionHandler,
+				this.customizers);
+	}
+
+	/**
+	 * Set the {@link RejectedExecutionHandler} to use when both the queue and the pool
+	 * are full or {@code null} to abort by throwing an exception. For example, a
+	 * {@link java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy CallerRunsPolicy}
+	 * combined with a bounded {@link #queueCapacity(int) queue capacity} slows down
+	 * callers instead of rejecting their tasks.
+	 * @param rejectedExecutionHandler the rejected execution handler to use
+	 * @return a new builder instance
+	 */
+	public TaskExecutorBuilder rejectedExecutionHandler(
+			RejectedExecutionHandler rejectedExecutionHandler) {
+		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize,
+				this.maxPoolSize, this.allowCoreThreadTimeOut, this.keepAlive,
+				this.threadNamePrefix, this.taskDecorator, rejectedExecutionHandler,
+				this.customizers);
 	}
 
 	/**
@@ -199,7 +226,8 @@ public class TaskExecutorBuilder {
 		Assert.notNull(customizers, "Customizers must not be null");
 		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize,
 				this.maxPoolSize, this.allowCoreThreadTimeOut, this.keepAlive,
-				this.threadNamePrefix, this.taskDecorator, append(null, customizers));
+				this.threadNamePrefix, this.taskDecorator, this.rejectedExecutionHandler,
+				append(null, customizers));
 	}
 
 	/**
@@ -229,7 +257,7 @@ public class TaskExecutorBuilder {
 		Assert.notNull(customizers, "Customizers must not be null");
 		return new TaskExecutorBuilder(this.queueCapacity, this.corePoolSize,
 				this.maxPoolSize, this.allowCoreThreadTimeOut, this.keepAlive,
-				this.threadNamePrefix, this.taskDecorator,
+				this.threadNamePrefix, this.taskDecorator, this.rejectedExecutionHandler,
 				append(this.customizers, customizers));
 	}
 
@@ -276,6 +304,8 @@ public class TaskExecutorBuilder {
 		map.from(this.threadNamePrefix).whenHasText()
 				.to(taskExecutor::setThreadNamePrefix);
 		map.from(this.taskDecorator).to(taskExecutor::setTaskDecorator);
+		map.from(this.rejectedExecutionHandler)
+				.to(taskExecutor::setRejectedExecutionHandler);
 		if (!CollectionUtils.isEmpty(this.customizers)) {
 			this.customizers.forEach((customizer) -> customizer.customize(taskExecutor));
 		}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.task;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link SimpleAsyncTaskExecutor} that executes each task on a new virtual thread.
+ * Virtual threads are cheap to create and to block, which suits tasks that spend most of
+ * their time waiting on I/O. They require a JVM that supports them, see
+ * {@link #isSupported()}. As there is no pool, the number of tasks that run at the same
+ * time can be bounded using a {@link #setConcurrencyLimit(int) concurrency limit}.
+ *
+ * @author agent
+ * @since 2.1.0
+ */
+public class VirtualThreadTaskExecutor extends SimpleAsyncTaskExecutor {
+
+	private static final String THREAD_BUILDER_CLASS_NAME = "java.lang.Thread$Builder";
+
+	private final AtomicInteger activeCount = new AtomicInteger();
+
+	private final LongAdder completedTaskCount = new LongAdder();
+
+	/**
+	 * Create a new instance that uses the given prefix for the names of its threads.
+	 * @param threadNamePrefix the prefix to use for the names of newly created threads
+	 * @throws IllegalStateException if virtual threads are not supported
+	 */
+	public VirtualThreadTaskExecutor(String threadNamePrefix) {
+		super(createThreadFactory(threadNamePrefix));
+	}
+
+	private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+		Assert.state(isSupported(), "Virtual threads are not supported by this JVM");
+		try {
+			Class<?> builderClass = ClassUtils.forName(THREAD_BUILDER_CLASS_NAME, null);
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderClass.getMethod("name", String.class, long.class)
+					.invoke(builder, threadNamePrefix, 0L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Failed to create virtual thread factory",
+					ex);
+		}
+	}
+
+	@Override
+	protected void doExecute(Runnable task) {
+		super.doExecute(() -> {
+			this.activeCount.incrementAndGet();
+			try {
+				task.run();
+			}
+			finally {
+				this.completedTaskCount.increment();
+				this.activeCount.decrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * Return the number of tasks that are currently being executed.
+	 * @return the number of active tasks
+	 */
+	public int getActiveCount() {
+		return this.activeCount.get();
+	}
+
+	/**
+	 * Return the number of tasks that have completed, either normally or with an
+	 * exception.
+	 * @return the number of completed tasks
+	 */
+	public long getCompletedTaskCount() {
+		return this.completedTaskCount.sum();
+	}
+
+	/**
+	 * Return whether virtual threads are supported by the current JVM.
+	 * @return {@code true} if virtual threads are supported
+	 */
+	public static boolean isSupported() {
+		return ClassUtils.hasMethod(Thread.class, "ofVirtual");
+	}
+
+}
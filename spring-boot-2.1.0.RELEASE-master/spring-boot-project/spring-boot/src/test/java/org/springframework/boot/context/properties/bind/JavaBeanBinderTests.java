@@ -33,6 +33,7 @@ import org.springframework.boot.context.properties.source.ConfigurationPropertyN
 import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
 import org.springframework.boot.context.properties.source.MockConfigurationPropertySource;
 import org.springframework.boot.convert.Delimiter;
+import org.springframework.core.ResolvableType;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -492,6 +493,24 @@ public class JavaBeanBinderTests {
 		assertThat(bean.getCounter()).isEqualTo(42);
 	}
 
+	@Test
+	public void bindToSameClassWithDifferentGenericsShouldBind() {
+		MockConfigurationPropertySource source = new MockConfigurationPropertySource();
+		source.put("foo.value", "42");
+		source.put("bar.value", "42");
+		this.sources.add(source);
+		ExampleWithGenericValue<?> foo = this.binder.bind("foo",
+				Bindable.<ExampleWithGenericValue<?>>of(ResolvableType.forClassWithGenerics(
+						ExampleWithGenericValue.class, Integer.class)))
+				.get();
+		ExampleWithGenericValue<?> bar = this.binder.bind("bar",
+				Bindable.<ExampleWithGenericValue<?>>of(ResolvableType.forClassWithGenerics(
+						ExampleWithGenericValue.class, String.class)))
+				.get();
+		assertThat(foo.getValue()).isEqualTo(42);
+		assertThat(bar.getValue()).isEqualTo("42");
+	}
+
 	public static class ExampleValueBean {
 
 		private int intValue;
@@ -912,4 +931,18 @@ public class JavaBeanBinderTests {
 
 	}
 
+	public static class ExampleWithGenericValue<T> {
+
+		private T value;
+
+		public T getValue() {
+			return this.value;
+		}
+
+		public void setValue(T value) {
+			this.value = value;
+		}
+
+	}
+
 }
@@ -169,6 +169,46 @@ public class SpringIterableConfigurationPropertySourceTests {
 		assertThat(adapter.stream().count()).isEqualTo(3);
 	}
 
+	@Test
+	public void propertySourceKeyDataChangeUpdatesDescendants() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("foo.bar", "value1");
+		EnumerablePropertySource<?> source = new MapPropertySource("test", map);
+		SpringIterableConfigurationPropertySource adapter = new SpringIterableConfigurationPropertySource(
+				source, DefaultPropertyMapper.INSTANCE);
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.of("baz")))
+				.isEqualTo(ConfigurationPropertyState.ABSENT);
+		map.put("baz.qux", "value2");
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.of("baz")))
+				.isEqualTo(ConfigurationPropertyState.PRESENT);
+		assertThat(adapter.getConfigurationProperty(
+				ConfigurationPropertyName.of("baz.qux")).getValue()).isEqualTo("value2");
+		map.remove("foo.bar");
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.of("foo")))
+				.isEqualTo(ConfigurationPropertyState.ABSENT);
+	}
+
+	@Test
+	public void getValueShouldMatchIndexedAndRelaxedElements() {
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("foo.my-bar[0]", "value1");
+		source.put("foo.baz[a.b]", "value2");
+		EnumerablePropertySource<?> propertySource = new MapPropertySource("test",
+				source);
+		SpringIterableConfigurationPropertySource adapter = new SpringIterableConfigurationPropertySource(
+				propertySource, DefaultPropertyMapper.INSTANCE);
+		assertThat(adapter.getConfigurationProperty(
+				ConfigurationPropertyName.of("foo.mybar[0]")).getValue())
+						.isEqualTo("value1");
+		assertThat(adapter.getConfigurationProperty(
+				ConfigurationPropertyName.of("foo.baz[a.b]")).getValue())
+						.isEqualTo("value2");
+		assertThat(adapter.getConfigurationProperty(
+				ConfigurationPropertyName.of("foo.baz.a.b"))).isNull();
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.of("foo.baz")))
+				.isEqualTo(ConfigurationPropertyState.PRESENT);
+	}
+
 	/**
 	 * Test {@link PropertySource} that's also an {@link OriginLookup}.
 	 */
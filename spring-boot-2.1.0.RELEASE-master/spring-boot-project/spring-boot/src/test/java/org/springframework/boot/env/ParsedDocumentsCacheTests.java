@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.boot.origin.OriginTrackedValue;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for {@link ParsedDocumentsCache}.
+ *
+ * @author agent
+ */
+public class ParsedDocumentsCacheTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Before
+	@After
+	public void reset() {
+		ParsedDocumentsCache.clear();
+		System.clearProperty(ParsedDocumentsCache.DIRECTORY_PROPERTY);
+	}
+
+	@Test
+	public void unchangedContentIsNotParsedAgain() throws Exception {
+		Resource first = new ByteArrayResource("foo: bar\nspam: 1".getBytes(), "first");
+		Resource second = new ByteArrayResource("foo: bar\nspam: 1".getBytes(),
+				"second");
+		List<Map<String, Object>> loaded = load(first);
+		List<Map<String, Object>> cached = load(second);
+		assertThat(this.loads).hasValue(1);
+		assertThat(cached).isEqualTo(loaded);
+		OriginTrackedValue value = (OriginTrackedValue) cached.get(0).get("spam");
+		assertThat(value.getValue()).isEqualTo(1);
+		TextResourceOrigin origin = (TextResourceOrigin) value.getOrigin();
+		assertThat(origin.getResource()).isSameAs(second);
+		assertThat(origin.getLocation().getLine()).isEqualTo(1);
+		assertThat(origin.getLocation().getColumn()).isEqualTo(6);
+	}
+
+	@Test
+	public void changedContentIsParsed() throws Exception {
+		load(new ByteArrayResource("foo: bar".getBytes()));
+		List<Map<String, Object>> loaded = load(
+				new ByteArrayResource("foo: baz".getBytes()));
+		assertThat(this.loads).hasValue(2);
+		assertThat(loaded.get(0).get("foo").toString()).isEqualTo("baz");
+	}
+
+	@Test
+	public void entriesAreWrittenToDirectory() throws Exception {
+		File directory = this.temp.newFolder();
+		System.setProperty(ParsedDocumentsCache.DIRECTORY_PROPERTY,
+				directory.getAbsolutePath());
+		List<Map<String, Object>> loaded = load(
+				new ByteArrayResource("foo: bar".getBytes()));
+		assertThat(directory.listFiles()).hasSize(1);
+		ParsedDocumentsCache.clear();
+		assertThat(load(new ByteArrayResource("foo: bar".getBytes())))
+				.isEqualTo(loaded);
+		assertThat(this.loads).hasValue(1);
+	}
+
+	@Test
+	public void fileChangeWithSameModificationTimeAndSizeIsDetected() throws Exception {
+		File file = this.temp.newFile("test.yml");
+		Files.write(file.toPath(), "foo: bar".getBytes(StandardCharsets.UTF_8));
+		long lastModified = file.lastModified();
+		load(new FileSystemResource(file));
+		Files.write(file.toPath(), "foo: baz".getBytes(StandardCharsets.UTF_8));
+		file.setLastModified(lastModified);
+		assertThat(load(new FileSystemResource(file)).get(0).get("foo").toString())
+				.isEqualTo("baz");
+		assertThat(this.loads).hasValue(2);
+	}
+
+	@Test
+	public void entriesAreOnlyReadableByOwner() throws Exception {
+		assumeTrue(FileSystems.getDefault().supportedFileAttributeViews()
+				.contains("posix"));
+		File directory = new File(this.temp.getRoot(), "cache");
+		System.setProperty(ParsedDocumentsCache.DIRECTORY_PROPERTY,
+				directory.getAbsolutePath());
+		load(new ByteArrayResource("password: secret".getBytes()));
+		assertThat(PosixFilePermissions
+				.toString(Files.getPosixFilePermissions(directory.toPath())))
+						.isEqualTo("rwx------");
+		File[] files = directory.listFiles();
+		assertThat(files).hasSize(1);
+		assertThat(PosixFilePermissions
+				.toString(Files.getPosixFilePermissions(files[0].toPath())))
+						.isEqualTo("rw-------");
+	}
+
+	@Test
+	public void resourceThatCanOnlyBeReadOnceIsNotCached() throws Exception {
+		load(new InputStreamResource(new ByteArrayResource("foo: bar".getBytes())
+				.getInputStream()));
+		load(new InputStreamResource(new ByteArrayResource("foo: bar".getBytes())
+				.getInputStream()));
+		assertThat(this.loads).hasValue(2);
+	}
+
+	@Test
+	public void unsupportedValuesAreNotCached() throws Exception {
+		Resource resource = new ByteArrayResource("foo: bar".getBytes());
+		ParsedDocumentsCache.DocumentsLoader loader = () -> {
+			this.loads.incrementAndGet();
+			return Collections.singletonList(
+					Collections.singletonMap("foo", new Object()));
+		};
+		ParsedDocumentsCache.get("test", resource, loader);
+		ParsedDocumentsCache.get("test", resource, loader);
+		assertThat(this.loads).hasValue(2);
+	}
+
+	private List<Map<String, Object>> load(Resource resource) throws Exception {
+		return ParsedDocumentsCache.get("yaml", resource, () -> {
+			this.loads.incrementAndGet();
+			return new OriginTrackedYamlLoader(resource).load();
+		});
+	}
+
+}
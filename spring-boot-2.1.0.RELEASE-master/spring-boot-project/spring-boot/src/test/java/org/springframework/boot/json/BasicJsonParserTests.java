@@ -16,6 +16,15 @@
 
 package org.springframework.boot.json;
 
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
 /**
  * Tests for {@link BasicJsonParser}.
  *
@@ -28,4 +37,55 @@ public class BasicJsonParserTests extends AbstractJsonParserTests {
 		return new BasicJsonParser();
 	}
 
+	@Test
+	public void mapFromReader() {
+		Map<String, Object> map = new BasicJsonParser()
+				.parseMap(new StringReader("{\"foo\":\"bar\",\"spam\":[1,2]}"));
+		assertThat(map).containsOnlyKeys("foo", "spam");
+		assertThat(map.get("foo")).isEqualTo("bar");
+		assertThat((List<?>) map.get("spam")).containsExactly(1L, 2L);
+	}
+
+	@Test
+	public void listFromReader() {
+		List<Object> list = new BasicJsonParser()
+				.parseList(new StringReader(" [\"foo\", {\"spam\": 1.5}] "));
+		assertThat(list).hasSize(2);
+		assertThat(list.get(0)).isEqualTo("foo");
+	}
+
+	@Test
+	public void mapFromReaderWithListThrowsJsonParseException() {
+		assertThatExceptionOfType(JsonParseException.class).isThrownBy(
+				() -> new BasicJsonParser().parseMap(new StringReader("[]")));
+	}
+
+	@Test
+	public void literals() {
+		Map<String, Object> map = new BasicJsonParser()
+				.parseMap("{\"a\":true,\"b\":false,\"c\":null,\"d\":-12,\"e\":1e3}");
+		assertThat(map).containsEntry("a", true).containsEntry("b", false)
+				.containsEntry("c", null).containsEntry("d", -12L)
+				.containsEntry("e", 1000.0d);
+	}
+
+	@Test
+	public void escapes() {
+		Map<String, Object> map = new BasicJsonParser()
+				.parseMap("{\"foo\":\"a\\nb\\u0041\\\\\"}");
+		assertThat(map.get("foo")).isEqualTo("a\nbA\\");
+	}
+
+	@Test
+	public void unterminatedMapThrowsJsonParseException() {
+		assertThatExceptionOfType(JsonParseException.class)
+				.isThrownBy(() -> new BasicJsonParser().parseMap("{\"foo\":\"bar\""));
+	}
+
+	@Test
+	public void trailingContentThrowsJsonParseException() {
+		assertThatExceptionOfType(JsonParseException.class)
+				.isThrownBy(() -> new BasicJsonParser().parseMap("{}{}"));
+	}
+
 }
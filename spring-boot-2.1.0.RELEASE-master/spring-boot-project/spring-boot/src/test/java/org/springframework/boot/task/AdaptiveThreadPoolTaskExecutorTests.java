@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.task;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link AdaptiveThreadPoolTaskExecutor}.
+ *
+ * @author agent
+ */
+public class AdaptiveThreadPoolTaskExecutorTests {
+
+	private final AdaptiveThreadPoolTaskExecutor executor = new AdaptiveThreadPoolTaskExecutor();
+
+	@After
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+
+	@Test
+	public void taskDecoratorIsApplied() throws Exception {
+		AtomicInteger decorated = new AtomicInteger();
+		this.executor.setTaskDecorator((task) -> () -> {
+			decorated.incrementAndGet();
+			task.run();
+		});
+		this.executor.initialize();
+		this.executor.submit(() -> {
+		}).get();
+		assertThat(decorated).hasValue(1);
+		assertThat(this.executor.getQueueWaitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void queueWaitAndRejectionsAreRecorded() throws Exception {
+		this.executor.setCorePoolSize(1);
+		this.executor.setMaxPoolSize(1);
+		this.executor.setQueueCapacity(1);
+		this.executor.initialize();
+		CountDownLatch latch = new CountDownLatch(1);
+		this.executor.execute(() -> await(latch));
+		this.executor.execute(() -> {
+		});
+		assertThat(this.executor.getQueueSize()).isEqualTo(1);
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> this.executor.execute(() -> {
+				}));
+		assertThat(this.executor.getRejectedCount()).isEqualTo(1);
+		Thread.sleep(50);
+		latch.countDown();
+		this.executor.submit(() -> {
+		}).get();
+		assertThat(this.executor.getQueueWaitCount()).isEqualTo(3);
+		assertThat(this.executor.getTotalQueueWaitTime())
+				.isGreaterThanOrEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	public void corePoolSizeIsIncreasedWhenTasksWait() throws Exception {
+		this.executor.setCorePoolSize(1);
+		this.executor.setMaxPoolSize(4);
+		this.executor.setTargetWaitTime(Duration.ofMillis(1));
+		this.executor.setAdjustmentInterval(Duration.ZERO);
+		this.executor.initialize();
+		CountDownLatch latch = new CountDownLatch(20);
+		for (int i = 0; i < 20; i++) {
+			this.executor.execute(() -> {
+				sleep(10);
+				latch.countDown();
+			});
+		}
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.executor.getCorePoolSize()).isGreaterThan(1);
+		assertThat(this.executor.getCorePoolSize()).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	public void corePoolSizeIsIncreasedOnSubmitWhenAllThreadsAreBlocked()
+			throws Exception {
+		this.executor.setCorePoolSize(1);
+		this.executor.setMaxPoolSize(4);
+		this.executor.setTargetWaitTime(Duration.ofMillis(20));
+		this.executor.setAdjustmentInterval(Duration.ZERO);
+		this.executor.initialize();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		try {
+			this.executor.execute(() -> await(blocked));
+			this.executor.execute(started::countDown);
+			Thread.sleep(100);
+			assertThat(started.getCount()).isEqualTo(1);
+			this.executor.execute(() -> {
+			});
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(this.executor.getCorePoolSize()).isGreaterThan(1);
+		}
+		finally {
+			blocked.countDown();
+		}
+	}
+
+	@Test
+	public void corePoolSizeIsDecreasedWhenTasksNoLongerWait() throws Exception {
+		this.executor.setCorePoolSize(1);
+		this.executor.setMaxPoolSize(4);
+		this.executor.setAdjustmentInterval(Duration.ZERO);
+		this.executor.initialize();
+		this.executor.setCorePoolSize(3);
+		for (int i = 0; i < 5; i++) {
+			this.executor.submit(() -> {
+			}).get();
+			sleep(1);
+		}
+		assertThat(this.executor.getCorePoolSize()).isEqualTo(1);
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
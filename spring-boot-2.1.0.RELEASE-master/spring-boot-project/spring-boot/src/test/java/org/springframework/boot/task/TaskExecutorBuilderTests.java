@@ -19,6 +19,8 @@ package org.springframework.boot.task;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.Test;
 
@@ -71,6 +73,15 @@ public class TaskExecutorBuilderTests {
 				.isSameAs(taskDecorator);
 	}
 
+	@Test
+	public void rejectedExecutionHandlerShouldApply() {
+		RejectedExecutionHandler handler = new ThreadPoolExecutor.CallerRunsPolicy();
+		ThreadPoolTaskExecutor executor = this.builder.rejectedExecutionHandler(handler)
+				.build();
+		assertThat(ReflectionTestUtils.getField(executor, "rejectedExecutionHandler"))
+				.isSameAs(handler);
+	}
+
 	@Test
 	public void customizersWhenCustomizersAreNullShouldThrowException() {
 		assertThatIllegalArgumentException()
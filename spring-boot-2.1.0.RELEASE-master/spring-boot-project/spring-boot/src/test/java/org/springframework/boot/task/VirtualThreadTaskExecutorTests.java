@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for {@link VirtualThreadTaskExecutor}.
+ *
+ * @author agent
+ */
+public class VirtualThreadTaskExecutorTests {
+
+	@Test
+	public void createWhenVirtualThreadsAreNotSupportedShouldThrowException() {
+		assumeFalse(VirtualThreadTaskExecutor.isSupported());
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new VirtualThreadTaskExecutor("task-"))
+				.withMessageContaining("Virtual threads are not supported");
+	}
+
+	@Test
+	public void tasksRunOnNamedThreads() throws Exception {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+		VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("task-");
+		AtomicReference<Thread> thread = new AtomicReference<>();
+		executor.submit(() -> thread.set(Thread.currentThread())).get();
+		assertThat(thread.get().getName()).startsWith("task-");
+		assertThat(thread.get().isDaemon()).isTrue();
+	}
+
+	@Test
+	public void activeAndCompletedTasksAreCounted() throws Exception {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+		VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("task-");
+		CountDownLatch latch = new CountDownLatch(1);
+		Future<?> blocked = executor.submit(() -> {
+			latch.await();
+			return null;
+		});
+		waitFor(() -> executor.getActiveCount() == 1);
+		assertThat(executor.getCompletedTaskCount()).isEqualTo(0);
+		latch.countDown();
+		blocked.get();
+		waitFor(() -> executor.getActiveCount() == 0);
+		assertThat(executor.getCompletedTaskCount()).isEqualTo(1);
+	}
+
+	private void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean() && System.nanoTime() < end) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+}